@@ -6,9 +6,11 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageFormat;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
@@ -21,12 +23,15 @@ import seedu.address.model.ReadOnlyTeachersPet;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.TeachersPet;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.analytics.RevenueEventStore;
 import seedu.address.model.util.SampleDataUtil;
-import seedu.address.storage.ClassStorage;
+import seedu.address.storage.BinaryTeachersPetStorage;
+import seedu.address.storage.JournalTeachersPetStorage;
 import seedu.address.storage.JsonTeachersPetStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.TeachersPetFileConverter;
 import seedu.address.storage.TeachersPetStorage;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.ui.Ui;
@@ -48,7 +53,6 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
-    protected ClassStorage classStorage;
 
     @Override
     public void init() throws Exception {
@@ -60,28 +64,49 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        TeachersPetStorage teachersPetStorage = new JsonTeachersPetStorage(userPrefs.getTeachersPetFilePath());
-        storage = new StorageManager(teachersPetStorage, userPrefsStorage);
+        TeachersPetStorage teachersPetStorage = initTeachersPetStorage(userPrefs);
+        storage = new StorageManager(teachersPetStorage, userPrefsStorage, true);
 
         initLogging(config);
         isInInvalidFormat = false;
 
-        Model initializedModel = initModelManager(storage, userPrefs);
-        try {
-            classStorage = new ClassStorage(initializedModel);
-            model = initializedModel;
-        } catch (DataConversionException e) {
-            logger.warning(ClassStorage.MESSAGE_INITIALIZE_CLASS_STORAGE_FAILURE
-                    + " Will be starting with an empty TeachersPet");
-            model = new ModelManager(new TeachersPet(), userPrefs);
-            classStorage = new ClassStorage(model);
-            isInInvalidFormat = true;
-        }
+        model = userPrefs.isFastStart()
+                ? new ModelManager(new TeachersPet(), userPrefs)
+                : initModelManager(storage, userPrefs);
+        readRevenueEvents(storage).ifPresent(model::addLoadedRevenueEvents);
         logic = new LogicManager(model, storage);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code TeachersPetStorage} for the storage format chosen in {@code userPrefs}.
+     * A binary data file is converted to json first if a json based format is chosen.
+     */
+    private TeachersPetStorage initTeachersPetStorage(ReadOnlyUserPrefs userPrefs) {
+        Path teachersPetFilePath = userPrefs.getTeachersPetFilePath();
+        if (userPrefs.getStorageFormat() != StorageFormat.BINARY) {
+            try {
+                if (BinaryTeachersPetStorage.isBinaryFile(teachersPetFilePath)) {
+                    logger.info("Converting binary data file " + teachersPetFilePath + " to json");
+                    TeachersPetFileConverter.binaryToJson(teachersPetFilePath, teachersPetFilePath);
+                }
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Failed to convert binary data file : " + StringUtil.getDetails(e));
+            }
+        }
+        switch (userPrefs.getStorageFormat()) {
+        case JOURNAL:
+            return new JournalTeachersPetStorage(teachersPetFilePath);
+        case COMPACT_JSON:
+            return new JsonTeachersPetStorage(teachersPetFilePath, true);
+        case BINARY:
+            return new BinaryTeachersPetStorage(teachersPetFilePath);
+        default:
+            return new JsonTeachersPetStorage(teachersPetFilePath);
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -90,6 +115,13 @@ public class MainApp extends Application {
      * but the teachersPet json file will still contain the invalid data to allow user to correct them.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        return new ModelManager(readInitialData(storage), userPrefs);
+    }
+
+    /**
+     * Returns the data to start with, as described in {@link #initModelManager(Storage, ReadOnlyUserPrefs)}.
+     */
+    private ReadOnlyTeachersPet readInitialData(Storage storage) {
         Optional<ReadOnlyTeachersPet> teachersPetOptional;
         ReadOnlyTeachersPet initialData;
         try {
@@ -99,7 +131,8 @@ public class MainApp extends Application {
             }
             initialData = teachersPetOptional.orElseGet(SampleDataUtil::getSampleTeachersPet);
         } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty TeachersPet");
+            logger.warning("Data file not in the correct format. Will be starting with an empty TeachersPet: "
+                    + e.getMessage());
             initialData = new TeachersPet();
             isInInvalidFormat = true;
         } catch (IOException e) {
@@ -107,7 +140,21 @@ public class MainApp extends Application {
             initialData = new TeachersPet();
             isInInvalidFormat = true;
         }
-        return new ModelManager(initialData, userPrefs);
+        return initialData;
+    }
+
+    /**
+     * Returns the revenue events in {@code storage}'s revenue file, or {@code Optional.empty()} if the file is not
+     * found or cannot be read, in which case the revenue is recorded from scratch.
+     */
+    private Optional<RevenueEventStore> readRevenueEvents(Storage storage) {
+        try {
+            return storage.readRevenueEvents();
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Revenue file could not be read. Will be starting without past revenue: "
+                    + StringUtil.getDetails(e));
+            return Optional.empty();
+        }
     }
 
     private void initLogging(Config config) {
@@ -191,12 +238,39 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting TeachersPet " + MainApp.VERSION);
         ui.start(primaryStage);
+        if (model.getUserPrefs().isFastStart()) {
+            loadInBackground();
+            return;
+        }
         // Display error message in command box if JSON file is invalid
         if (isInInvalidFormat) {
             ui.displayInvalidJsonFileMessage();
         }
     }
 
+    /**
+     * Loads the data file into the model while the main window shows the progress.
+     */
+    private void loadInBackground() {
+        ui.showLoadingProgress(0, 0);
+        TeachersPetLoader loader = new TeachersPetLoader(model, Platform::runLater,
+                new TeachersPetLoader.LoadingListener() {
+                    @Override
+                    public void onProgress(int loadedCount, int totalCount) {
+                        ui.showLoadingProgress(loadedCount, totalCount);
+                    }
+
+                    @Override
+                    public void onLoaded() {
+                        if (isInInvalidFormat) {
+                            ui.displayInvalidJsonFileMessage();
+                        }
+                        ui.showLoadingComplete();
+                    }
+                });
+        loader.loadInBackground(() -> readInitialData(storage));
+    }
+
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
@@ -207,5 +281,10 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
     }
 }
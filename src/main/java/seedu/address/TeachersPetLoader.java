@@ -0,0 +1,88 @@
+package seedu.address;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyTeachersPet;
+import seedu.address.model.student.Student;
+
+/**
+ * Loads the TeachersPet data into a model after the main window has been shown.
+ * The data is read on a background thread. Its students are then added to the model in chunks of
+ * {@code CHUNK_SIZE}, each chunk in a separate task given to the ui executor, so that the window is redrawn and
+ * stays responsive between chunks.
+ */
+public class TeachersPetLoader {
+
+    static final int CHUNK_SIZE = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(TeachersPetLoader.class);
+
+    private final Model model;
+    private final Executor uiExecutor;
+    private final LoadingListener listener;
+
+    /**
+     * Receives the progress of loading, on the ui executor.
+     */
+    public interface LoadingListener {
+        /** Called after each chunk of students has been added to the model. */
+        void onProgress(int loadedCount, int totalCount);
+
+        /** Called once all the students have been added to the model. */
+        void onLoaded();
+    }
+
+    /**
+     * Creates a {@code TeachersPetLoader} that adds students to {@code model} on {@code uiExecutor}.
+     */
+    public TeachersPetLoader(Model model, Executor uiExecutor, LoadingListener listener) {
+        requireAllNonNull(model, uiExecutor, listener);
+        this.model = model;
+        this.uiExecutor = uiExecutor;
+        this.listener = listener;
+    }
+
+    /**
+     * Reads the data with {@code reader} on a new background thread, then adds its students to the model.
+     */
+    public void loadInBackground(Supplier<ReadOnlyTeachersPet> reader) {
+        Thread loaderThread = new Thread(() -> load(reader), "TeachersPet loader");
+        loaderThread.setDaemon(true);
+        loaderThread.start();
+    }
+
+    /**
+     * Reads the data with {@code reader} on the current thread, then adds its students to the model.
+     */
+    void load(Supplier<ReadOnlyTeachersPet> reader) {
+        List<Student> students;
+        try {
+            students = List.copyOf(reader.get().getStudentList());
+        } catch (RuntimeException e) {
+            logger.severe("Failed to load data " + StringUtil.getDetails(e));
+            students = List.of();
+        }
+        logger.info("Read " + students.size() + " students, adding them to the model");
+        List<Student> loadedStudents = students;
+        uiExecutor.execute(() -> addChunk(loadedStudents, 0));
+    }
+
+    private void addChunk(List<Student> students, int from) {
+        int to = Math.min(from + CHUNK_SIZE, students.size());
+        model.addLoadedStudents(students.subList(from, to));
+        listener.onProgress(to, students.size());
+        if (to < students.size()) {
+            uiExecutor.execute(() -> addChunk(students, to));
+        } else {
+            listener.onLoaded();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package seedu.address.commons.core;
+
+/**
+ * The ways TeachersPet data can be kept on the hard disk.
+ */
+public enum StorageFormat {
+    /** The whole data file is rewritten on every save. */
+    JSON,
+    /** Like {@code JSON}, but the file is written without line breaks and indentation. */
+    COMPACT_JSON,
+    /** Changes are appended to a journal next to the data file, which is rewritten only from time to time. */
+    JOURNAL,
+    /** The whole data file is rewritten on every save, in a compact binary format instead of json. */
+    BINARY
+}
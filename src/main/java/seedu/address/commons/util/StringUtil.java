@@ -58,6 +58,61 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the number of single character insertions, deletions and substitutions needed to turn {@code first}
+     * into {@code second}, if it is at most {@code maxDistance}, or {@code maxDistance + 1} otherwise.
+     * Only the cells of the edit table within {@code maxDistance} of its diagonal are computed, and the computation
+     * stops as soon as a whole row exceeds {@code maxDistance}.
+     *   <br>examples:<pre>
+     *       getEditDistance("alice", "alise", 2) == 1
+     *       getEditDistance("alice", "bob", 2) == 3
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     * @param maxDistance cannot be negative
+     */
+    public static int getEditDistance(String first, String second, int maxDistance) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
+
+        int tooFar = maxDistance + 1;
+        if (Math.abs(first.length() - second.length()) > maxDistance) {
+            return tooFar;
+        }
+        int[] previousRow = new int[second.length() + 1];
+        int[] row = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = Math.min(j, tooFar);
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            int start = Math.max(1, i - maxDistance);
+            int end = Math.min(second.length(), i + maxDistance);
+            row[0] = Math.min(i, tooFar);
+            if (start > 1) {
+                row[start - 1] = tooFar;
+            }
+            int rowMin = row[start - 1];
+            for (int j = start; j <= end; j++) {
+                int substitution = previousRow[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                int deletion = previousRow[j] + 1;
+                int insertion = row[j - 1] + 1;
+                row[j] = Math.min(tooFar, Math.min(substitution, Math.min(deletion, insertion)));
+                rowMin = Math.min(rowMin, row[j]);
+            }
+            if (end < second.length()) {
+                row[end + 1] = tooFar;
+            }
+            if (rowMin > maxDistance) {
+                return tooFar;
+            }
+            int[] swap = previousRow;
+            previousRow = row;
+            row = swap;
+        }
+        return previousRow[second.length()];
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -2,6 +2,7 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -11,6 +12,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyTeachersPet;
 import seedu.address.model.StatisticsCalculator;
+import seedu.address.model.analytics.RevenueAnalytics;
 import seedu.address.model.student.Student;
 
 /**
@@ -55,8 +57,19 @@ public interface Logic {
      */
     StatisticsCalculator getStatisticsCalculator();
 
+    /**
+     * Returns the revenue analytics of the classes attended and payments made.
+     */
+    RevenueAnalytics getRevenueAnalytics();
+
     /**
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Sets the handler to be given the error message when data saved in the background could not be written.
+     * The handler may be called from a thread other than the JavaFX application thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
 }
@@ -2,6 +2,7 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -9,6 +10,7 @@ import seedu.address.MainApp;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -17,8 +19,9 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyTeachersPet;
 import seedu.address.model.StatisticsCalculator;
+import seedu.address.model.analytics.RevenueAnalytics;
+import seedu.address.model.analytics.RevenueEventStore;
 import seedu.address.model.student.Student;
-import seedu.address.storage.ClassStorage;
 import seedu.address.storage.Storage;
 
 /**
@@ -26,12 +29,14 @@ import seedu.address.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String REVENUE_FILE_OPS_ERROR_MESSAGE = "Could not save revenue to file: ";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final TeachersPetParser teachersPetParser;
     private final StatisticsCalculator statisticsCalculator;
+    private int savedRevenueEventCount;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -41,6 +46,7 @@ public class LogicManager implements Logic {
         this.storage = storage;
         teachersPetParser = new TeachersPetParser();
         statisticsCalculator = new StatisticsCalculator(model.getTeachersPet());
+        savedRevenueEventCount = model.getRevenueAnalytics().getEventStore().size();
     }
 
     @Override
@@ -50,21 +56,25 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = teachersPetParser.parseCommand(commandText);
-        model.updateTeachersPetHistory();
         try {
             commandResult = command.execute(model);
         } catch (CommandException | DataConversionException e) {
             logger.info("Invalid command: " + commandText);
-            model.deleteTeachersPetHistory();
+            model.discardTeachersPetChanges();
             throw e;
         }
+        model.commitTeachersPet();
 
-        ClassStorage.refresh(model);
-
+        if (MainApp.isInInvalidFormat()) {
+            return commandResult;
+        }
+        saveRevenueEvents();
+        if (!model.hasUnsavedChanges()) {
+            return commandResult;
+        }
         try {
-            if (!MainApp.isInInvalidFormat()) {
-                storage.saveTeachersPet(model.getTeachersPet());
-            }
+            long version = model.getTeachersPetVersion();
+            storage.saveTeachersPet(model.getTeachersPet(), () -> model.markTeachersPetSaved(version));
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
@@ -72,6 +82,24 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    /**
+     * Saves the revenue events if any have been recorded since they were last saved.
+     * The command has already been committed, so a failure to save them is reported without failing the command,
+     * and they are saved again after the next command.
+     */
+    private void saveRevenueEvents() {
+        RevenueEventStore events = model.getRevenueAnalytics().getEventStore();
+        if (events.size() == savedRevenueEventCount) {
+            return;
+        }
+        try {
+            storage.saveRevenueEvents(events);
+            savedRevenueEventCount = events.size();
+        } catch (IOException ioe) {
+            logger.warning(REVENUE_FILE_OPS_ERROR_MESSAGE + StringUtil.getDetails(ioe));
+        }
+    }
+
     @Override
     public ReadOnlyTeachersPet getTeachersPet() {
         return model.getTeachersPet();
@@ -102,8 +130,19 @@ public class LogicManager implements Logic {
         model.setGuiSettings(guiSettings);
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        storage.setSaveFailureHandler(ioe -> saveFailureHandler.accept(FILE_OPS_ERROR_MESSAGE + ioe));
+        storage.setRevenueSaveFailureHandler(ioe -> saveFailureHandler.accept(REVENUE_FILE_OPS_ERROR_MESSAGE + ioe));
+    }
+
     @Override
     public StatisticsCalculator getStatisticsCalculator() {
         return statisticsCalculator;
     }
+
+    @Override
+    public RevenueAnalytics getRevenueAnalytics() {
+        return model.getRevenueAnalytics();
+    }
 }
@@ -2,11 +2,9 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyTeachersPet;
 import seedu.address.model.TeachersPet;
-import seedu.address.storage.ClassStorage;
 
 /**
  * Clears the address book.
@@ -18,11 +16,10 @@ public class ClearCommand extends Command {
 
 
     @Override
-    public CommandResult execute(Model model) throws DataConversionException {
+    public CommandResult execute(Model model) {
         requireNonNull(model);
         ReadOnlyTeachersPet teachersPet = new TeachersPet();
         model.setTeachersPet(teachersPet);
-        ClassStorage classStorage = new ClassStorage(model);
         return new CommandResult(MESSAGE_SUCCESS);
     }
 }
@@ -0,0 +1,133 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.analytics.DebtRanking;
+import seedu.address.model.student.Money;
+import seedu.address.model.student.Student;
+
+/**
+ * Shows the students who owe the most money, the rank of a student by the money owed, or the students owing more
+ * than an amount, without changing the order of the student list.
+ */
+public class DebtorsCommand extends Command {
+
+    public static final String COMMAND_WORD = "debtors";
+
+    public static final String RANK_KEYWORD = "rank";
+
+    public static final String OVER_KEYWORD = "over";
+
+    public static final int DEFAULT_COUNT = 5;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the students who owe the most money, the rank of the student at the index number shown in "
+            + "the student list by the money owed, or the students owing more than an amount. "
+            + "The order of the student list is not changed.\n"
+            + "Parameters: [COUNT] or " + RANK_KEYWORD + " INDEX or " + OVER_KEYWORD + " AMOUNT\n"
+            + "Example: " + COMMAND_WORD + " 3\n"
+            + "Example: " + COMMAND_WORD + " " + RANK_KEYWORD + " 2\n"
+            + "Example: " + COMMAND_WORD + " " + OVER_KEYWORD + " 100";
+
+    public static final String MESSAGE_TOP_DEBTORS = "Top %1$d student(s) owing money:";
+
+    public static final String MESSAGE_NO_DEBTORS = "No student owes money";
+
+    public static final String MESSAGE_OWING_MORE_THAN = "%1$d student(s) owe more than $%2$d:";
+
+    public static final String MESSAGE_NONE_OWING_MORE_THAN = "No student owes more than $%1$d";
+
+    public static final String MESSAGE_RANK = "%1$s is ranked %2$d of %3$d student(s) by money owed, owing $%4$d";
+
+    public static final String MESSAGE_DEBTOR = "%1$d. %2$s: $%3$d";
+
+    private final int count;
+    private final Index targetIndex;
+    private final Money amount;
+
+    private DebtorsCommand(int count, Index targetIndex, Money amount) {
+        this.count = count;
+        this.targetIndex = targetIndex;
+        this.amount = amount;
+    }
+
+    /**
+     * Returns a DebtorsCommand that shows the {@code count} students owing the most money.
+     */
+    public static DebtorsCommand top(int count) {
+        assert count > 0;
+        return new DebtorsCommand(count, null, null);
+    }
+
+    /**
+     * Returns a DebtorsCommand that shows the rank of the student at {@code targetIndex} of the student list.
+     */
+    public static DebtorsCommand rankOf(Index targetIndex) {
+        requireNonNull(targetIndex);
+        return new DebtorsCommand(0, targetIndex, null);
+    }
+
+    /**
+     * Returns a DebtorsCommand that shows the students owing more than {@code amount}.
+     */
+    public static DebtorsCommand owingMoreThan(Money amount) {
+        requireNonNull(amount);
+        return new DebtorsCommand(0, null, amount);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        DebtRanking debtRanking = model.getDebtRanking();
+
+        if (targetIndex != null) {
+            List<Student> lastShownList = model.getFilteredStudentList();
+            if (targetIndex.getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
+            }
+            Student student = lastShownList.get(targetIndex.getZeroBased());
+            int rank = debtRanking.getRank(student).orElseThrow();
+            return new CommandResult(String.format(MESSAGE_RANK, student.getName(), rank, debtRanking.size(),
+                    student.getMoneyOwed().value));
+        }
+
+        if (amount != null) {
+            List<Student> debtors = debtRanking.getStudentsOwingMoreThan(amount);
+            return new CommandResult(debtors.isEmpty()
+                    ? String.format(MESSAGE_NONE_OWING_MORE_THAN, amount.value)
+                    : formatDebtors(String.format(MESSAGE_OWING_MORE_THAN, debtors.size(), amount.value), debtors));
+        }
+
+        List<Student> debtors = debtRanking.getTopDebtors(count);
+        return new CommandResult(debtors.isEmpty()
+                ? MESSAGE_NO_DEBTORS
+                : formatDebtors(String.format(MESSAGE_TOP_DEBTORS, debtors.size()), debtors));
+    }
+
+    private static String formatDebtors(String header, List<Student> debtors) {
+        StringJoiner joiner = new StringJoiner("\n");
+        joiner.add(header);
+        for (int i = 0; i < debtors.size(); i++) {
+            Student debtor = debtors.get(i);
+            joiner.add(String.format(MESSAGE_DEBTOR, i + 1, debtor.getName(), debtor.getMoneyOwed().value));
+        }
+        return joiner.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DebtorsCommand // instanceof handles nulls
+                && count == ((DebtorsCommand) other).count
+                && Objects.equals(targetIndex, ((DebtorsCommand) other).targetIndex)
+                && Objects.equals(amount, ((DebtorsCommand) other).amount)); // state check
+    }
+}
@@ -10,7 +10,6 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.student.Student;
-import seedu.address.storage.ClassStorage;
 
 /**
  * Deletes a student identified using its displayed index from the student list.
@@ -55,7 +54,6 @@ public class DeleteCommand extends Command {
             }
             Student studentToDelete = lastShownList.get(targetIndex.getZeroBased());
             model.deleteStudent(studentToDelete);
-            ClassStorage.removeExistingClass(studentToDelete);
         }
         return new CommandResult(String.format(MESSAGE_DELETE_STUDENT_SUCCESS));
     }
@@ -35,7 +35,6 @@ import seedu.address.model.student.Name;
 import seedu.address.model.student.Phone;
 import seedu.address.model.student.Student;
 import seedu.address.model.tag.Tag;
-import seedu.address.storage.ClassStorage;
 
 /**
  * Edits the details of an existing student in the address book.
@@ -110,11 +109,14 @@ public class EditCommand extends Command {
 
             editedStudent.resetMarkStatus();
 
-            ClassStorage.saveClass(editedStudent, index.getOneBased());
-            ClassStorage.removeExistingClass(studentToEdit);
+            Optional<Student> conflictingStudent = model.getConflictingStudent(editedStudent, studentToEdit);
+            if (conflictingStudent.isPresent()) {
+                throw new CommandException(String.format("%s\n" + "%s currently has a class on %s.",
+                        MESSAGE_CLASS_CONFLICT, conflictingStudent.get().getName(),
+                        conflictingStudent.get().getAClass()));
+            }
         } else if (!studentToEdit.hasEmptyClass()) {
             editedStudent.setClass(studentToEdit.getAClass());
-            ClassStorage.updateStudent(studentToEdit, editedStudent);
         }
 
         model.setStudent(studentToEdit, editedStudent);
@@ -149,7 +151,7 @@ public class EditCommand extends Command {
                 .orElse(studentToEdit.getAdditionalNotes());
         Optional<AdditionalNotes> appendedAdditionalNotes = editStudentDescriptor.getAppendedAdditionalNotes();
         if (!appendedAdditionalNotes.isEmpty()) {
-            updatedNotes.appendNotes(appendedAdditionalNotes.get());
+            updatedNotes = updatedNotes.append(appendedAdditionalNotes.get());
         }
         Set<Tag> updatedTags = editStudentDescriptor.getTags().orElse(studentToEdit.getTags());
 
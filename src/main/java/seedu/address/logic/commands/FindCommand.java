@@ -2,11 +2,13 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
 import java.util.function.Predicate;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.predicate.AllOfPredicate;
 
 /**
  * Finds and lists all students in student list whose details contain any of the argument keywords/number in a prefix.
@@ -17,37 +19,66 @@ public class FindCommand extends Command {
     public static final String COMMAND_WORD = "find";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Finds all students with keywords in a specific prefix. "
-            + "Prefixes supported by this search include: n/, p/, np/, e/, a/, dt/, t/. "
+            + ": Finds all students matching every one of the prefixes given. "
+            + "Prefixes supported by this search include: n/, p/, np/, e/, a/, dt/, t/, owed/, paid/, rate/. "
             + "The matched students are displayed in a list on the left hand panel with index numbers.\n"
             + "The search keywords which are after the prefixes (NAME in the case of n/NAME) are case-insensitive.\n"
-            + "Acceptable parameters: [n/NAME] [p/PHONE] [np/NOK_PHONE] [e/EMAIL] [a/ADDRESS] [dt/DATE] [t/TAG].\n"
-            + "Exactly one type of prefix should be used in a single find command. "
-            + "However, find by multiple tags is allowed.\n"
+            + "Acceptable parameters: [n/NAME] [p/PHONE] [np/NOK_PHONE] [e/EMAIL] [a/ADDRESS] [dt/DATE] [t/TAG]... "
+            + "[owed/[COMPARISON]AMOUNT] [paid/[COMPARISON]AMOUNT] [rate/[COMPARISON]AMOUNT].\n"
+            + "Each prefix other than t/ can be used at most once. Tags separated by | match students with any of "
+            + "them, and a tag starting with ! matches students without it. A name keyword ending with ~ also "
+            + "matches names with a typing mistake or two in that word, and lists the closest names first. "
+            + "COMPARISON is one of >, >=, <, <= and =. "
+            + "Adding v/ also shows how the students were searched for.\n"
             + "Example: " + COMMAND_WORD + " n/alice bob charlie\n"
-            + "Example: " + COMMAND_WORD + " t/python t/beginner";
+            + "Example: " + COMMAND_WORD + " n/alise~\n"
+            + "Example: " + COMMAND_WORD + " t/python|java t/!beginner\n"
+            + "Example: " + COMMAND_WORD + " n/alice t/python owed/>100 dt/Mon\n"
+            + "Example: " + COMMAND_WORD + " n/alice t/python v/";
 
-    public static final String ONLY_ONE_PREFIX_MESSAGE = "You can only search with 1 prefix for "
-            + "n/, p/, np/, e/, a/, dt/, or multiple prefixes for t/.\n" + "Examples: find n/Ben, find t/Java t/Python";
+    public static final String MESSAGE_REPEATED_PREFIX = "You can only search with 1 of each of the prefixes "
+            + "n/, p/, np/, e/, a/, dt/, owed/, paid/ and rate/, but multiple prefixes for t/.\n"
+            + "Examples: find n/Ben dt/Mon, find t/Java t/Python";
+
+    public static final String MESSAGE_QUERY_PLAN = "Search plan: %1$s";
 
     private final Predicate<Student> predicate;
+    private final boolean isVerbose;
 
     public FindCommand(Predicate<Student> predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a {@code FindCommand} to find the students satisfying {@code predicate}, which also shows the plan
+     * used to find them if {@code isVerbose} is true.
+     */
+    public FindCommand(Predicate<Student> predicate, boolean isVerbose) {
         this.predicate = predicate;
+        this.isVerbose = isVerbose;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.updateFilteredStudentList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW, model.getFilteredStudentList().size()));
+        String message =
+                String.format(Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW, model.getFilteredStudentList().size());
+        if (isVerbose) {
+            // a single predicate is planned in the same way as every predicate of an AllOfPredicate
+            AllOfPredicate plannedPredicate = predicate instanceof AllOfPredicate
+                    ? (AllOfPredicate) predicate
+                    : new AllOfPredicate(List.of(predicate));
+            message += "\n" + String.format(MESSAGE_QUERY_PLAN, plannedPredicate.plan(model.getSearchIndex()));
+        }
+        return new CommandResult(message);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && predicate.equals(((FindCommand) other).predicate)); // state check
+                && predicate.equals(((FindCommand) other).predicate)
+                && isVerbose == ((FindCommand) other).isVerbose); // state check
     }
 }
@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Set;
 
@@ -69,6 +70,8 @@ public class MarkCommand extends Command {
         }
 
         model.setStudent(studentToMark, markedStudent);
+        LocalDate classDate = studentToMark.getAClass().isEmpty() ? LocalDate.now() : studentToMark.getAClass().date;
+        model.recordAttendance(classDate, studentToMark.getRatesPerClass());
 
         model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
         model.updateFilteredScheduleList(PREDICATE_SHOW_ALL_STUDENTS);
@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Set;
 
@@ -66,6 +67,7 @@ public class PayCommand extends Command {
         Student paidStudent = createPaidStudent(studentPaying, amountPaid);
 
         model.setStudent(studentPaying, paidStudent);
+        model.recordPayment(LocalDate.now(), amountPaid);
 
         model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
         model.updateFilteredScheduleList(PREDICATE_SHOW_ALL_STUDENTS);
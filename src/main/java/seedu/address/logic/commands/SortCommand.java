@@ -2,13 +2,13 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Comparator;
-
 import seedu.address.model.Model;
-import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentSortOrder;
+import seedu.address.model.student.StudentSortOrder.Order;
+import seedu.address.model.student.StudentSortOrder.Type;
 
 /**
- * Lists all students in the address book to the user.
+ * Sorts the students shown to the user, without changing the order of the students in the address book.
  */
 public class SortCommand extends Command {
 
@@ -26,65 +26,16 @@ public class SortCommand extends Command {
             + "followed by 'asc' or 'desc' order.\n"
             + "Example: sort owed asc";
 
-    /**
-     * {@code TYPE} specifies what possible types {@code SortCommand} can accept.
-     */
-    public static enum Type {
-        NAME,
-        CLASS,
-        OWED
-    };
-
-    /**
-     * {@code ORDER} specifies what possible order {@code SortCommand} can accept.
-     */
-    public static enum Order {
-        ASC,
-        DESC
-    };
-
-    private final Comparator<Student> comparator;
+    private final StudentSortOrder sortOrder;
 
     public SortCommand(Type type, Order order) {
-        this.comparator = generateComparator(type, order);
-    }
-
-    /**
-     * Generates a Comparator for Student based on parameters.
-     *
-     * @param type type of attribute to be compared
-     * @param order order of sorting
-     */
-    public static Comparator<Student> generateComparator(Type type, Order order) {
-        switch (type) {
-        case NAME:
-            if (order.equals(Order.ASC)) {
-                return Student::compareToByNameAsc;
-            } else {
-                return Student::compareToByNameDesc;
-            }
-        case CLASS:
-            if (order.equals(Order.ASC)) {
-                return Student::compareToByClassAsc;
-            } else {
-                return Student::compareToByClassDesc;
-            }
-        case OWED:
-            if (order.equals(Order.ASC)) {
-                return Student::compareToByMoneyOwedAsc;
-            } else {
-                return Student::compareToByMoneyOwedDesc;
-            }
-        default:
-            // default sorting is to sort by Name Asc
-            return Student::compareToByNameAsc;
-        }
+        this.sortOrder = new StudentSortOrder(type, order);
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.sortStudents(this.comparator);
+        model.setStudentSortOrder(sortOrder);
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
@@ -92,6 +43,6 @@ public class SortCommand extends Command {
     public boolean equals(Object other) {
         return this == other // short circuit if same object
                 || (other instanceof SortCommand // instanceof handles null
-                && this.comparator.equals(((SortCommand) other).comparator)); // state check
+                && sortOrder.equals(((SortCommand) other).sortOrder)); // state check
     }
 }
@@ -0,0 +1,151 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+
+import seedu.address.model.Model;
+import seedu.address.model.analytics.GroupSummary;
+import seedu.address.model.analytics.RevenueAnalytics;
+import seedu.address.model.analytics.RevenueSummary;
+import seedu.address.model.analytics.StudentGroupStatistics;
+
+/**
+ * Shows the fees charged, the money collected and the classes attended, either for today, this week, this month
+ * and overall, or for a given range of dates, or the students and the money owed in each tag or class slot.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the money collected, the fees charged and the classes attended today, this week, "
+            + "this month and overall, or on a date or range of dates if given, "
+            + "or the students and the money owed in each tag (t/) or class slot (dt/).\n"
+            + "Parameters: [DATE or START..END] or [t/] [dt/]\n"
+            + "Example: " + COMMAND_WORD + " 2022-10-01..2022-10-31\n"
+            + "Example: " + COMMAND_WORD + " t/";
+
+    public static final String MESSAGE_SUMMARY = "%1$s: %2$s";
+
+    public static final String MESSAGE_COLLECTION_RATE = " (%1$.0f%% collected)";
+
+    public static final String MESSAGE_BY_TAG = "Students by tag:";
+
+    public static final String MESSAGE_NO_TAGS = "No student has a tag";
+
+    public static final String MESSAGE_BY_SLOT = "Students by class slot:";
+
+    public static final String MESSAGE_NO_SLOTS = "No student has a class";
+
+    /**
+     * The groups of students that {@code StatsCommand} can show the statistics of.
+     */
+    public enum Grouping {
+        TAG,
+        CLASS_SLOT
+    }
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final Set<Grouping> groupings;
+
+    /**
+     * Constructs a new StatsCommand that shows the revenue today, this week, this month and overall.
+     */
+    public StatsCommand() {
+        this.startDate = null;
+        this.endDate = null;
+        this.groupings = EnumSet.noneOf(Grouping.class);
+    }
+
+    /**
+     * Constructs a new StatsCommand that shows the revenue from {@code startDate} to {@code endDate}, both inclusive.
+     */
+    public StatsCommand(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        assert !startDate.isAfter(endDate);
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.groupings = EnumSet.noneOf(Grouping.class);
+    }
+
+    /**
+     * Constructs a new StatsCommand that shows the statistics of the students in each group of {@code groupings},
+     * which cannot be empty.
+     */
+    public StatsCommand(Set<Grouping> groupings) {
+        requireNonNull(groupings);
+        assert !groupings.isEmpty();
+        this.startDate = null;
+        this.endDate = null;
+        this.groupings = EnumSet.copyOf(groupings);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        if (!groupings.isEmpty()) {
+            return new CommandResult(formatGroups(model.getGroupStatistics()));
+        }
+
+        RevenueAnalytics revenueAnalytics = model.getRevenueAnalytics();
+        if (startDate != null) {
+            String period = startDate.equals(endDate) ? startDate.toString() : startDate + " to " + endDate;
+            return new CommandResult(formatSummary(period, revenueAnalytics.getSummary(startDate, endDate)));
+        }
+
+        LocalDate today = LocalDate.now();
+        return new CommandResult(String.join("\n",
+                formatSummary("Today", revenueAnalytics.getDaySummary(today)),
+                formatSummary("This week", revenueAnalytics.getWeekSummary(today)),
+                formatSummary("This month", revenueAnalytics.getMonthSummary(today)),
+                formatSummary("All time", revenueAnalytics.getTotalSummary())));
+    }
+
+    private String formatGroups(StudentGroupStatistics groupStatistics) {
+        StringJoiner joiner = new StringJoiner("\n");
+        if (groupings.contains(Grouping.TAG)) {
+            formatGroups(joiner, MESSAGE_BY_TAG, MESSAGE_NO_TAGS, groupStatistics.getTagSummaries());
+        }
+        if (groupings.contains(Grouping.CLASS_SLOT)) {
+            formatGroups(joiner, MESSAGE_BY_SLOT, MESSAGE_NO_SLOTS, groupStatistics.getSlotSummaries());
+        }
+        return joiner.toString();
+    }
+
+    private static void formatGroups(StringJoiner joiner, String header, String emptyMessage,
+            Map<?, GroupSummary> summaries) {
+        if (summaries.isEmpty()) {
+            joiner.add(emptyMessage);
+            return;
+        }
+        joiner.add(header);
+        summaries.forEach((group, summary) -> joiner.add(String.format(MESSAGE_SUMMARY, group, summary)));
+    }
+
+    /**
+     * Formats {@code summary} of {@code period} along with its collection rate, if any fees were charged.
+     */
+    static String formatSummary(String period, RevenueSummary summary) {
+        String collectionRate = summary.getCollectionRate().isPresent()
+                ? String.format(MESSAGE_COLLECTION_RATE, summary.getCollectionRate().getAsDouble() * 100)
+                : "";
+        return String.format(MESSAGE_SUMMARY, period, summary) + collectionRate;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StatsCommand // instanceof handles nulls
+                && Objects.equals(startDate, ((StatsCommand) other).startDate)
+                && Objects.equals(endDate, ((StatsCommand) other).endDate)
+                && groupings.equals(((StatsCommand) other).groupings)); // state check
+    }
+}
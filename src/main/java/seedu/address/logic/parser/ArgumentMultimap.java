@@ -61,20 +61,17 @@ public class ArgumentMultimap {
     }
 
     /**
-     * Validates whether only a single type of prefix is stored in Argument MultiMap.
-     * Checks if multiple keywords are searched for non-tag prefixes.
+     * Checks if any prefix other than the tag prefix is stored more than once in Argument MultiMap.
      *
-     * @return true if there are 2 or more prefixes and keywords stored.
+     * @return true if a non-tag prefix has 2 or more keywords stored.
      */
-    public boolean containsMultiplePrefix() {
-        Integer sizeOffset = argMultimap.size() - 1;
-
+    public boolean containsRepeatedPrefix() {
         for (Prefix prefix: argMultimap.keySet()) {
             List<String> keyWords = argMultimap.get(prefix);
             if (keyWords.size() > 1 && prefix != PREFIX_TAG) {
                 return true;
             }
         }
-        return sizeOffset > 1;
+        return false;
     }
 }
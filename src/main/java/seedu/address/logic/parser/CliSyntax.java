@@ -18,5 +18,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_ADDITIONAL_NOTES_APPEND = new Prefix("nt-a/");
     public static final Prefix PREFIX_CLASS_DATE_TIME = new Prefix("dt/");
     public static final Prefix PREFIX_TAG = new Prefix("t/");
+    public static final Prefix PREFIX_VERBOSE = new Prefix("v/");
 
 }
@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.DebtorsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new DebtorsCommand object
+ */
+public class DebtorsCommandParser implements Parser<DebtorsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the DebtorsCommand
+     * and returns a DebtorsCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    public DebtorsCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return DebtorsCommand.top(DebtorsCommand.DEFAULT_COUNT);
+        }
+
+        String[] words = trimmedArgs.split("\\s+");
+        try {
+            if (words.length == 1 && StringUtil.isNonZeroUnsignedInteger(words[0])) {
+                return DebtorsCommand.top(Integer.parseInt(words[0]));
+            } else if (words.length == 2 && words[0].equalsIgnoreCase(DebtorsCommand.RANK_KEYWORD)) {
+                return DebtorsCommand.rankOf(ParserUtil.parseIndex(words[1]));
+            } else if (words.length == 2 && words[0].equalsIgnoreCase(DebtorsCommand.OVER_KEYWORD)) {
+                return DebtorsCommand.owingMoreThan(ParserUtil.parseMoney(words[1]));
+            }
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, DebtorsCommand.MESSAGE_USAGE), pe);
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, DebtorsCommand.MESSAGE_USAGE));
+    }
+}
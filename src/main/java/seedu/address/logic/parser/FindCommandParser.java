@@ -13,16 +13,27 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NOK_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_RATES_PER_CLASS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_VERBOSE;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Predicate;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.student.Class;
+import seedu.address.model.student.Student;
 import seedu.address.model.student.predicate.AddressContainsKeywordsPredicate;
+import seedu.address.model.student.predicate.AllOfPredicate;
 import seedu.address.model.student.predicate.ClassContainsDatePredicate;
 import seedu.address.model.student.predicate.EmailContainsKeywordsPredicate;
+import seedu.address.model.student.predicate.MoneyComparisonPredicate;
+import seedu.address.model.student.predicate.MoneyComparisonPredicate.Comparison;
+import seedu.address.model.student.predicate.MoneyComparisonPredicate.Field;
 import seedu.address.model.student.predicate.NameContainsKeywordsPredicate;
+import seedu.address.model.student.predicate.NameSimilarToKeywordsPredicate;
 import seedu.address.model.student.predicate.NokPhoneContainsNumberPredicate;
 import seedu.address.model.student.predicate.PhoneContainsNumberPredicate;
 import seedu.address.model.student.predicate.TagContainsKeywordsPredicate;
@@ -42,46 +53,127 @@ public class FindCommandParser implements Parser<FindCommand> {
         requireNonNull(args);
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_NOK_PHONE,
                 PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_CLASS_DATE_TIME, PREFIX_MONEY_OWED, PREFIX_MONEY_PAID,
-                PREFIX_RATES_PER_CLASS, PREFIX_ADDITIONAL_NOTES, PREFIX_TAG);
+                PREFIX_RATES_PER_CLASS, PREFIX_ADDITIONAL_NOTES, PREFIX_TAG, PREFIX_VERBOSE);
 
-        if (argMultimap.containsMultiplePrefix()) {
-            throw new ParseException(FindCommand.ONLY_ONE_PREFIX_MESSAGE);
+        if (argMultimap.containsRepeatedPrefix()) {
+            throw new ParseException(FindCommand.MESSAGE_REPEATED_PREFIX);
+        }
+        boolean isVerbose = argMultimap.getValue(PREFIX_VERBOSE).isPresent();
+        if (isVerbose && !argMultimap.getValue(PREFIX_VERBOSE).get().isEmpty()) {
+            // v/ is a flag, which is given without a value
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        if (argMultimap.getValue(PREFIX_ADDITIONAL_NOTES).isPresent()) {
+            // additional notes are not supported by the search system
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
+        List<Predicate<Student>> predicates = new ArrayList<>();
         if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
-            String nameToFind = ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get()).fullName.trim();
-            String[] nameKeywords = nameToFind.split("\\s+");
-            return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
-
-        } else if (argMultimap.getValue(PREFIX_PHONE).isPresent()) {
-            String phoneToFind = ParserUtil.parsePhone(argMultimap.getValue(PREFIX_PHONE).get()).toString();
-            return new FindCommand(new PhoneContainsNumberPredicate(phoneToFind));
-
-        } else if (argMultimap.getValue(PREFIX_NOK_PHONE).isPresent()) {
-            String nokPhoneToFind = ParserUtil.parsePhone(argMultimap.getValue(PREFIX_NOK_PHONE).get()).toString();
-            return new FindCommand(new NokPhoneContainsNumberPredicate(nokPhoneToFind));
-
-        } else if (argMultimap.getValue(PREFIX_EMAIL).isPresent()) {
+            predicates.add(parseNameToFind(argMultimap.getValue(PREFIX_NAME).get()));
+        }
+        if (argMultimap.getValue(PREFIX_PHONE).isPresent()) {
+            String phoneToFind = ParserUtil.parsePhoneToFind(argMultimap.getValue(PREFIX_PHONE).get());
+            predicates.add(new PhoneContainsNumberPredicate(phoneToFind));
+        }
+        if (argMultimap.getValue(PREFIX_NOK_PHONE).isPresent()) {
+            String nokPhoneToFind = ParserUtil.parsePhoneToFind(argMultimap.getValue(PREFIX_NOK_PHONE).get());
+            predicates.add(new NokPhoneContainsNumberPredicate(nokPhoneToFind));
+        }
+        if (argMultimap.getValue(PREFIX_EMAIL).isPresent()) {
             String emailToFind = ParserUtil.parseEmail(argMultimap.getValue(PREFIX_EMAIL).get()).value.trim();
             String[] emailKeywords = emailToFind.split("\\s+");
-            return new FindCommand(new EmailContainsKeywordsPredicate(Arrays.asList(emailKeywords)));
-        } else if (argMultimap.getValue(PREFIX_ADDRESS).isPresent()) {
+            predicates.add(new EmailContainsKeywordsPredicate(Arrays.asList(emailKeywords)));
+        }
+        if (argMultimap.getValue(PREFIX_ADDRESS).isPresent()) {
             String addressToFind = ParserUtil.parseAddress(argMultimap.getValue(PREFIX_ADDRESS).get()).value.trim();
             String[] addressKeywords = addressToFind.split("\\s+");
-            return new FindCommand(new AddressContainsKeywordsPredicate(Arrays.asList(addressKeywords)));
-        } else if (argMultimap.getValue(PREFIX_CLASS_DATE_TIME).isPresent()) {
-            String dateToFind =
-                    ParserUtil.parseDateToFind(argMultimap.getValue(PREFIX_CLASS_DATE_TIME).get()).toString();
-            return new FindCommand(new ClassContainsDatePredicate(dateToFind));
-
-        } else if (argMultimap.getValue(PREFIX_TAG).isPresent()) {
+            predicates.add(new AddressContainsKeywordsPredicate(Arrays.asList(addressKeywords)));
+        }
+        if (argMultimap.getValue(PREFIX_CLASS_DATE_TIME).isPresent()) {
+            predicates.add(parseDatesToFind(argMultimap.getValue(PREFIX_CLASS_DATE_TIME).get()));
+        }
+        if (argMultimap.getValue(PREFIX_TAG).isPresent()) {
             List<String> tags = ParserUtil.parseTagsList(argMultimap.getAllValues(PREFIX_TAG));
-            return new FindCommand(new TagContainsKeywordsPredicate(tags));
-        } else {
-            // Other prefixes that are not supported by the search system, or no prefix found.
+            predicates.add(new TagContainsKeywordsPredicate(tags));
+        }
+        if (argMultimap.getValue(PREFIX_MONEY_OWED).isPresent()) {
+            predicates.add(parseMoneyToFind(Field.MONEY_OWED, argMultimap.getValue(PREFIX_MONEY_OWED).get()));
+        }
+        if (argMultimap.getValue(PREFIX_MONEY_PAID).isPresent()) {
+            predicates.add(parseMoneyToFind(Field.MONEY_PAID, argMultimap.getValue(PREFIX_MONEY_PAID).get()));
+        }
+        if (argMultimap.getValue(PREFIX_RATES_PER_CLASS).isPresent()) {
+            predicates.add(parseMoneyToFind(Field.RATES_PER_CLASS,
+                    argMultimap.getValue(PREFIX_RATES_PER_CLASS).get()));
+        }
+
+        if (predicates.isEmpty()) {
+            // no prefix found
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
+        return new FindCommand(predicates.size() == 1 ? predicates.get(0) : new AllOfPredicate(predicates),
+                isVerbose);
+    }
+
+    /**
+     * Parses {@code nameToFind} into a predicate on the words of names.
+     * If any keyword ends with {@code NameSimilarToKeywordsPredicate.TYPO_TOLERANT}, the predicate allows for typing
+     * mistakes in that keyword.
+     *
+     * @throws ParseException If a keyword is not a valid name.
+     */
+    private static Predicate<Student> parseNameToFind(String nameToFind) throws ParseException {
+        String[] nameKeywords = nameToFind.trim().split("\\s+");
+        boolean isTypoTolerant = false;
+        for (String keyword : nameKeywords) {
+            boolean isKeywordTypoTolerant = keyword.endsWith(NameSimilarToKeywordsPredicate.TYPO_TOLERANT);
+            ParserUtil.parseName(isKeywordTypoTolerant
+                    ? keyword.substring(0, keyword.length() - NameSimilarToKeywordsPredicate.TYPO_TOLERANT.length())
+                    : keyword);
+            isTypoTolerant |= isKeywordTypoTolerant;
+        }
+        return isTypoTolerant
+                ? new NameSimilarToKeywordsPredicate(Arrays.asList(nameKeywords))
+                : new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords));
     }
 
+    /**
+     * Parses {@code moneyToFind}, which is an amount optionally preceded by one of the symbols of
+     * {@code MoneyComparisonPredicate.Comparison}, into a {@code MoneyComparisonPredicate} on {@code field}.
+     * An amount without a symbol is matched exactly.
+     *
+     * @throws ParseException If the amount is invalid.
+     */
+    private static MoneyComparisonPredicate parseMoneyToFind(Field field, String moneyToFind) throws ParseException {
+        String trimmedMoney = moneyToFind.trim();
+        Comparison comparison = Comparison.of(trimmedMoney).orElse(Comparison.EQUAL_TO);
+        if (trimmedMoney.startsWith(comparison.getSymbol())) {
+            trimmedMoney = trimmedMoney.substring(comparison.getSymbol().length()).trim();
+        }
+        return new MoneyComparisonPredicate(field, comparison, ParserUtil.parseMoney(trimmedMoney));
+    }
+
+    /**
+     * Parses {@code datesToFind}, which is either a date or two dates separated by
+     * {@code ClassContainsDatePredicate#RANGE_SEPARATOR}, into a {@code ClassContainsDatePredicate}.
+     *
+     * @throws ParseException If any of the dates is invalid, or the range ends before it starts.
+     */
+    private static ClassContainsDatePredicate parseDatesToFind(String datesToFind) throws ParseException {
+        int separatorIndex = datesToFind.indexOf(ClassContainsDatePredicate.RANGE_SEPARATOR);
+        if (separatorIndex < 0) {
+            return new ClassContainsDatePredicate(ParserUtil.parseDateToFind(datesToFind));
+        }
+        LocalDate startDate = ParserUtil.parseDateToFind(datesToFind.substring(0, separatorIndex));
+        LocalDate endDate = ParserUtil.parseDateToFind(
+                datesToFind.substring(separatorIndex + ClassContainsDatePredicate.RANGE_SEPARATOR.length()));
+        if (startDate.isAfter(endDate)) {
+            throw new ParseException(Class.INVALID_FIND_RANGE_MESSAGE);
+        }
+        return new ClassContainsDatePredicate(startDate, endDate);
+    }
 }
@@ -15,15 +15,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.SortCommand;
-import seedu.address.logic.commands.SortCommand.Order;
-import seedu.address.logic.commands.SortCommand.Type;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.student.AdditionalNotes;
 import seedu.address.model.student.Address;
@@ -32,6 +30,9 @@ import seedu.address.model.student.Email;
 import seedu.address.model.student.Money;
 import seedu.address.model.student.Name;
 import seedu.address.model.student.Phone;
+import seedu.address.model.student.StudentSortOrder.Order;
+import seedu.address.model.student.StudentSortOrder.Type;
+import seedu.address.model.student.predicate.TagContainsKeywordsPredicate;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -138,6 +139,21 @@ public class ParserUtil {
         return new Phone(trimmedPhone);
     }
 
+    /**
+     * Parses a {@code String phoneToFind} into the digits of a phone number to find.
+     * Any whitespaces will be removed.
+     *
+     * @throws ParseException if the given {@code phoneToFind} is invalid.
+     */
+    public static String parsePhoneToFind(String phoneToFind) throws ParseException {
+        requireNonNull(phoneToFind);
+        String trimmedPhone = phoneToFind.replaceAll("\\s+", "");
+        if (!Phone.isValidPhoneToFind(trimmedPhone)) {
+            throw new ParseException(Phone.MESSAGE_FIND_CONSTRAINTS);
+        }
+        return trimmedPhone;
+    }
+
     /**
      * Parses a {@code String address} into an {@code Address}.
      * Leading and trailing whitespaces will be trimmed.
@@ -348,10 +364,32 @@ public class ParserUtil {
     }
 
     /**
-     * Parses {@Code Collection<String> tags} into a {@code List<String>}
+     * Parses {@Code Collection<String> tags} into a {@code List<String>} of the keywords of a
+     * {@code TagContainsKeywordsPredicate}, without repeated keywords.
+     * Each keyword is one or more tag names separated by {@code TagContainsKeywordsPredicate#OR}, each of which may
+     * start with {@code TagContainsKeywordsPredicate#NOT}.
+     *
+     * @throws ParseException if any of the tag names is invalid.
      */
     public static List<String> parseTagsList(Collection<String> tags) throws ParseException {
-        return parseTags(tags).stream().map(tag -> tag.tagName).collect(Collectors.toList());
+        requireNonNull(tags);
+        Set<String> keywords = new LinkedHashSet<>();
+        for (String tag : tags) {
+            String keyword = tag.trim();
+            for (String term : TagContainsKeywordsPredicate.getTerms(keyword)) {
+                String tagName = term.startsWith(TagContainsKeywordsPredicate.NOT)
+                        ? term.substring(TagContainsKeywordsPredicate.NOT.length())
+                        : term;
+                if (!Tag.isValidTagName(tagName)) {
+                    throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
+                }
+            }
+            if (keyword.endsWith(TagContainsKeywordsPredicate.OR)) {
+                throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            keywords.add(keyword);
+        }
+        return new ArrayList<>(keywords);
     }
 
     /**
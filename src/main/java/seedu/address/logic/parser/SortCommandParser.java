@@ -7,9 +7,9 @@ import static seedu.address.logic.commands.SortCommand.MESSAGE_UNKNOWN_TYPE_KEYW
 import static seedu.address.logic.commands.SortCommand.MESSAGE_USAGE;
 
 import seedu.address.logic.commands.SortCommand;
-import seedu.address.logic.commands.SortCommand.Order;
-import seedu.address.logic.commands.SortCommand.Type;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.student.StudentSortOrder.Order;
+import seedu.address.model.student.StudentSortOrder.Type;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -0,0 +1,72 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS_DATE_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.StatsCommand.Grouping;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.student.Class;
+import seedu.address.model.student.predicate.ClassContainsDatePredicate;
+
+/**
+ * Parses input arguments and creates a new {@code StatsCommand} object
+ */
+public class StatsCommandParser implements Parser<StatsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code StatsCommand}
+     * and returns a {@code StatsCommand} object for execution.
+     * @throws ParseException if the user input does not conform the expected format -- expected: empty, a date, two
+     *     dates separated by {@code ClassContainsDatePredicate#RANGE_SEPARATOR}, or empty t/ and dt/ prefixes
+     */
+    public StatsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG, PREFIX_CLASS_DATE_TIME);
+        Set<Grouping> groupings = EnumSet.noneOf(Grouping.class);
+        if (argMultimap.getValue(PREFIX_TAG).isPresent()) {
+            groupings.add(Grouping.TAG);
+        }
+        if (argMultimap.getValue(PREFIX_CLASS_DATE_TIME).isPresent()) {
+            groupings.add(Grouping.CLASS_SLOT);
+        }
+        if (!groupings.isEmpty()) {
+            return parseGroupings(argMultimap, groupings);
+        }
+
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new StatsCommand();
+        }
+
+        int separatorIndex = trimmedArgs.indexOf(ClassContainsDatePredicate.RANGE_SEPARATOR);
+        if (separatorIndex < 0) {
+            LocalDate date = ParserUtil.parseDateToFind(trimmedArgs);
+            return new StatsCommand(date, date);
+        }
+        LocalDate startDate = ParserUtil.parseDateToFind(trimmedArgs.substring(0, separatorIndex));
+        LocalDate endDate = ParserUtil.parseDateToFind(
+                trimmedArgs.substring(separatorIndex + ClassContainsDatePredicate.RANGE_SEPARATOR.length()));
+        if (startDate.isAfter(endDate)) {
+            throw new ParseException(Class.INVALID_FIND_RANGE_MESSAGE);
+        }
+        return new StatsCommand(startDate, endDate);
+    }
+
+    /**
+     * Returns a {@code StatsCommand} for {@code groupings}, which must be given by prefixes without values or dates.
+     */
+    private static StatsCommand parseGroupings(ArgumentMultimap argMultimap, Set<Grouping> groupings)
+            throws ParseException {
+        boolean hasValue = argMultimap.getAllValues(PREFIX_TAG).stream().anyMatch(value -> !value.isEmpty())
+                || argMultimap.getAllValues(PREFIX_CLASS_DATE_TIME).stream().anyMatch(value -> !value.isEmpty());
+        if (!argMultimap.getPreamble().isEmpty() || hasValue || argMultimap.containsRepeatedPrefix()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+        }
+        return new StatsCommand(groupings);
+    }
+}
@@ -1,13 +1,22 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
-import java.util.Comparator;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.analytics.DebtRanking;
+import seedu.address.model.analytics.RevenueAnalytics;
+import seedu.address.model.analytics.RevenueEventStore;
+import seedu.address.model.analytics.StudentGroupStatistics;
+import seedu.address.model.student.Money;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentSearchIndex;
+import seedu.address.model.student.StudentSortOrder;
 
 /**
  * The API of the Model component.
@@ -59,6 +68,12 @@ public interface Model {
      */
     boolean hasStudent(Student student);
 
+    /**
+     * Returns the student whose class overlaps with the class of {@code student}, if any.
+     * The class of {@code excludedStudent}, which may be null, is ignored.
+     */
+    Optional<Student> getConflictingStudent(Student student, Student excludedStudent);
+
     /**
      * Deletes the given student.
      * The student must exist in the address book.
@@ -71,6 +86,13 @@ public interface Model {
      */
     void addStudent(Student student);
 
+    /**
+     * Adds {@code students}, which were read from the data file, to the end of the student list.
+     * The change cannot be undone and does not need to be saved.
+     * {@code students} must not already exist in the address book.
+     */
+    void addLoadedStudents(List<Student> students);
+
     /**
      * Replaces the given student {@code target} with {@code editedStudent}.
      * {@code target} must exist in the address book.
@@ -79,11 +101,42 @@ public interface Model {
     void setStudent(Student target, Student editedStudent);
 
     /**
-     * Sorts the current filtered student list with the given {@code comparator}.
-     * @throws NullPointerException if {@code comparator} is null.
+     * Shows the filtered student list in {@code studentSortOrder}, which is kept in the user prefs, without reordering
+     * the students in the address book.
+     * @throws NullPointerException if {@code studentSortOrder} is null.
+     */
+    void setStudentSortOrder(StudentSortOrder studentSortOrder);
+
+    /** Returns the statistics of the students in each tag and class slot. */
+    StudentGroupStatistics getGroupStatistics();
+
+    /** Returns the ranking of the students by the money they owe. */
+    DebtRanking getDebtRanking();
+
+    /** Returns the index that students are looked up in when the student list is filtered. */
+    StudentSearchIndex getSearchIndex();
+
+    /** Returns the revenue analytics of the classes attended and payments made. */
+    RevenueAnalytics getRevenueAnalytics();
+
+    /**
+     * Adds the revenue {@code events} read from storage, which cannot be undone and do not need to be saved.
+     */
+    void addLoadedRevenueEvents(RevenueEventStore events);
+
+    /**
+     * Records that a class on {@code date} was attended, and {@code fee} was charged for it.
+     * The record is undone and redone along with the changes to the students.
      */
-    void sortStudents(Comparator<Student> comparator);
-    /** Returns an unmodifiable view of the filtered student list */
+    void recordAttendance(LocalDate date, Money fee);
+
+    /**
+     * Records that {@code amount} was paid on {@code date}.
+     * The record is undone and redone along with the changes to the students.
+     */
+    void recordPayment(LocalDate date, Money amount);
+
+    /** Returns an unmodifiable view of the filtered student list, in the sort order of the user prefs */
     ObservableList<Student> getFilteredStudentList();
 
     /**
@@ -102,9 +155,15 @@ public interface Model {
     void updateFilteredScheduleList(Predicate<Student> predicate);
 
     /**
-     * Updates previous state of the address book.
+     * Saves the changes made since the last commit as one step that can be undone.
+     * Does nothing if no changes were made.
      */
-    void updateTeachersPetHistory();
+    void commitTeachersPet();
+
+    /**
+     * Reverts the changes made since the last commit.
+     */
+    void discardTeachersPetChanges();
 
     /**
      * Undo last change made to state of teacher's pet.
@@ -112,8 +171,25 @@ public interface Model {
     void undo() throws CommandException;
 
     /**
-     * Deletes the latest addition in the ArrayList of Teachers Pet.
+     * Redo last change undone on teacher's pet.
+     */
+    void redo() throws CommandException;
+
+    /**
+     * Returns true if teacher's pet has been changed by a committed, undone or redone step since it was last saved.
+     */
+    boolean hasUnsavedChanges();
+
+    /**
+     * Returns the version of the current state of teacher's pet, which goes up with every committed, undone or
+     * redone step.
+     */
+    long getTeachersPetVersion();
+
+    /**
+     * Records that the state of teacher's pet at {@code version} has been written to storage.
+     * This may be called from a thread other than the one that changes teacher's pet.
      */
-    void deleteTeachersPetHistory();
+    void markTeachersPetSaved(long version);
 
 }
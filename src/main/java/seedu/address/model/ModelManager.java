@@ -4,29 +4,51 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.util.ArrayList;
+import java.time.LocalDate;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.analytics.DebtRanking;
+import seedu.address.model.analytics.RevenueAnalytics;
+import seedu.address.model.analytics.RevenueEventStore;
+import seedu.address.model.analytics.StudentGroupStatistics;
+import seedu.address.model.student.Money;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentSearchIndex;
+import seedu.address.model.student.StudentSortOrder;
+import seedu.address.model.student.predicate.IndexedPredicate;
+import seedu.address.model.student.predicate.ResolvedPredicate;
 
 /**
  * Represents the in-memory model of the address book data.
  */
 public class ModelManager implements Model {
+    public static final String MESSAGE_NOTHING_TO_UNDO = "Undo cannot be done as there was no previous action";
+    public static final String MESSAGE_NOTHING_TO_REDO = "Redo cannot be done as there was no undone action";
+
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final TeachersPet teachersPet;
     private final UserPrefs userPrefs;
     private final FilteredList<Student> filteredStudents;
+    private final SortedList<Student> sortedStudents;
     private final FilteredList<Student> filteredSchedule;
-    private final ArrayList<ReadOnlyTeachersPet> teachersPetHistory;
+    // orders the filtered students before the sort order of the user prefs, or null if the filter does not rank them
+    private Comparator<Student> filterRanking;
+    private final TeachersPetJournal teachersPetJournal;
+    private final RevenueAnalytics revenueAnalytics = new RevenueAnalytics();
+    private final AtomicLong savedVersion = new AtomicLong();
+    private long version;
 
     /**
      * Initializes a ModelManager with the given teachersPet and userPrefs.
@@ -39,8 +61,11 @@ public class ModelManager implements Model {
         this.teachersPet = new TeachersPet(teachersPet);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredStudents = new FilteredList<>(this.teachersPet.getStudentList());
+        // students added or changed later are put in place by SortedList, without sorting the whole list again
+        sortedStudents = new SortedList<>(filteredStudents,
+                this.userPrefs.getStudentSortOrder().getComparator().orElse(null));
         filteredSchedule = new FilteredList<>(this.teachersPet.getScheduleList());
-        this.teachersPetHistory = new ArrayList<>();
+        this.teachersPetJournal = new TeachersPetJournal();
     }
 
     public ModelManager() {
@@ -53,6 +78,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        updateSortComparator();
     }
 
     @Override
@@ -86,7 +112,9 @@ public class ModelManager implements Model {
 
     @Override
     public void setTeachersPet(ReadOnlyTeachersPet teachersPet) {
+        List<Student> oldStudents = List.copyOf(this.teachersPet.getStudentList());
         this.teachersPet.resetData(teachersPet);
+        teachersPetJournal.recordReplace(oldStudents, this.teachersPet.getStudentList());
     }
 
     @Override
@@ -100,45 +128,129 @@ public class ModelManager implements Model {
         return teachersPet.hasStudent(student);
     }
 
+    @Override
+    public Optional<Student> getConflictingStudent(Student student, Student excludedStudent) {
+        requireNonNull(student);
+        return teachersPet.getConflictingStudent(student, excludedStudent);
+    }
+
     @Override
     public void deleteStudent(Student target) {
-        teachersPet.removeStudent(target);
+        int index = teachersPet.removeStudent(target);
+        teachersPetJournal.recordRemove(index, target);
     }
 
     @Override
     public void addStudent(Student student) {
+        int index = teachersPet.getStudentList().size();
         teachersPet.addStudent(student);
+        teachersPetJournal.recordAdd(index, student);
         updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
         updateFilteredScheduleList(PREDICATE_SHOW_ALL_STUDENTS);
     }
 
+    @Override
+    public void addLoadedStudents(List<Student> students) {
+        requireNonNull(students);
+        teachersPet.addStudents(students);
+    }
+
     @Override
     public void setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
         teachersPet.setStudent(target, editedStudent);
+        teachersPetJournal.recordSet(target, editedStudent);
+    }
+
+    @Override
+    public void setStudentSortOrder(StudentSortOrder studentSortOrder) {
+        requireNonNull(studentSortOrder);
+        userPrefs.setStudentSortOrder(studentSortOrder);
+        updateSortComparator();
+    }
+
+    @Override
+    public StudentGroupStatistics getGroupStatistics() {
+        return teachersPet.getGroupStatistics();
+    }
+
+    @Override
+    public DebtRanking getDebtRanking() {
+        return teachersPet.getDebtRanking();
+    }
+
+    @Override
+    public StudentSearchIndex getSearchIndex() {
+        return teachersPet.getSearchIndex();
+    }
+
+    //=========== Revenue ====================================================================================
+
+    @Override
+    public RevenueAnalytics getRevenueAnalytics() {
+        return revenueAnalytics;
+    }
+
+    @Override
+    public void addLoadedRevenueEvents(RevenueEventStore events) {
+        requireNonNull(events);
+        revenueAnalytics.recordAll(events);
     }
 
     @Override
-    public void sortStudents(Comparator<Student> comparator) {
-        requireNonNull(comparator);
-        teachersPet.sortStudents(comparator);
+    public void recordAttendance(LocalDate date, Money fee) {
+        requireAllNonNull(date, fee);
+        teachersPetJournal.recordRevenueEvent(revenueAnalytics, revenueAnalytics.recordAttendance(date, fee));
+    }
+
+    @Override
+    public void recordPayment(LocalDate date, Money amount) {
+        requireAllNonNull(date, amount);
+        teachersPetJournal.recordRevenueEvent(revenueAnalytics, revenueAnalytics.recordPayment(date, amount));
     }
 
     //=========== Filtered Student List Accessors =============================================================
 
     /**
      * Returns an unmodifiable view of the list of {@code Student} backed by the internal list of
-     * {@code versionedTeachersPet}
+     * {@code versionedTeachersPet}, in the sort order of the user prefs
      */
     @Override
     public ObservableList<Student> getFilteredStudentList() {
-        return filteredStudents;
+        return sortedStudents;
     }
 
     @Override
     public void updateFilteredStudentList(Predicate<Student> predicate) {
         requireNonNull(predicate);
-        filteredStudents.setPredicate(predicate);
+        // such as students found by a typo-tolerant name search, which are listed closest to the keywords first
+        filterRanking = predicate instanceof IndexedPredicate
+                ? ((IndexedPredicate) predicate).getRanking().orElse(null)
+                : null;
+        if (!(predicate instanceof IndexedPredicate)) {
+            filteredStudents.setPredicate(predicate);
+            updateSortComparator();
+            return;
+        }
+        // the students are filtered by the matches in the search index right away, and any student added or changed
+        // later is tested by the predicate itself
+        ResolvedPredicate resolvedPredicate =
+                new ResolvedPredicate((IndexedPredicate) predicate, teachersPet.getSearchIndex());
+        filteredStudents.setPredicate(resolvedPredicate);
+        resolvedPredicate.expireMatches();
+        updateSortComparator();
+    }
+
+    /**
+     * Sorts the displayed students by the ranking of the filter, if any, then by the sort order of the user prefs.
+     */
+    private void updateSortComparator() {
+        Optional<Comparator<Student>> sortOrder = userPrefs.getStudentSortOrder().getComparator();
+        if (filterRanking == null) {
+            sortedStudents.setComparator(sortOrder.orElse(null));
+        } else {
+            sortedStudents.setComparator(sortOrder.map(filterRanking::thenComparing).orElse(filterRanking));
+        }
     }
 
     //=========== Filtered Schedule List Accessors =============================================================
@@ -174,30 +286,56 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return teachersPet.equals(other.teachersPet)
                 && userPrefs.equals(other.userPrefs)
-                && filteredStudents.equals(other.filteredStudents);
+                && sortedStudents.equals(other.sortedStudents);
+    }
+
+    //=========== Undo/Redo ===================================================================================
+
+    @Override
+    public void commitTeachersPet() {
+        if (teachersPetJournal.commit(userPrefs.getUndoHistoryLimit())) {
+            version++;
+        }
     }
 
-    //=========== Undo Accessors =================================================================================
     @Override
-    public void updateTeachersPetHistory() {
-        this.teachersPetHistory.add(new TeachersPet(this.teachersPet));
+    public void discardTeachersPetChanges() {
+        teachersPetJournal.discard(teachersPet);
     }
 
     @Override
     public void undo() throws CommandException {
-        try {
-            ReadOnlyTeachersPet targetTeachersPet = this.teachersPetHistory.get(this.teachersPetHistory.size() - 2);
-            setTeachersPet(targetTeachersPet);
-            // remove the current state and last state from history
-            deleteTeachersPetHistory();
-            deleteTeachersPetHistory();
-        } catch (IndexOutOfBoundsException e) {
-            throw new CommandException("Undo cannot be done as there was no previous action");
+        if (!teachersPetJournal.canUndo()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_UNDO);
         }
+        teachersPetJournal.undo(teachersPet);
+        version++;
+    }
+
+    @Override
+    public void redo() throws CommandException {
+        if (!teachersPetJournal.canRedo()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_REDO);
+        }
+        teachersPetJournal.redo(teachersPet);
+        version++;
+    }
+
+    //=========== Saving ========================================================================================
+
+    @Override
+    public boolean hasUnsavedChanges() {
+        return savedVersion.get() != version;
+    }
+
+    @Override
+    public long getTeachersPetVersion() {
+        return version;
     }
 
     @Override
-    public void deleteTeachersPetHistory() {
-        this.teachersPetHistory.remove(this.teachersPetHistory.size() - 1);
+    public void markTeachersPetSaved(long version) {
+        // a write that finishes late does not mark a newer version as saved
+        savedVersion.accumulateAndGet(version, Math::max);
     }
 }
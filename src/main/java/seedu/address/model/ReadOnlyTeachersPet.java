@@ -1,6 +1,6 @@
 package seedu.address.model;
 
-import java.util.Comparator;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.student.Student;
@@ -22,5 +22,10 @@ public interface ReadOnlyTeachersPet {
      */
     ObservableList<Student> getScheduleList();
 
-    void sortStudents(Comparator<Student> comparator);
+    /**
+     * Returns the log of the changes made to the students list, if they are recorded.
+     */
+    default Optional<StudentChangeLog> getStudentChangeLog() {
+        return Optional.empty();
+    }
 }
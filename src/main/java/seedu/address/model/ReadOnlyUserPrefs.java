@@ -3,6 +3,8 @@ package seedu.address.model;
 import java.nio.file.Path;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.model.student.StudentSortOrder;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +15,12 @@ public interface ReadOnlyUserPrefs {
 
     Path getTeachersPetFilePath();
 
+    int getUndoHistoryLimit();
+
+    StorageFormat getStorageFormat();
+
+    boolean isFastStart();
+
+    StudentSortOrder getStudentSortOrder();
+
 }
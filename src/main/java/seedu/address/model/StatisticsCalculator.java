@@ -1,71 +1,92 @@
 package seedu.address.model;
 
-import java.util.logging.Logger;
+import static java.util.Objects.requireNonNull;
 
-import javafx.collections.ObservableList;
-import seedu.address.commons.core.LogsCenter;
+import javafx.collections.ListChangeListener;
 import seedu.address.model.student.Student;
 
 /**
- * A calculator that calculates the statistics of a particular TeachersPet.
+ * A calculator that keeps the statistics of a particular TeachersPet.
+ * The statistics are kept as running totals, which are adjusted by each student added to, removed from or replaced
+ * in the student list of the TeachersPet, so reading them takes constant time.
+ * The totals are kept as {@code long}s, which cannot overflow as every amount of money of a student is an
+ * {@code int}, and a list cannot hold more than {@code Integer.MAX_VALUE} students.
  */
 public class StatisticsCalculator {
-    private static final Logger logger = LogsCenter.getLogger(StatisticsCalculator.class);
 
     private final ReadOnlyTeachersPet teachersPet;
 
+    private int size;
+    private int studentsOwingMoney;
+    private long amountOwed;
+    private long amountPaid;
+
     /**
-     * Constructs an {@code StatisticsCalculator}.
+     * Constructs an {@code StatisticsCalculator} that keeps up with changes to the students of {@code teachersPet}.
      *
      * @param teachersPet TeachersPet used to calculate the statistics.
      */
     public StatisticsCalculator(ReadOnlyTeachersPet teachersPet) {
+        requireNonNull(teachersPet);
         this.teachersPet = teachersPet;
+        teachersPet.getStudentList().forEach(this::add);
+        teachersPet.getStudentList().addListener(this::onStudentsChanged);
+    }
+
+    private void onStudentsChanged(ListChangeListener.Change<? extends Student> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    private void add(Student student) {
+        size++;
+        studentsOwingMoney += isOwingMoney(student) ? 1 : 0;
+        amountOwed += student.getMoneyOwed().value;
+        amountPaid += student.getMoneyPaid().value;
+    }
+
+    private void remove(Student student) {
+        size--;
+        studentsOwingMoney -= isOwingMoney(student) ? 1 : 0;
+        amountOwed -= student.getMoneyOwed().value;
+        amountPaid -= student.getMoneyPaid().value;
+    }
+
+    private static boolean isOwingMoney(Student student) {
+        return student.getMoneyOwed().value > 0;
     }
 
     /**
-     * Calculates the number of people in TeachersPet.
-     *
-     * @return the number of people stored in TeachersPet.
+     * Returns the number of students in TeachersPet.
      */
     public int getSize() {
-        return teachersPet.getStudentList().size();
+        return size;
     }
 
     /**
-     * Sums up the total money owed by the people in TeachersPet.
-     *
-     * @return the total amount of money owed.
+     * Returns the number of students in TeachersPet who owe any money.
      */
-    public String getAmountOwed() {
-        ObservableList<Student> studentList = teachersPet.getStudentList();
-        int moneyOwed = 0;
-        try {
-            for (Student student : studentList) {
-                moneyOwed = Math.addExact(moneyOwed, student.getMoneyOwed().value);
-            }
-        } catch (ArithmeticException e) {
-            return "Owed amount too large to calculate.";
-        }
-        return "$" + moneyOwed;
+    public int getStudentsOwingMoney() {
+        return studentsOwingMoney;
     }
 
     /**
-     * Sums up the total money paid by the people in TeachersPet.
-     *
-     * @return the total amount of money paid.
+     * Returns the total amount of money owed by the students in TeachersPet.
      */
-    public String getAmountPaid() {
-        ObservableList<Student> studentList = teachersPet.getStudentList();
-        int moneyPaid = 0;
-        try {
-            for (Student student : studentList) {
-                moneyPaid = Math.addExact(moneyPaid, student.getMoneyPaid().value);
-            }
-        } catch (ArithmeticException e) {
-            return "Paid amount too large to calculate.";
-        }
-        return "$" + moneyPaid;
+    public long getAmountOwed() {
+        return amountOwed;
+    }
+
+    /**
+     * Returns the total amount of money paid by the students in TeachersPet.
+     */
+    public long getAmountPaid() {
+        return amountPaid;
     }
 
     @Override
@@ -0,0 +1,220 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.model.student.Student;
+
+/**
+ * Records the students added, edited and removed in the student list of a {@code TeachersPet} since the list was
+ * last replaced as a whole, so that storage can write only the students that changed since it last saved the list.
+ * Every change made is numbered, and the number of changes made so far is the version of the list.
+ * Only the latest changes are kept, as storage that is further behind rewrites the whole list anyway.
+ * As recorded changes never change, a {@link #snapshot()} can share them and be read on another thread while more
+ * changes are recorded.
+ */
+public class StudentChangeLog {
+
+    /** The smallest number of changes that are kept. */
+    static final int MIN_RETAINED_CHANGES = 64;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // identifies the student list that the changes were made to, and is shared with snapshots of this log
+    private final Object origin;
+    private StudentChange[] changes = new StudentChange[INITIAL_CAPACITY];
+    private int size;
+    // true if the array may be shared with another log, which then must not see it written to
+    private boolean isShared;
+    // the number of changes made before changes[0]
+    private long firstChangeNumber;
+    // the students before changes[0], or null if changes made since the list was replaced were dropped
+    private List<Student> baseStudents = List.of();
+    private int studentCount;
+
+    /**
+     * Creates a log of an empty student list.
+     */
+    public StudentChangeLog() {
+        origin = new Object();
+    }
+
+    private StudentChangeLog(StudentChangeLog toBeCopied) {
+        origin = toBeCopied.origin;
+        changes = toBeCopied.changes;
+        size = toBeCopied.size;
+        firstChangeNumber = toBeCopied.firstChangeNumber;
+        baseStudents = toBeCopied.baseStudents;
+        studentCount = toBeCopied.studentCount;
+    }
+
+    /**
+     * Records that the whole student list was replaced by {@code students}, which drops every change recorded.
+     */
+    void recordReplace(List<Student> students) {
+        requireAllNonNull(students);
+        // the replacement is a change too, but one that is not kept, so earlier versions cannot be caught up with
+        firstChangeNumber += size + 1;
+        changes = new StudentChange[INITIAL_CAPACITY];
+        size = 0;
+        isShared = false;
+        baseStudents = List.copyOf(students);
+        studentCount = students.size();
+    }
+
+    /**
+     * Records that {@code student} was added at {@code index} of the student list.
+     */
+    void recordAdd(int index, Student student) {
+        requireNonNull(student);
+        append(new StudentChange(StudentChange.Type.ADD, index, null, student));
+        studentCount++;
+    }
+
+    /**
+     * Records that {@code target}, at {@code index} of the student list, was replaced by {@code editedStudent}.
+     */
+    void recordSet(int index, Student target, Student editedStudent) {
+        requireAllNonNull(target, editedStudent);
+        append(new StudentChange(StudentChange.Type.SET, index, target, editedStudent));
+    }
+
+    /**
+     * Records that {@code student} was removed from {@code index} of the student list.
+     */
+    void recordRemove(int index, Student student) {
+        requireNonNull(student);
+        append(new StudentChange(StudentChange.Type.REMOVE, index, student, null));
+        studentCount--;
+    }
+
+    private void append(StudentChange change) {
+        int retainedChanges = Math.max(MIN_RETAINED_CHANGES, studentCount);
+        if (size >= 2 * retainedChanges) {
+            // copying the kept changes to a new array also leaves snapshots unaffected
+            int droppedChanges = size - retainedChanges;
+            changes = Arrays.copyOfRange(changes, droppedChanges, droppedChanges + changes.length);
+            size -= droppedChanges;
+            firstChangeNumber += droppedChanges;
+            baseStudents = null;
+            isShared = false;
+        }
+        if (size == changes.length || isShared) {
+            changes = Arrays.copyOf(changes, Math.max(size * 2, INITIAL_CAPACITY));
+            isShared = false;
+        }
+        changes[size++] = change;
+    }
+
+    /**
+     * Returns a log of the changes recorded so far, which is not affected by changes recorded later.
+     * The snapshot shares the changes of this log, so taking a snapshot does not copy any change.
+     */
+    public StudentChangeLog snapshot() {
+        StudentChangeLog snapshot = new StudentChangeLog(this);
+        snapshot.isShared = true;
+        return snapshot;
+    }
+
+    /**
+     * Returns the number of changes made to the student list so far.
+     */
+    public long getVersion() {
+        return firstChangeNumber + size;
+    }
+
+    /**
+     * Returns true if {@code other} records the changes to the same student list as this log, i.e. one of them is
+     * a snapshot of the other or both are snapshots of the same log.
+     */
+    public boolean hasSameOrigin(StudentChangeLog other) {
+        requireNonNull(other);
+        return origin == other.origin;
+    }
+
+    /**
+     * Returns the changes made after the first {@code version} changes, in the order they were made, or
+     * {@code Optional.empty()} if they are no longer kept.
+     */
+    public Optional<List<StudentChange>> getChangesSince(long version) {
+        if (version < firstChangeNumber || version > getVersion()) {
+            return Optional.empty();
+        }
+        int from = (int) (version - firstChangeNumber);
+        return Optional.of(List.of(Arrays.copyOfRange(changes, from, size)));
+    }
+
+    /**
+     * Returns the changes made since the student list was last replaced, if it was replaced by the very same
+     * students as {@code students}, in the same order, and those changes are still kept.
+     */
+    public Optional<List<StudentChange>> getChangesSinceReplacedBy(List<Student> students) {
+        requireNonNull(students);
+        if (baseStudents == null || baseStudents.size() != students.size()) {
+            return Optional.empty();
+        }
+        for (int i = 0; i < students.size(); i++) {
+            if (baseStudents.get(i) != students.get(i)) {
+                return Optional.empty();
+            }
+        }
+        return getChangesSince(firstChangeNumber);
+    }
+
+    /**
+     * A student added, edited or removed at a position of the student list.
+     * Guarantees: immutable.
+     */
+    public static class StudentChange {
+
+        /**
+         * The kinds of changes recorded.
+         */
+        public enum Type {
+            ADD,
+            SET,
+            REMOVE
+        }
+
+        private final Type type;
+        private final int index;
+        private final Student oldStudent;
+        private final Student newStudent;
+
+        private StudentChange(Type type, int index, Student oldStudent, Student newStudent) {
+            this.type = type;
+            this.index = index;
+            this.oldStudent = oldStudent;
+            this.newStudent = newStudent;
+        }
+
+        public Type getType() {
+            return type;
+        }
+
+        /**
+         * Returns the position of the student in the student list.
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * Returns the student that was edited or removed, or null if a student was added.
+         */
+        public Student getOldStudent() {
+            return oldStudent;
+        }
+
+        /**
+         * Returns the student that was added, or the edited student, or null if a student was removed.
+         */
+        public Student getNewStudent() {
+            return newStudent;
+        }
+    }
+}
@@ -1,23 +1,35 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.analytics.DebtRanking;
+import seedu.address.model.analytics.StudentGroupStatistics;
+import seedu.address.model.student.ClassTimetable;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentSearchIndex;
 import seedu.address.model.student.UniqueScheduleList;
 import seedu.address.model.student.UniqueStudentList;
+import seedu.address.model.student.exceptions.ClassConflictException;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSameStudent comparison)
+ * Overlapping classes are not allowed (by {@code ClassTimetable})
  */
 public class TeachersPet implements ReadOnlyTeachersPet {
 
     private final UniqueStudentList students;
     private final UniqueScheduleList schedule;
+    private final ClassTimetable timetable;
+    private final StudentSearchIndex searchIndex;
+    private final StudentGroupStatistics groupStatistics;
+    private final DebtRanking debtRanking;
+    private final StudentChangeLog changeLog;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -29,6 +41,11 @@ public class TeachersPet implements ReadOnlyTeachersPet {
     {
         students = new UniqueStudentList();
         schedule = new UniqueScheduleList();
+        timetable = new ClassTimetable();
+        searchIndex = new StudentSearchIndex(timetable);
+        groupStatistics = new StudentGroupStatistics();
+        debtRanking = new DebtRanking();
+        changeLog = new StudentChangeLog();
     }
 
     public TeachersPet() {}
@@ -49,6 +66,7 @@ public class TeachersPet implements ReadOnlyTeachersPet {
      */
     public void setStudents(List<Student> students) {
         this.students.setStudents(students);
+        changeLog.recordReplace(students);
     }
 
     /**
@@ -65,8 +83,23 @@ public class TeachersPet implements ReadOnlyTeachersPet {
     public void resetData(ReadOnlyTeachersPet newData) {
         requireNonNull(newData);
 
-        setStudents(newData.getStudentList());
-        setSchedule(newData.getStudentList());
+        resetStudents(newData.getStudentList());
+    }
+
+    /**
+     * Resets the existing data of this {@code TeachersPet} with {@code newStudents}.
+     * {@code newStudents} must not contain duplicate students or overlapping classes.
+     */
+    public void resetStudents(List<Student> newStudents) {
+        requireNonNull(newStudents);
+
+        ClassTimetable newTimetable = ClassTimetable.of(newStudents);
+        setStudents(newStudents);
+        setSchedule(newStudents);
+        timetable.setClasses(newTimetable);
+        searchIndex.setStudents(newStudents);
+        groupStatistics.setStudents(newStudents);
+        debtRanking.setStudents(newStudents);
     }
 
     //// student-level operations
@@ -79,34 +112,114 @@ public class TeachersPet implements ReadOnlyTeachersPet {
         return students.contains(student);
     }
 
+    /**
+     * Returns the student whose class overlaps with the class of {@code student}, if any.
+     * The class of {@code excludedStudent}, which may be null, is ignored.
+     */
+    public Optional<Student> getConflictingStudent(Student student, Student excludedStudent) {
+        requireNonNull(student);
+        return timetable.getConflictingStudent(student, excludedStudent);
+    }
+
+    /**
+     * Throws a {@code ClassConflictException} if the class of {@code student} overlaps with a class other than that
+     * of {@code excludedStudent}.
+     */
+    private void requireNoConflictingClass(Student student, Student excludedStudent) {
+        getConflictingStudent(student, excludedStudent).ifPresent(conflictingStudent -> {
+            throw new ClassConflictException(conflictingStudent);
+        });
+    }
+
     /**
      * Adds a student to the address book.
-     * The student must not already exist in the address book.
+     * The student must not already exist in the address book, and its class must not overlap with another class.
      */
     public void addStudent(Student p) {
+        requireNoConflictingClass(p, null);
         students.add(p);
+        changeLog.recordAdd(students.asUnmodifiableObservableList().size() - 1, p);
+        schedule.add(p);
+        timetable.add(p);
+        searchIndex.add(p);
+        groupStatistics.add(p);
+        debtRanking.add(p);
+    }
+
+    /**
+     * Adds a student to the address book at the given {@code index} of the student list.
+     * The student must not already exist in the address book, and its class must not overlap with another class.
+     */
+    public void addStudent(int index, Student p) {
+        requireNoConflictingClass(p, null);
+        students.add(index, p);
+        changeLog.recordAdd(index, p);
         schedule.add(p);
+        timetable.add(p);
+        searchIndex.add(p);
+        groupStatistics.add(p);
+        debtRanking.add(p);
+    }
+
+    /**
+     * Adds {@code newStudents} to the end of the student list of the address book.
+     * The students must not already exist in the address book or share an identity with each other, and their classes
+     * must not overlap with each other or with another class.
+     */
+    public void addStudents(List<Student> newStudents) {
+        requireNonNull(newStudents);
+        ClassTimetable.of(newStudents);
+        newStudents.forEach(student -> requireNoConflictingClass(student, null));
+        int index = students.asUnmodifiableObservableList().size();
+        students.addAll(newStudents);
+        for (Student student : newStudents) {
+            changeLog.recordAdd(index++, student);
+        }
+        newStudents.forEach(schedule::add);
+        newStudents.forEach(timetable::add);
+        newStudents.forEach(searchIndex::add);
+        newStudents.forEach(groupStatistics::add);
+        newStudents.forEach(debtRanking::add);
     }
 
     /**
      * Replaces the given student {@code target} in the list with {@code editedStudent}.
      * {@code target} must exist in the address book.
      * The student identity of {@code editedStudent} must not be the same as another existing student in Teacher's Pet.
+     * The class of {@code editedStudent} must not overlap with the class of another existing student.
      */
     public void setStudent(Student target, Student editedStudent) {
-        requireNonNull(editedStudent);
+        requireAllNonNull(target, editedStudent);
+        // the indexes key students by identity, so they are given the stored student rather than target
+        Student storedTarget = students.getExistingStudent(target);
 
-        students.setStudent(target, editedStudent);
-        schedule.setStudent(target, editedStudent);
+        requireNoConflictingClass(editedStudent, storedTarget);
+        int index = students.setStudent(storedTarget, editedStudent);
+        changeLog.recordSet(index, storedTarget, editedStudent);
+        schedule.setStudent(storedTarget, editedStudent);
+        timetable.setStudent(storedTarget, editedStudent);
+        searchIndex.setStudent(storedTarget, editedStudent);
+        groupStatistics.setStudent(storedTarget, editedStudent);
+        debtRanking.setStudent(storedTarget, editedStudent);
     }
 
     /**
-     * Removes {@code key} from this {@code TeachersPet}.
+     * Removes {@code key} from this {@code TeachersPet} and returns the index it was at in the student list.
      * {@code key} must exist in the address book.
      */
-    public void removeStudent(Student key) {
-        students.remove(key);
-        schedule.remove(key);
+    public int removeStudent(Student key) {
+        requireNonNull(key);
+        // the indexes key students by identity, so they are given the stored student rather than key
+        Student storedKey = students.getExistingStudent(key);
+
+        int index = students.remove(storedKey);
+        changeLog.recordRemove(index, storedKey);
+        schedule.remove(storedKey);
+        timetable.remove(storedKey);
+        searchIndex.remove(storedKey);
+        groupStatistics.remove(storedKey);
+        debtRanking.remove(storedKey);
+        return index;
     }
 
     //// util methods
@@ -122,18 +235,37 @@ public class TeachersPet implements ReadOnlyTeachersPet {
         return students.asUnmodifiableObservableList();
     }
 
-    public ObservableList<Student> getInternalList() {
-        return students.getInternalList();
-    }
-
     @Override
     public ObservableList<Student> getScheduleList() {
         return schedule.asUnmodifiableObservableList();
     }
 
     @Override
-    public void sortStudents(Comparator<Student> comparator) {
-        students.sortStudents(comparator);
+    public Optional<StudentChangeLog> getStudentChangeLog() {
+        return Optional.of(changeLog);
+    }
+
+    /**
+     * Returns the indexes of the students, which are kept up to date as students are added, edited and removed.
+     */
+    public StudentSearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
+    /**
+     * Returns the statistics of the students in each tag and class slot, which are kept up to date as students are
+     * added, edited and removed.
+     */
+    public StudentGroupStatistics getGroupStatistics() {
+        return groupStatistics;
+    }
+
+    /**
+     * Returns the ranking of the students by the money they owe, which is kept up to date as students are added,
+     * edited and removed.
+     */
+    public DebtRanking getDebtRanking() {
+        return debtRanking;
     }
 
     @Override
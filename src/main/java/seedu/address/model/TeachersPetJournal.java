@@ -0,0 +1,245 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import seedu.address.model.analytics.RevenueAnalytics;
+import seedu.address.model.student.Student;
+
+/**
+ * Records the changes made to a {@code TeachersPet} so that they can be undone and redone.
+ * Every change is kept as a pair of operations that apply and revert it, so undoing a command only touches the
+ * students that the command changed. The operations hold the students themselves rather than copies, which relies
+ * on students, and every field of a student, being immutable.
+ * Changes are recorded as pending until {@code #commit(int)} groups them into a single undoable step.
+ */
+class TeachersPetJournal {
+
+    private final List<Edit> pendingEdits = new ArrayList<>();
+    private final Deque<List<Edit>> undoSteps = new ArrayDeque<>();
+    private final Deque<List<Edit>> redoSteps = new ArrayDeque<>();
+
+    /**
+     * Records that {@code student} was added at {@code index} of the student list.
+     */
+    void recordAdd(int index, Student student) {
+        requireNonNull(student);
+        pendingEdits.add(new AddEdit(index, student));
+    }
+
+    /**
+     * Records that {@code student} was removed from {@code index} of the student list.
+     */
+    void recordRemove(int index, Student student) {
+        requireNonNull(student);
+        pendingEdits.add(new RemoveEdit(index, student));
+    }
+
+    /**
+     * Records that {@code target} was replaced by {@code editedStudent}.
+     */
+    void recordSet(Student target, Student editedStudent) {
+        requireAllNonNull(target, editedStudent);
+        pendingEdits.add(new SetEdit(target, editedStudent));
+    }
+
+    /**
+     * Records that the whole student list was replaced, e.g. when it is cleared or sorted.
+     */
+    void recordReplace(List<Student> oldStudents, List<Student> newStudents) {
+        requireAllNonNull(oldStudents, newStudents);
+        pendingEdits.add(new ReplaceEdit(List.copyOf(oldStudents), List.copyOf(newStudents)));
+    }
+
+    /**
+     * Records that the event at {@code index} of the event store of {@code revenueAnalytics} was recorded.
+     */
+    void recordRevenueEvent(RevenueAnalytics revenueAnalytics, int index) {
+        requireNonNull(revenueAnalytics);
+        pendingEdits.add(new RevenueEdit(revenueAnalytics, index));
+    }
+
+    /**
+     * Groups the pending changes into one undoable step, keeping at most {@code limit} steps.
+     * Does nothing if there are no pending changes, so commands that do not modify the data leave no history.
+     *
+     * @return true if there were pending changes to commit.
+     */
+    boolean commit(int limit) {
+        if (pendingEdits.isEmpty()) {
+            return false;
+        }
+        undoSteps.addLast(List.copyOf(pendingEdits));
+        pendingEdits.clear();
+        redoSteps.clear();
+        while (undoSteps.size() > limit) {
+            undoSteps.removeFirst();
+        }
+        return true;
+    }
+
+    /**
+     * Reverts the pending changes on {@code teachersPet} and forgets them.
+     */
+    void discard(TeachersPet teachersPet) {
+        requireNonNull(teachersPet);
+        for (int i = pendingEdits.size() - 1; i >= 0; i--) {
+            pendingEdits.get(i).revert(teachersPet);
+        }
+        pendingEdits.clear();
+    }
+
+    boolean canUndo() {
+        return !undoSteps.isEmpty();
+    }
+
+    boolean canRedo() {
+        return !redoSteps.isEmpty();
+    }
+
+    /**
+     * Reverts the latest committed step on {@code teachersPet}.
+     * There must be a step to undo.
+     */
+    void undo(TeachersPet teachersPet) {
+        requireNonNull(teachersPet);
+        assert canUndo();
+        List<Edit> step = undoSteps.removeLast();
+        for (int i = step.size() - 1; i >= 0; i--) {
+            step.get(i).revert(teachersPet);
+        }
+        redoSteps.addLast(step);
+    }
+
+    /**
+     * Applies the latest undone step on {@code teachersPet} again.
+     * There must be a step to redo.
+     */
+    void redo(TeachersPet teachersPet) {
+        requireNonNull(teachersPet);
+        assert canRedo();
+        List<Edit> step = redoSteps.removeLast();
+        for (Edit edit : step) {
+            edit.apply(teachersPet);
+        }
+        undoSteps.addLast(step);
+    }
+
+    /**
+     * A change to a {@code TeachersPet} that knows how to apply and revert itself.
+     */
+    private interface Edit {
+        void apply(TeachersPet teachersPet);
+
+        void revert(TeachersPet teachersPet);
+    }
+
+    private static class AddEdit implements Edit {
+        private final int index;
+        private final Student student;
+
+        AddEdit(int index, Student student) {
+            this.index = index;
+            this.student = student;
+        }
+
+        @Override
+        public void apply(TeachersPet teachersPet) {
+            teachersPet.addStudent(index, student);
+        }
+
+        @Override
+        public void revert(TeachersPet teachersPet) {
+            teachersPet.removeStudent(student);
+        }
+    }
+
+    private static class RemoveEdit implements Edit {
+        private final int index;
+        private final Student student;
+
+        RemoveEdit(int index, Student student) {
+            this.index = index;
+            this.student = student;
+        }
+
+        @Override
+        public void apply(TeachersPet teachersPet) {
+            teachersPet.removeStudent(student);
+        }
+
+        @Override
+        public void revert(TeachersPet teachersPet) {
+            teachersPet.addStudent(index, student);
+        }
+    }
+
+    private static class SetEdit implements Edit {
+        private final Student target;
+        private final Student editedStudent;
+
+        SetEdit(Student target, Student editedStudent) {
+            this.target = target;
+            this.editedStudent = editedStudent;
+        }
+
+        @Override
+        public void apply(TeachersPet teachersPet) {
+            teachersPet.setStudent(target, editedStudent);
+        }
+
+        @Override
+        public void revert(TeachersPet teachersPet) {
+            teachersPet.setStudent(editedStudent, target);
+        }
+    }
+
+    /**
+     * An event recorded in the revenue analytics, which is reverted and applied again by recording reversals, as
+     * recorded events cannot be changed.
+     */
+    private static class RevenueEdit implements Edit {
+        private final RevenueAnalytics revenueAnalytics;
+        private int index;
+
+        RevenueEdit(RevenueAnalytics revenueAnalytics, int index) {
+            this.revenueAnalytics = revenueAnalytics;
+            this.index = index;
+        }
+
+        @Override
+        public void apply(TeachersPet teachersPet) {
+            index = revenueAnalytics.reverse(index);
+        }
+
+        @Override
+        public void revert(TeachersPet teachersPet) {
+            index = revenueAnalytics.reverse(index);
+        }
+    }
+
+    private static class ReplaceEdit implements Edit {
+        private final List<Student> oldStudents;
+        private final List<Student> newStudents;
+
+        ReplaceEdit(List<Student> oldStudents, List<Student> newStudents) {
+            this.oldStudents = oldStudents;
+            this.newStudents = newStudents;
+        }
+
+        @Override
+        public void apply(TeachersPet teachersPet) {
+            teachersPet.resetStudents(newStudents);
+        }
+
+        @Override
+        public void revert(TeachersPet teachersPet) {
+            teachersPet.resetStudents(oldStudents);
+        }
+    }
+}
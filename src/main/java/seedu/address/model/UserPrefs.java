@@ -1,20 +1,30 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.model.student.StudentSortOrder;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_UNDO_HISTORY_LIMIT = 100;
+    public static final String MESSAGE_UNDO_HISTORY_LIMIT_CONSTRAINTS = "Undo history limit should be positive";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path teachersPetFilePath = Paths.get("data" , "teachersPet.json");
+    private int undoHistoryLimit = DEFAULT_UNDO_HISTORY_LIMIT;
+    private StorageFormat storageFormat = StorageFormat.JSON;
+    private boolean fastStart = false;
+    private StudentSortOrder studentSortOrder = new StudentSortOrder();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +46,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setTeachersPetFilePath(newUserPrefs.getTeachersPetFilePath());
+        setUndoHistoryLimit(newUserPrefs.getUndoHistoryLimit());
+        setStorageFormat(newUserPrefs.getStorageFormat());
+        setFastStart(newUserPrefs.isFastStart());
+        setStudentSortOrder(newUserPrefs.getStudentSortOrder());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +70,47 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.teachersPetFilePath = teachersPetFilePath;
     }
 
+    public int getUndoHistoryLimit() {
+        return undoHistoryLimit;
+    }
+
+    /**
+     * Sets the maximum number of commands that can be undone.
+     */
+    public void setUndoHistoryLimit(int undoHistoryLimit) {
+        checkArgument(undoHistoryLimit > 0, MESSAGE_UNDO_HISTORY_LIMIT_CONSTRAINTS);
+        this.undoHistoryLimit = undoHistoryLimit;
+    }
+
+    public StorageFormat getStorageFormat() {
+        return storageFormat;
+    }
+
+    public void setStorageFormat(StorageFormat storageFormat) {
+        requireNonNull(storageFormat);
+        this.storageFormat = storageFormat;
+    }
+
+    public boolean isFastStart() {
+        return fastStart;
+    }
+
+    /**
+     * Sets whether the main window is shown before the data file has been loaded.
+     */
+    public void setFastStart(boolean fastStart) {
+        this.fastStart = fastStart;
+    }
+
+    public StudentSortOrder getStudentSortOrder() {
+        return studentSortOrder;
+    }
+
+    public void setStudentSortOrder(StudentSortOrder studentSortOrder) {
+        requireNonNull(studentSortOrder);
+        this.studentSortOrder = studentSortOrder;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +123,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && teachersPetFilePath.equals(o.teachersPetFilePath);
+                && teachersPetFilePath.equals(o.teachersPetFilePath)
+                && undoHistoryLimit == o.undoHistoryLimit
+                && storageFormat == o.storageFormat
+                && fastStart == o.fastStart
+                && studentSortOrder.equals(o.studentSortOrder);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, teachersPetFilePath);
+        return Objects.hash(guiSettings, teachersPetFilePath, undoHistoryLimit, storageFormat, fastStart,
+                studentSortOrder);
     }
 
     @Override
@@ -81,6 +141,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + teachersPetFilePath);
+        sb.append("\nUndo history limit : " + undoHistoryLimit);
+        sb.append("\nStorage format : " + storageFormat);
+        sb.append("\nFast start : " + fastStart);
+        sb.append("\nStudent sort order : " + studentSortOrder);
         return sb.toString();
     }
 
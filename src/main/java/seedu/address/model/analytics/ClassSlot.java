@@ -0,0 +1,75 @@
+package seedu.address.model.analytics;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.TextStyle;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.model.student.Class;
+
+/**
+ * The day of the week and the time of day that a class is held at, shared by the classes held at the same time on
+ * different weeks.
+ * Guarantees: immutable.
+ */
+public class ClassSlot implements Comparable<ClassSlot> {
+
+    private static final Comparator<ClassSlot> COMPARATOR = Comparator.comparing((ClassSlot slot) -> slot.dayOfWeek)
+            .thenComparing(slot -> slot.startTime)
+            .thenComparing(slot -> slot.endTime);
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HHmm");
+
+    private final DayOfWeek dayOfWeek;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+
+    /**
+     * Creates the slot from {@code startTime} to {@code endTime} on {@code dayOfWeek}.
+     */
+    public ClassSlot(DayOfWeek dayOfWeek, LocalTime startTime, LocalTime endTime) {
+        requireAllNonNull(dayOfWeek, startTime, endTime);
+        this.dayOfWeek = dayOfWeek;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    /**
+     * Returns the slot of {@code aClass}, or an empty {@code Optional} if the class has not been set.
+     */
+    public static Optional<ClassSlot> of(Class aClass) {
+        return aClass.isEmpty()
+                ? Optional.empty()
+                : Optional.of(new ClassSlot(aClass.date.getDayOfWeek(), aClass.startTime, aClass.endTime));
+    }
+
+    @Override
+    public int compareTo(ClassSlot other) {
+        return COMPARATOR.compare(this, other);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ClassSlot // instanceof handles nulls
+                && dayOfWeek.equals(((ClassSlot) other).dayOfWeek)
+                && startTime.equals(((ClassSlot) other).startTime)
+                && endTime.equals(((ClassSlot) other).endTime)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(dayOfWeek, startTime, endTime);
+    }
+
+    @Override
+    public String toString() {
+        return dayOfWeek.getDisplayName(TextStyle.SHORT, Locale.ENGLISH) + " " + startTime.format(TIME_FORMATTER)
+                + "-" + endTime.format(TIME_FORMATTER);
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.model.analytics;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.OptionalInt;
+
+import seedu.address.model.student.Money;
+import seedu.address.model.student.Student;
+
+/**
+ * The students ranked by the money they owe, kept up to date as students are added, edited and removed.
+ * The students are kept in an {@code OrderStatisticTree}, so the top debtors, the rank of a student and the students
+ * owing more than an amount are found in time logarithmic in the number of students, plus the number of students
+ * returned, without sorting or reordering the student list.
+ */
+public class DebtRanking {
+
+    /**
+     * The order of the ranking, which is that of {@link Student#compareToByMoneyOwedDesc(Student)}, with students of
+     * the same name told apart by their phone numbers, which identify them.
+     */
+    public static final Comparator<Student> ORDER = ((Comparator<Student>) Student::compareToByMoneyOwedDesc)
+            .thenComparing(student -> student.getPhone().value);
+
+    private final OrderStatisticTree<Student> students = new OrderStatisticTree<>(ORDER);
+
+    /**
+     * Adds {@code student} to the ranking.
+     */
+    public void add(Student student) {
+        requireNonNull(student);
+        students.add(student);
+    }
+
+    /**
+     * Removes {@code student} from the ranking.
+     */
+    public void remove(Student student) {
+        requireNonNull(student);
+        students.remove(student);
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedStudent} in the ranking.
+     */
+    public void setStudent(Student target, Student editedStudent) {
+        requireAllNonNull(target, editedStudent);
+        students.remove(target);
+        students.add(editedStudent);
+    }
+
+    /**
+     * Replaces the students in the ranking with {@code students}.
+     */
+    public void setStudents(List<Student> students) {
+        requireAllNonNull(students);
+        this.students.clear();
+        students.forEach(this.students::add);
+    }
+
+    /**
+     * Returns the number of students in the ranking.
+     */
+    public int size() {
+        return students.size();
+    }
+
+    /**
+     * Returns up to {@code count} of the students owing money, from the one owing the most.
+     */
+    public List<Student> getTopDebtors(int count) {
+        checkArgument(count >= 0, "Count cannot be negative");
+        int debtorCount = students.countPrefix(Student::isOwingMoney);
+        return students.subList(0, Math.min(count, debtorCount));
+    }
+
+    /**
+     * Returns the students owing more than {@code amount}, from the one owing the most.
+     */
+    public List<Student> getStudentsOwingMoreThan(Money amount) {
+        requireNonNull(amount);
+        return students.subList(0, students.countPrefix(student -> student.getMoneyOwed().compareTo(amount) > 0));
+    }
+
+    /**
+     * Returns the rank of {@code student}, from 1 for the student owing the most, if it is in the ranking.
+     */
+    public OptionalInt getRank(Student student) {
+        requireNonNull(student);
+        int index = students.indexOf(student);
+        return index < 0 ? OptionalInt.empty() : OptionalInt.of(index + 1);
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.model.analytics;
+
+import seedu.address.model.student.Student;
+
+/**
+ * The number of students in a group, how many of them owe money, and how much they owe in total.
+ * Guarantees: immutable.
+ */
+public class GroupSummary {
+
+    public static final GroupSummary EMPTY = new GroupSummary(0, 0, 0);
+
+    private final int studentCount;
+    private final int studentsOwingMoney;
+    private final long amountOwed;
+
+    /**
+     * Creates a summary of a group of {@code studentCount} students, {@code studentsOwingMoney} of whom owe
+     * {@code amountOwed} in total.
+     */
+    public GroupSummary(int studentCount, int studentsOwingMoney, long amountOwed) {
+        this.studentCount = studentCount;
+        this.studentsOwingMoney = studentsOwingMoney;
+        this.amountOwed = amountOwed;
+    }
+
+    /**
+     * Returns the summary of a group of only {@code student}.
+     */
+    public static GroupSummary of(Student student) {
+        int moneyOwed = student.getMoneyOwed().value;
+        return new GroupSummary(1, moneyOwed > 0 ? 1 : 0, moneyOwed);
+    }
+
+    public int getStudentCount() {
+        return studentCount;
+    }
+
+    public int getStudentsOwingMoney() {
+        return studentsOwingMoney;
+    }
+
+    public long getAmountOwed() {
+        return amountOwed;
+    }
+
+    /**
+     * Returns the summary of this group joined with the group summarised by {@code other}.
+     */
+    public GroupSummary plus(GroupSummary other) {
+        return new GroupSummary(studentCount + other.studentCount, studentsOwingMoney + other.studentsOwingMoney,
+                amountOwed + other.amountOwed);
+    }
+
+    /**
+     * Returns the summary of this group without the students summarised by {@code other}, who must be in it.
+     */
+    public GroupSummary minus(GroupSummary other) {
+        return new GroupSummary(studentCount - other.studentCount, studentsOwingMoney - other.studentsOwingMoney,
+                amountOwed - other.amountOwed);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof GroupSummary // instanceof handles nulls
+                && studentCount == ((GroupSummary) other).studentCount
+                && studentsOwingMoney == ((GroupSummary) other).studentsOwingMoney
+                && amountOwed == ((GroupSummary) other).amountOwed); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return studentCount ^ studentsOwingMoney ^ Long.hashCode(amountOwed);
+    }
+
+    @Override
+    public String toString() {
+        return studentCount + " students, " + studentsOwingMoney + " owing $" + amountOwed;
+    }
+}
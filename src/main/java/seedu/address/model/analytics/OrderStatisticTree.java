@@ -0,0 +1,274 @@
+package seedu.address.model.analytics;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A sorted set that can also find the element at a position, and the position of an element, in logarithmic time.
+ * The elements are kept in an AVL tree in which each node also keeps the number of nodes under it, so the position of
+ * a node is the number of nodes to the left of the path from the root to it.
+ *
+ * @param <E> the type of the elements, which are ordered by the comparator given.
+ */
+class OrderStatisticTree<E> {
+
+    private final Comparator<? super E> comparator;
+    private Node<E> root;
+
+    /**
+     * Creates an empty tree ordered by {@code comparator}.
+     */
+    OrderStatisticTree(Comparator<? super E> comparator) {
+        requireNonNull(comparator);
+        this.comparator = comparator;
+    }
+
+    /**
+     * Returns the number of elements.
+     */
+    int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Adds {@code element}, unless an equal element is already in the tree.
+     *
+     * @return true if {@code element} was added.
+     */
+    boolean add(E element) {
+        requireNonNull(element);
+        int oldSize = size();
+        root = insert(root, element);
+        return size() != oldSize;
+    }
+
+    /**
+     * Removes the element equal to {@code element}, if any.
+     *
+     * @return true if an element was removed.
+     */
+    boolean remove(E element) {
+        requireNonNull(element);
+        int oldSize = size();
+        root = delete(root, element);
+        return size() != oldSize;
+    }
+
+    /**
+     * Removes every element.
+     */
+    void clear() {
+        root = null;
+    }
+
+    /**
+     * Returns the element at {@code index} in order.
+     */
+    E get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("No element at index " + index);
+        }
+        Node<E> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.element;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns the position in order of the element equal to {@code element}, or -1 if there is none.
+     */
+    int indexOf(E element) {
+        requireNonNull(element);
+        int index = 0;
+        Node<E> node = root;
+        while (node != null) {
+            int comparison = comparator.compare(element, node.element);
+            if (comparison < 0) {
+                node = node.left;
+            } else if (comparison > 0) {
+                index += sizeOf(node.left) + 1;
+                node = node.right;
+            } else {
+                return index + sizeOf(node.left);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of elements in the longest run from the first element that satisfy {@code isInPrefix},
+     * which must hold for the elements before any element that it holds for.
+     */
+    int countPrefix(Predicate<? super E> isInPrefix) {
+        requireNonNull(isInPrefix);
+        int count = 0;
+        Node<E> node = root;
+        while (node != null) {
+            if (isInPrefix.test(node.element)) {
+                count += sizeOf(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the elements from {@code fromIndex}, inclusive, to {@code toIndex}, exclusive, in order.
+     * Only the path to the first element and the elements returned are visited.
+     */
+    List<E> subList(int fromIndex, int toIndex) {
+        checkArgument(0 <= fromIndex && fromIndex <= toIndex && toIndex <= size(),
+                "Invalid range from " + fromIndex + " to " + toIndex);
+        List<E> elements = new ArrayList<>(toIndex - fromIndex);
+        if (fromIndex == toIndex) {
+            return elements;
+        }
+
+        // the stack holds the first element and the ancestors after it, which are those whose left subtree it is in
+        Deque<Node<E>> stack = new ArrayDeque<>();
+        Node<E> node = root;
+        int index = fromIndex;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                stack.push(node);
+                node = node.left;
+            } else if (index == leftSize) {
+                stack.push(node);
+                break;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+
+        while (elements.size() < toIndex - fromIndex) {
+            node = stack.pop();
+            elements.add(node.element);
+            for (Node<E> next = node.right; next != null; next = next.left) {
+                stack.push(next);
+            }
+        }
+        return elements;
+    }
+
+    private Node<E> insert(Node<E> node, E element) {
+        if (node == null) {
+            return new Node<>(element);
+        }
+        int comparison = comparator.compare(element, node.element);
+        if (comparison < 0) {
+            node.left = insert(node.left, element);
+        } else if (comparison > 0) {
+            node.right = insert(node.right, element);
+        } else {
+            return node;
+        }
+        return rebalance(node);
+    }
+
+    private Node<E> delete(Node<E> node, E element) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = comparator.compare(element, node.element);
+        if (comparison < 0) {
+            node.left = delete(node.left, element);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, element);
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            Node<E> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.element = successor.element;
+            node.right = delete(node.right, successor.element);
+        }
+        return rebalance(node);
+    }
+
+    private static <E> Node<E> rebalance(Node<E> node) {
+        update(node);
+        int balance = heightOf(node.left) - heightOf(node.right);
+        if (balance > 1) {
+            if (heightOf(node.left.left) < heightOf(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (heightOf(node.right.right) < heightOf(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static <E> Node<E> rotateRight(Node<E> node) {
+        Node<E> left = node.left;
+        node.left = left.right;
+        left.right = node;
+        update(node);
+        update(left);
+        return left;
+    }
+
+    private static <E> Node<E> rotateLeft(Node<E> node) {
+        Node<E> right = node.right;
+        node.right = right.left;
+        right.left = node;
+        update(node);
+        update(right);
+        return right;
+    }
+
+    private static void update(Node<?> node) {
+        node.height = 1 + Math.max(heightOf(node.left), heightOf(node.right));
+        node.size = 1 + sizeOf(node.left) + sizeOf(node.right);
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * A node of the tree, with the height and the number of nodes of the subtree rooted at it.
+     */
+    private static class Node<E> {
+        private E element;
+        private Node<E> left;
+        private Node<E> right;
+        private int height = 1;
+        private int size = 1;
+
+        private Node(E element) {
+            this.element = element;
+        }
+    }
+}
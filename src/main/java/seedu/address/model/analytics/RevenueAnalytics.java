@@ -0,0 +1,185 @@
+package seedu.address.model.analytics;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import seedu.address.model.analytics.RevenueEventStore.EventType;
+import seedu.address.model.student.Money;
+
+/**
+ * Works out the revenue of the tutor from the classes attended and payments made, as recorded in a
+ * {@code RevenueEventStore}.
+ * Each event is added to a bucket for its day, its week (starting on Monday) and its month as it is recorded, so
+ * the revenue of a day, week or month is read from a single bucket. The revenue of any range of days is worked out
+ * from the buckets of the whole months in it and the day buckets of the days left over, without going through the
+ * events again.
+ */
+public class RevenueAnalytics {
+
+    private final RevenueEventStore eventStore = new RevenueEventStore();
+    private final NavigableMap<Long, Bucket> dayBuckets = new TreeMap<>();
+    private final Map<Long, Bucket> weekBuckets = new HashMap<>();
+    private final NavigableMap<Long, Bucket> monthBuckets = new TreeMap<>();
+    private final Bucket totalBucket = new Bucket();
+
+    /**
+     * Records that a class on {@code date} was attended, and {@code fee} was charged for it.
+     *
+     * @return the index of the event recorded.
+     */
+    public int recordAttendance(LocalDate date, Money fee) {
+        requireAllNonNull(date, fee);
+        return record(EventType.ATTENDANCE, false, Math.toIntExact(date.toEpochDay()), fee.value);
+    }
+
+    /**
+     * Records that {@code amount} was paid on {@code date}.
+     *
+     * @return the index of the event recorded.
+     */
+    public int recordPayment(LocalDate date, Money amount) {
+        requireAllNonNull(date, amount);
+        return record(EventType.PAYMENT, false, Math.toIntExact(date.toEpochDay()), amount.value);
+    }
+
+    /**
+     * Records every event of {@code events} in order, e.g. the events read from storage, so that the event at each
+     * index of {@code events} is at the same index here if nothing was recorded before.
+     */
+    public void recordAll(RevenueEventStore events) {
+        requireNonNull(events);
+        for (int i = 0; i < events.size(); i++) {
+            record(events.getType(i), events.isReversal(i), events.getEpochDay(i), events.getAmount(i));
+        }
+    }
+
+    /**
+     * Records the reversal of the event at {@code index}, which cancels it, or if the event is itself a reversal,
+     * records the event it cancelled again.
+     *
+     * @return the index of the event recorded.
+     */
+    public int reverse(int index) {
+        return record(eventStore.getType(index), !eventStore.isReversal(index), eventStore.getEpochDay(index),
+                eventStore.getAmount(index));
+    }
+
+    private int record(EventType type, boolean isReversal, int epochDay, int amount) {
+        int index = eventStore.append(type, isReversal, epochDay, amount);
+        int sign = isReversal ? -1 : 1;
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        dayBuckets.computeIfAbsent(getDayKey(date), unused -> new Bucket()).add(type, sign, amount);
+        weekBuckets.computeIfAbsent(getWeekKey(date), unused -> new Bucket()).add(type, sign, amount);
+        monthBuckets.computeIfAbsent(getMonthKey(date), unused -> new Bucket()).add(type, sign, amount);
+        totalBucket.add(type, sign, amount);
+        return index;
+    }
+
+    public RevenueEventStore getEventStore() {
+        return eventStore;
+    }
+
+    /**
+     * Returns the revenue on {@code date}.
+     */
+    public RevenueSummary getDaySummary(LocalDate date) {
+        requireNonNull(date);
+        return toSummary(dayBuckets.get(getDayKey(date)));
+    }
+
+    /**
+     * Returns the revenue in the week, from Monday to Sunday, of {@code date}.
+     */
+    public RevenueSummary getWeekSummary(LocalDate date) {
+        requireNonNull(date);
+        return toSummary(weekBuckets.get(getWeekKey(date)));
+    }
+
+    /**
+     * Returns the revenue in the month of {@code date}.
+     */
+    public RevenueSummary getMonthSummary(LocalDate date) {
+        requireNonNull(date);
+        return toSummary(monthBuckets.get(getMonthKey(date)));
+    }
+
+    /**
+     * Returns the revenue of every event recorded.
+     */
+    public RevenueSummary getTotalSummary() {
+        return toSummary(totalBucket);
+    }
+
+    /**
+     * Returns the revenue from {@code startDate} to {@code endDate}, both inclusive.
+     */
+    public RevenueSummary getSummary(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        checkArgument(!startDate.isAfter(endDate), "Start date cannot be after end date");
+        RevenueSummary summary = RevenueSummary.EMPTY;
+        LocalDate date = startDate;
+        while (!date.isAfter(endDate)) {
+            LocalDate endOfMonth = date.with(TemporalAdjusters.lastDayOfMonth());
+            if (date.getDayOfMonth() == 1 && !endOfMonth.isAfter(endDate)) {
+                summary = summary.plus(toSummary(monthBuckets.get(getMonthKey(date))));
+            } else {
+                LocalDate lastDate = endOfMonth.isAfter(endDate) ? endDate : endOfMonth;
+                for (Bucket bucket : dayBuckets.subMap(getDayKey(date), true, getDayKey(lastDate), true).values()) {
+                    summary = summary.plus(toSummary(bucket));
+                }
+            }
+            date = endOfMonth.plusDays(1);
+        }
+        return summary;
+    }
+
+    private static long getDayKey(LocalDate date) {
+        return date.toEpochDay();
+    }
+
+    private static long getWeekKey(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).toEpochDay();
+    }
+
+    private static long getMonthKey(LocalDate date) {
+        return date.getYear() * 12L + date.getMonthValue() - 1;
+    }
+
+    private static RevenueSummary toSummary(Bucket bucket) {
+        return bucket == null
+                ? RevenueSummary.EMPTY
+                : new RevenueSummary(bucket.amountCharged, bucket.amountCollected, bucket.classesAttended);
+    }
+
+    /**
+     * The running totals of the events in a period.
+     */
+    private static class Bucket {
+        private long amountCharged;
+        private long amountCollected;
+        private long classesAttended;
+
+        private void add(EventType type, int sign, int amount) {
+            switch (type) {
+            case ATTENDANCE:
+                amountCharged += sign * (long) amount;
+                classesAttended += sign;
+                break;
+            case PAYMENT:
+                amountCollected += sign * (long) amount;
+                break;
+            default:
+                throw new AssertionError("Unknown event type " + type);
+            }
+        }
+    }
+}
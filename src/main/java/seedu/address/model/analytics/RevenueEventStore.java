@@ -0,0 +1,122 @@
+package seedu.address.model.analytics;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+
+/**
+ * An append-only history of the classes attended and payments made, from which revenue is worked out.
+ * Each event is a fixed-size record of its day, kind and amount, kept column by column in arrays of primitives
+ * rather than as an object per event. An event is never changed once recorded: it is cancelled by recording its
+ * reversal, which counts against the totals instead of towards them.
+ * As recorded events never change, a {@link #snapshot()} can share the arrays and be read on another thread while
+ * more events are recorded.
+ */
+public class RevenueEventStore {
+
+    /**
+     * The kinds of events recorded.
+     */
+    public enum EventType {
+        /** A class was attended, and its fee was charged. */
+        ATTENDANCE,
+        /** An amount of money was paid. */
+        PAYMENT
+    }
+
+    /** The number of bytes of each record: the day since the epoch, the kind and the amount. */
+    public static final int RECORD_BYTES = Integer.BYTES + Byte.BYTES + Integer.BYTES;
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int REVERSAL_FLAG = 0x80;
+    private static final EventType[] EVENT_TYPES = EventType.values();
+
+    private int[] epochDays = new int[INITIAL_CAPACITY];
+    private byte[] kinds = new byte[INITIAL_CAPACITY];
+    private int[] amounts = new int[INITIAL_CAPACITY];
+    private int size;
+    // true if the arrays may be shared with another store, which then must not see them written to
+    private boolean isShared;
+
+    /**
+     * Creates a store with no events.
+     */
+    public RevenueEventStore() {}
+
+    private RevenueEventStore(int[] epochDays, byte[] kinds, int[] amounts, int size) {
+        this.epochDays = epochDays;
+        this.kinds = kinds;
+        this.amounts = amounts;
+        this.size = size;
+    }
+
+    /**
+     * Records an event of {@code type} on the day {@code epochDay} for {@code amount}, which is cancelled by
+     * another event if {@code isReversal} is true.
+     *
+     * @return the index of the event recorded.
+     */
+    public int append(EventType type, boolean isReversal, int epochDay, int amount) {
+        requireNonNull(type);
+        checkArgument(amount >= 0, "Amount cannot be negative");
+        if (size == epochDays.length || isShared) {
+            int capacity = Math.max(size * 2, INITIAL_CAPACITY);
+            epochDays = Arrays.copyOf(epochDays, capacity);
+            kinds = Arrays.copyOf(kinds, capacity);
+            amounts = Arrays.copyOf(amounts, capacity);
+            isShared = false;
+        }
+        epochDays[size] = epochDay;
+        kinds[size] = (byte) (type.ordinal() | (isReversal ? REVERSAL_FLAG : 0));
+        amounts[size] = amount;
+        return size++;
+    }
+
+    /**
+     * Returns a store of the events recorded so far, which is not affected by events recorded later.
+     * The snapshot shares the arrays of this store until either of them has to grow, and copies them before an
+     * event is recorded in it, so taking a snapshot does not copy any event.
+     */
+    public RevenueEventStore snapshot() {
+        RevenueEventStore snapshot = new RevenueEventStore(epochDays, kinds, amounts, size);
+        snapshot.isShared = true;
+        return snapshot;
+    }
+
+    /**
+     * Returns the number of events recorded.
+     */
+    public int size() {
+        return size;
+    }
+
+    public EventType getType(int index) {
+        return EVENT_TYPES[getKind(index) & ~REVERSAL_FLAG];
+    }
+
+    public boolean isReversal(int index) {
+        return (getKind(index) & REVERSAL_FLAG) != 0;
+    }
+
+    public int getEpochDay(int index) {
+        checkIndex(index);
+        return epochDays[index];
+    }
+
+    public int getAmount(int index) {
+        checkIndex(index);
+        return amounts[index];
+    }
+
+    private int getKind(int index) {
+        checkIndex(index);
+        return kinds[index] & 0xFF;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("No event at index " + index);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.model.analytics;
+
+import java.util.OptionalDouble;
+
+/**
+ * The fees charged, the money collected and the classes attended over a period.
+ * Guarantees: immutable.
+ */
+public class RevenueSummary {
+
+    public static final RevenueSummary EMPTY = new RevenueSummary(0, 0, 0);
+
+    private final long amountCharged;
+    private final long amountCollected;
+    private final long classesAttended;
+
+    /**
+     * Creates a summary of {@code classesAttended} classes, for which {@code amountCharged} was charged, and
+     * {@code amountCollected} collected.
+     */
+    public RevenueSummary(long amountCharged, long amountCollected, long classesAttended) {
+        this.amountCharged = amountCharged;
+        this.amountCollected = amountCollected;
+        this.classesAttended = classesAttended;
+    }
+
+    public long getAmountCharged() {
+        return amountCharged;
+    }
+
+    public long getAmountCollected() {
+        return amountCollected;
+    }
+
+    public long getClassesAttended() {
+        return classesAttended;
+    }
+
+    /**
+     * Returns the fraction of the fees charged that was collected, if any fees were charged.
+     */
+    public OptionalDouble getCollectionRate() {
+        return amountCharged == 0
+                ? OptionalDouble.empty()
+                : OptionalDouble.of((double) amountCollected / amountCharged);
+    }
+
+    /**
+     * Returns the summary of this period and the period summarised by {@code other} together.
+     */
+    public RevenueSummary plus(RevenueSummary other) {
+        return new RevenueSummary(amountCharged + other.amountCharged, amountCollected + other.amountCollected,
+                classesAttended + other.classesAttended);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RevenueSummary // instanceof handles nulls
+                && amountCharged == ((RevenueSummary) other).amountCharged
+                && amountCollected == ((RevenueSummary) other).amountCollected
+                && classesAttended == ((RevenueSummary) other).classesAttended); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(amountCharged) ^ Long.hashCode(amountCollected) ^ Long.hashCode(classesAttended);
+    }
+
+    @Override
+    public String toString() {
+        return "$" + amountCollected + " collected of $" + amountCharged + " charged, "
+                + classesAttended + " classes attended";
+    }
+}
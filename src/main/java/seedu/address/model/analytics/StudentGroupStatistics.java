@@ -0,0 +1,99 @@
+package seedu.address.model.analytics;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import seedu.address.model.student.Student;
+import seedu.address.model.student.TagIndex;
+import seedu.address.model.tag.Tag;
+
+/**
+ * The students and the money owed in each tag and in each class slot, kept up to date as students are added, edited
+ * and removed.
+ * Each change to a student only adjusts the summaries of the groups the student leaves and joins, so reading the
+ * summaries never goes through the students. Tags are grouped ignoring case, in the form kept by {@code TagIndex}.
+ */
+public class StudentGroupStatistics {
+
+    private final NavigableMap<String, GroupSummary> summariesByTag = new TreeMap<>();
+    private final NavigableMap<ClassSlot, GroupSummary> summariesBySlot = new TreeMap<>();
+
+    /**
+     * Adds {@code student} to the groups of its tags and class slot.
+     */
+    public void add(Student student) {
+        requireNonNull(student);
+        GroupSummary studentSummary = GroupSummary.of(student);
+        for (Tag tag : student.getTags()) {
+            summariesByTag.merge(TagIndex.normalize(tag.tagName), studentSummary, GroupSummary::plus);
+        }
+        ClassSlot.of(student.getAClass()).ifPresent(slot ->
+                summariesBySlot.merge(slot, studentSummary, GroupSummary::plus));
+    }
+
+    /**
+     * Removes {@code student} from the groups of its tags and class slot, dropping the groups left empty.
+     */
+    public void remove(Student student) {
+        requireNonNull(student);
+        GroupSummary studentSummary = GroupSummary.of(student);
+        for (Tag tag : student.getTags()) {
+            summariesByTag.computeIfPresent(TagIndex.normalize(tag.tagName), (unused, summary) ->
+                    withoutStudent(summary, studentSummary));
+        }
+        ClassSlot.of(student.getAClass()).ifPresent(slot ->
+                summariesBySlot.computeIfPresent(slot, (unused, summary) -> withoutStudent(summary, studentSummary)));
+    }
+
+    private static GroupSummary withoutStudent(GroupSummary summary, GroupSummary studentSummary) {
+        GroupSummary remaining = summary.minus(studentSummary);
+        return remaining.getStudentCount() == 0 ? null : remaining;
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedStudent} in the groups.
+     */
+    public void setStudent(Student target, Student editedStudent) {
+        requireAllNonNull(target, editedStudent);
+        remove(target);
+        add(editedStudent);
+    }
+
+    /**
+     * Replaces the students in the groups with {@code students}.
+     */
+    public void setStudents(List<Student> students) {
+        requireAllNonNull(students);
+        summariesByTag.clear();
+        summariesBySlot.clear();
+        students.forEach(this::add);
+    }
+
+    /**
+     * Returns the summary of the students with each tag, ordered by tag.
+     */
+    public NavigableMap<String, GroupSummary> getTagSummaries() {
+        return Collections.unmodifiableNavigableMap(summariesByTag);
+    }
+
+    /**
+     * Returns the summary of the students with the tag {@code tagName}, ignoring case, if any student has it.
+     */
+    public Optional<GroupSummary> getTagSummary(String tagName) {
+        requireNonNull(tagName);
+        return Optional.ofNullable(summariesByTag.get(TagIndex.normalize(tagName)));
+    }
+
+    /**
+     * Returns the summary of the students in each class slot, ordered by day of the week and time.
+     */
+    public NavigableMap<ClassSlot, GroupSummary> getSlotSummaries() {
+        return Collections.unmodifiableNavigableMap(summariesBySlot);
+    }
+}
@@ -6,7 +6,7 @@ package seedu.address.model.student;
  */
 public class AdditionalNotes {
 
-    private String notes;
+    private final String notes;
 
     /**
      * Constructs an {@code AdditionalNotes}.
@@ -18,16 +18,15 @@ public class AdditionalNotes {
     }
 
     /**
-     * Appends the notes to the current notes.
+     * Returns new notes with {@code appendedAdditionalNotes} appended to the current notes.
      *
      * @param appendedAdditionalNotes AdditionalNotes object that contains extra notes to be appended.
      */
-    public void appendNotes(AdditionalNotes appendedAdditionalNotes) {
-        if (this.notes.isBlank()) {
-            this.notes += appendedAdditionalNotes.notes;
-        } else {
-            this.notes += " " + appendedAdditionalNotes.notes;
+    public AdditionalNotes append(AdditionalNotes appendedAdditionalNotes) {
+        if (notes.isBlank()) {
+            return new AdditionalNotes(notes + appendedAdditionalNotes.notes);
         }
+        return new AdditionalNotes(notes + " " + appendedAdditionalNotes.notes);
     }
 
     @Override
@@ -6,6 +6,7 @@ import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.regex.Pattern;
 
 /**
  * Represents a Student's class date in the address book.
@@ -34,9 +35,13 @@ public class Class {
     public static final String VALIDATION_FLEXIBLE_CLASS_REGEX =
             "(?i)(Mon|Tue|Wed|Thu|Fri|Sat|Sun) " + VALIDATION_TIME_REGEX + "-" + VALIDATION_TIME_REGEX;
     public static final String INVALID_FIND_COMMAND_MESSAGE =
-            "Please include a date either in the format of yyyy-MM-dd or Day-of-Week"
-            + "\nExamples: 2022-10-15, Mon, tue"
+            "Please include a date either in the format of yyyy-MM-dd or Day-of-Week, "
+            + "or a range of two such dates separated by .."
+            + "\nExamples: 2022-10-15, Mon, tue, 2022-10-01..2022-10-31"
             + "\nDay-of-Week must be 3 letters and is case-insensitive";
+    public static final String INVALID_FIND_RANGE_MESSAGE = "The first date of a range should not be after the last";
+    private static final Pattern VALIDATION_STANDARD_CLASS_PATTERN = Pattern.compile(VALIDATION_STANDARD_CLASS_REGEX);
+    private static final Pattern VALIDATION_FLEXIBLE_CLASS_PATTERN = Pattern.compile(VALIDATION_FLEXIBLE_CLASS_REGEX);
 
     public final LocalDate date;
     public final LocalTime startTime;
@@ -210,7 +215,7 @@ public class Class {
      * @return true if format  {@code String VALIDATION_STANDARD_CLASS_REGEX}.
      */
     public static boolean isValidClassStringFormat(String classDateTime) {
-        return classDateTime.matches(VALIDATION_STANDARD_CLASS_REGEX);
+        return VALIDATION_STANDARD_CLASS_PATTERN.matcher(classDateTime).matches();
     }
 
     /**
@@ -237,7 +242,7 @@ public class Class {
      * @return true if a given string fits the format of 'Day-of-Week 0000-2359'.
      */
     public static boolean isValidFlexibleClassString(String classDateTime) {
-        if (!classDateTime.matches(VALIDATION_FLEXIBLE_CLASS_REGEX)) {
+        if (!VALIDATION_FLEXIBLE_CLASS_PATTERN.matcher(classDateTime).matches()) {
             return false;
         }
         String startTimeStr = classDateTime.substring(4, 8);
@@ -0,0 +1,180 @@
+package seedu.address.model.student;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import seedu.address.model.student.exceptions.ClassConflictException;
+
+/**
+ * Keeps the classes of students bucketed by date in date order, with each day's classes sorted by start time.
+ * Classes on the same day never overlap, so a conflict check only needs to look at the class that starts right
+ * before the end of the class being checked.
+ * A class ending at 0000 is treated as ending at midnight at the end of its day.
+ * Students without a class are not kept.
+ */
+public class ClassTimetable {
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    // date -> (start minute of day -> student)
+    private final TreeMap<LocalDate, TreeMap<Integer, Student>> classesByDate = new TreeMap<>();
+
+    /**
+     * Returns the student whose class overlaps with the class of {@code student}, ignoring the class of
+     * {@code excludedStudent}, which is about to be replaced. {@code excludedStudent} may be null.
+     */
+    public Optional<Student> getConflictingStudent(Student student, Student excludedStudent) {
+        requireNonNull(student);
+        Class aClass = student.getAClass();
+        if (aClass.isEmpty() || !classesByDate.containsKey(aClass.date)) {
+            return Optional.empty();
+        }
+        TreeMap<Integer, Student> classesOnDate = classesByDate.get(aClass.date);
+        int start = toStartMinute(aClass.startTime);
+        Map.Entry<Integer, Student> latestStarting = classesOnDate.lowerEntry(toEndMinute(aClass.endTime));
+        if (latestStarting != null && latestStarting.getValue().isSameStudent(excludedStudent)) {
+            // the excluded class is skipped; the class before it ends before it starts, so it is checked too
+            latestStarting = classesOnDate.lowerEntry(latestStarting.getKey());
+        }
+        if (latestStarting == null || toEndMinute(latestStarting.getValue().getAClass().endTime) <= start) {
+            return Optional.empty();
+        }
+        return Optional.of(latestStarting.getValue());
+    }
+
+    /**
+     * Adds the class of {@code student}, if any.
+     *
+     * @throws ClassConflictException if the class overlaps with another class.
+     */
+    public void add(Student student) {
+        requireNonNull(student);
+        if (student.hasEmptyClass()) {
+            return;
+        }
+        Optional<Student> conflictingStudent = getConflictingStudent(student, null);
+        if (conflictingStudent.isPresent()) {
+            throw new ClassConflictException(conflictingStudent.get());
+        }
+        Class aClass = student.getAClass();
+        classesByDate.computeIfAbsent(aClass.date, date -> new TreeMap<>())
+                .put(toStartMinute(aClass.startTime), student);
+    }
+
+    /**
+     * Removes the class of {@code student}, if any.
+     */
+    public void remove(Student student) {
+        requireNonNull(student);
+        if (student.hasEmptyClass()) {
+            return;
+        }
+        Class aClass = student.getAClass();
+        TreeMap<Integer, Student> classesOnDate = classesByDate.get(aClass.date);
+        if (classesOnDate == null) {
+            return;
+        }
+        int start = toStartMinute(aClass.startTime);
+        if (student.isSameStudent(classesOnDate.get(start))) {
+            classesOnDate.remove(start);
+        }
+        if (classesOnDate.isEmpty()) {
+            classesByDate.remove(aClass.date);
+        }
+    }
+
+    /**
+     * Replaces the class of {@code target} with the class of {@code editedStudent}.
+     *
+     * @throws ClassConflictException if the new class overlaps with a class other than that of {@code target}.
+     */
+    public void setStudent(Student target, Student editedStudent) {
+        requireAllNonNull(target, editedStudent);
+        Optional<Student> conflictingStudent = getConflictingStudent(editedStudent, target);
+        if (conflictingStudent.isPresent()) {
+            throw new ClassConflictException(conflictingStudent.get());
+        }
+        remove(target);
+        add(editedStudent);
+    }
+
+    /**
+     * Replaces the contents of this timetable with the classes of {@code replacement}.
+     */
+    public void setClasses(ClassTimetable replacement) {
+        requireNonNull(replacement);
+        classesByDate.clear();
+        replacement.classesByDate.forEach((date, classesOnDate) -> classesByDate.put(date,
+                new TreeMap<>(classesOnDate)));
+    }
+
+    /**
+     * Returns a timetable of the classes of {@code students}.
+     *
+     * @throws ClassConflictException if any two of the classes overlap.
+     */
+    public static ClassTimetable of(List<Student> students) {
+        requireNonNull(students);
+        ClassTimetable timetable = new ClassTimetable();
+        for (Student student : students) {
+            timetable.add(student);
+        }
+        return timetable;
+    }
+
+    /**
+     * Returns the students with a class on {@code date}, sorted by the start time of their class.
+     */
+    public List<Student> getStudentsOn(LocalDate date) {
+        requireNonNull(date);
+        TreeMap<Integer, Student> classesOnDate = classesByDate.get(date);
+        if (classesOnDate == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(new ArrayList<>(classesOnDate.values()));
+    }
+
+    /**
+     * Returns the students with a class from {@code startDate} to {@code endDate} inclusive, sorted by the date and
+     * start time of their class.
+     */
+    public List<Student> getStudentsBetween(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        if (startDate.isAfter(endDate)) {
+            return Collections.emptyList();
+        }
+        List<Student> students = new ArrayList<>();
+        classesByDate.subMap(startDate, true, endDate, true).values()
+                .forEach(classesOnDate -> students.addAll(classesOnDate.values()));
+        return Collections.unmodifiableList(students);
+    }
+
+    private static int toStartMinute(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static int toEndMinute(LocalTime time) {
+        int minute = toStartMinute(time);
+        return minute == 0 ? MINUTES_PER_DAY : minute;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ClassTimetable // instanceof handles nulls
+                && classesByDate.equals(((ClassTimetable) other).classesByDate));
+    }
+
+    @Override
+    public int hashCode() {
+        return classesByDate.hashCode();
+    }
+}
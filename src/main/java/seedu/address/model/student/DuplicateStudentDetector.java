@@ -0,0 +1,109 @@
+package seedu.address.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Finds students that share the same identity, as defined by {@code Student#isSameStudent(Student)}.
+ * Students are bucketed by their phone number, so a list is checked in a single pass.
+ */
+public class DuplicateStudentDetector {
+
+    private DuplicateStudentDetector() {}
+
+    /**
+     * Returns true if {@code students} contains only unique students.
+     */
+    public static boolean isUnique(List<Student> students) {
+        requireNonNull(students);
+        Map<Phone, Student> seen = new HashMap<>();
+        for (Student student : students) {
+            if (seen.putIfAbsent(student.getPhone(), student) != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns every duplicate in {@code students}, in the order they appear.
+     * Each later occurrence of an identity is paired with the first student that has the same identity.
+     */
+    public static List<Duplicate> findDuplicates(List<Student> students) {
+        requireNonNull(students);
+        Map<Phone, Integer> firstIndexByPhone = new HashMap<>();
+        List<Duplicate> duplicates = new ArrayList<>();
+        for (int i = 0; i < students.size(); i++) {
+            Integer firstIndex = firstIndexByPhone.putIfAbsent(students.get(i).getPhone(), i);
+            if (firstIndex != null) {
+                duplicates.add(new Duplicate(firstIndex, i, students.get(firstIndex)));
+            }
+        }
+        return Collections.unmodifiableList(duplicates);
+    }
+
+    /**
+     * Represents two positions in a list that hold students with the same identity.
+     */
+    public static class Duplicate {
+        private final int firstIndex;
+        private final int secondIndex;
+        private final Student firstStudent;
+
+        /**
+         * Constructs a {@code Duplicate} between the zero-based positions {@code firstIndex} and
+         * {@code secondIndex}, where {@code firstStudent} is the student at {@code firstIndex}.
+         */
+        public Duplicate(int firstIndex, int secondIndex, Student firstStudent) {
+            requireNonNull(firstStudent);
+            this.firstIndex = firstIndex;
+            this.secondIndex = secondIndex;
+            this.firstStudent = firstStudent;
+        }
+
+        public int getFirstIndex() {
+            return firstIndex;
+        }
+
+        public int getSecondIndex() {
+            return secondIndex;
+        }
+
+        public Phone getPhone() {
+            return firstStudent.getPhone();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof Duplicate)) {
+                return false;
+            }
+
+            Duplicate otherDuplicate = (Duplicate) other;
+            return firstIndex == otherDuplicate.firstIndex
+                    && secondIndex == otherDuplicate.secondIndex
+                    && firstStudent.equals(otherDuplicate.firstStudent);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(firstIndex, secondIndex, firstStudent);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Students %d and %d have the same phone number %s",
+                    firstIndex + 1, secondIndex + 1, getPhone());
+        }
+    }
+}
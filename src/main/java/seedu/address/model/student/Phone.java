@@ -3,6 +3,8 @@ package seedu.address.model.student;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Student's phone number or next of kin phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -14,6 +16,11 @@ public class Phone {
             "Phone numbers should only contain numbers, and it should start with 6, 8, or 9, "
                     + "and be exactly 8 digits long";
     public static final String VALIDATION_REGEX = "[689]\\d{7}";
+    public static final String MESSAGE_FIND_CONSTRAINTS =
+            "Phone numbers to find should only contain numbers, and be at most 8 digits long";
+    public static final String FIND_VALIDATION_REGEX = "\\d{1,8}";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final Pattern FIND_VALIDATION_PATTERN = Pattern.compile(FIND_VALIDATION_REGEX);
     public final String value;
 
     /**
@@ -31,7 +38,14 @@ public class Phone {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns true if a given string is a valid part of a phone number to find.
+     */
+    public static boolean isValidPhoneToFind(String test) {
+        return FIND_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
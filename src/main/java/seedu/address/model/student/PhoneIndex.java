@@ -0,0 +1,147 @@
+package seedu.address.model.student;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * An index from the digits of one phone number of students to the students whose number contains them.
+ * Each number is kept under every run of {@code GRAM_LENGTH} consecutive digits in it, of which there are at most
+ * {@code 10^GRAM_LENGTH}. A shorter run of digits is then found by combining the students under every run that
+ * contains it, and a longer run by checking only the students under the least common of its own runs.
+ * Students are kept by identity, as the model holds exactly one instance of each student.
+ */
+public class PhoneIndex {
+    public static final int GRAM_LENGTH = 3;
+
+    private final Function<Student, String> field;
+    private final Map<String, Set<Student>> studentsByGram = new HashMap<>();
+
+    /**
+     * Creates an empty index of the phone number given by {@code field}.
+     */
+    public PhoneIndex(Function<Student, String> field) {
+        requireNonNull(field);
+        this.field = field;
+    }
+
+    /**
+     * Adds the phone number of {@code student}.
+     */
+    public void add(Student student) {
+        requireNonNull(student);
+        for (String gram : getGrams(field.apply(student))) {
+            studentsByGram.computeIfAbsent(gram, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(student);
+        }
+    }
+
+    /**
+     * Removes the phone number of {@code student}.
+     */
+    public void remove(Student student) {
+        requireNonNull(student);
+        for (String gram : getGrams(field.apply(student))) {
+            Set<Student> students = studentsByGram.get(gram);
+            if (students == null) {
+                continue;
+            }
+            students.remove(student);
+            if (students.isEmpty()) {
+                studentsByGram.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Replaces the phone number of {@code target} with that of {@code editedStudent}.
+     */
+    public void setStudent(Student target, Student editedStudent) {
+        requireAllNonNull(target, editedStudent);
+        remove(target);
+        add(editedStudent);
+    }
+
+    /**
+     * Replaces the contents of this index with the phone numbers of {@code students}.
+     */
+    public void setStudents(List<Student> students) {
+        requireAllNonNull(students);
+        studentsByGram.clear();
+        students.forEach(this::add);
+    }
+
+    /**
+     * Returns the students whose phone number contains {@code digits}.
+     */
+    public Set<Student> getStudentsWithNumberContaining(String digits) {
+        requireNonNull(digits);
+        Set<Student> students = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (digits.length() > GRAM_LENGTH) {
+            Set<Student> candidates = getLeastCommonGramStudents(digits);
+            for (Student candidate : candidates) {
+                if (field.apply(candidate).contains(digits)) {
+                    students.add(candidate);
+                }
+            }
+            return students;
+        }
+        studentsByGram.forEach((gram, studentsWithGram) -> {
+            if (gram.contains(digits)) {
+                students.addAll(studentsWithGram);
+            }
+        });
+        return students;
+    }
+
+    /**
+     * Returns an estimate of the number of students whose phone number contains {@code digits}, which is never less
+     * than the actual number. Unlike {@link #getStudentsWithNumberContaining(String)}, no student is checked.
+     */
+    public int estimateStudentsWithNumberContaining(String digits) {
+        requireNonNull(digits);
+        if (digits.length() > GRAM_LENGTH) {
+            return getLeastCommonGramStudents(digits).size();
+        }
+        int estimate = 0;
+        for (Map.Entry<String, Set<Student>> entry : studentsByGram.entrySet()) {
+            if (entry.getKey().contains(digits)) {
+                estimate += entry.getValue().size();
+            }
+        }
+        return estimate;
+    }
+
+    private Set<Student> getLeastCommonGramStudents(String digits) {
+        Set<Student> leastCommon = null;
+        for (String gram : getGrams(digits)) {
+            Set<Student> students = studentsByGram.getOrDefault(gram, Collections.emptySet());
+            if (leastCommon == null || students.size() < leastCommon.size()) {
+                leastCommon = students;
+            }
+        }
+        return leastCommon;
+    }
+
+    /**
+     * Returns every run of {@code GRAM_LENGTH} digits in {@code number}, or {@code number} itself if it is shorter.
+     */
+    private static Set<String> getGrams(String number) {
+        if (number.length() <= GRAM_LENGTH) {
+            return Set.of(number);
+        }
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= number.length(); i++) {
+            grams.add(number.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
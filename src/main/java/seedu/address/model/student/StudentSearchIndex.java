@@ -0,0 +1,125 @@
+package seedu.address.model.student;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The indexes used to find students without testing every student.
+ * They are kept up to date with the students of a {@code TeachersPet}.
+ */
+public class StudentSearchIndex {
+    private final ClassTimetable timetable;
+    private final TokenIndex nameIndex = new TokenIndex(student -> student.getName().fullName);
+    private final TokenIndex emailIndex = new TokenIndex(student -> student.getEmail().value);
+    private final TokenIndex addressIndex = new TokenIndex(student -> student.getAddress().value);
+    private final PhoneIndex phoneIndex = new PhoneIndex(student -> student.getPhone().value);
+    private final PhoneIndex nokPhoneIndex = new PhoneIndex(student -> student.getNokPhone().value);
+    private final TagIndex tagIndex = new TagIndex();
+
+    /**
+     * Creates empty indexes, along with {@code timetable}, which is used to find students by their class and is kept
+     * up to date by its owner.
+     */
+    public StudentSearchIndex(ClassTimetable timetable) {
+        requireNonNull(timetable);
+        this.timetable = timetable;
+    }
+
+    /**
+     * Adds {@code student} to the indexes.
+     */
+    public void add(Student student) {
+        requireNonNull(student);
+        nameIndex.add(student);
+        emailIndex.add(student);
+        addressIndex.add(student);
+        phoneIndex.add(student);
+        nokPhoneIndex.add(student);
+        tagIndex.add(student);
+    }
+
+    /**
+     * Removes {@code student} from the indexes.
+     */
+    public void remove(Student student) {
+        requireNonNull(student);
+        nameIndex.remove(student);
+        emailIndex.remove(student);
+        addressIndex.remove(student);
+        phoneIndex.remove(student);
+        nokPhoneIndex.remove(student);
+        tagIndex.remove(student);
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedStudent} in the indexes.
+     */
+    public void setStudent(Student target, Student editedStudent) {
+        requireAllNonNull(target, editedStudent);
+        nameIndex.setStudent(target, editedStudent);
+        emailIndex.setStudent(target, editedStudent);
+        addressIndex.setStudent(target, editedStudent);
+        phoneIndex.setStudent(target, editedStudent);
+        nokPhoneIndex.setStudent(target, editedStudent);
+        tagIndex.setStudent(target, editedStudent);
+    }
+
+    /**
+     * Replaces the contents of the indexes with {@code students}.
+     */
+    public void setStudents(List<Student> students) {
+        requireAllNonNull(students);
+        nameIndex.setStudents(students);
+        emailIndex.setStudents(students);
+        addressIndex.setStudents(students);
+        phoneIndex.setStudents(students);
+        nokPhoneIndex.setStudents(students);
+        tagIndex.setStudents(students);
+    }
+
+    /**
+     * Returns every student in the indexes.
+     */
+    public Set<Student> getAllStudents() {
+        // every student has an ordinal in the tag index, whether or not it has tags
+        return tagIndex.getStudents(tagIndex.getAllOrdinals());
+    }
+
+    /**
+     * Returns the number of students in the indexes.
+     */
+    public int getStudentCount() {
+        return tagIndex.getAllOrdinals().cardinality();
+    }
+
+    public TokenIndex getNameIndex() {
+        return nameIndex;
+    }
+
+    public TokenIndex getEmailIndex() {
+        return emailIndex;
+    }
+
+    public TokenIndex getAddressIndex() {
+        return addressIndex;
+    }
+
+    public PhoneIndex getPhoneIndex() {
+        return phoneIndex;
+    }
+
+    public PhoneIndex getNokPhoneIndex() {
+        return nokPhoneIndex;
+    }
+
+    public TagIndex getTagIndex() {
+        return tagIndex;
+    }
+
+    public ClassTimetable getTimetable() {
+        return timetable;
+    }
+}
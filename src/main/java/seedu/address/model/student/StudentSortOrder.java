@@ -0,0 +1,91 @@
+package seedu.address.model.student;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The order that the students are shown in, which is kept with the user prefs rather than by reordering the students.
+ * Guarantees: immutable.
+ */
+public class StudentSortOrder {
+
+    /**
+     * {@code Type} specifies what the students can be sorted by.
+     */
+    public enum Type {
+        NAME,
+        CLASS,
+        OWED
+    }
+
+    /**
+     * {@code Order} specifies the directions the students can be sorted in.
+     */
+    public enum Order {
+        ASC,
+        DESC
+    }
+
+    private final Type type;
+    private final Order order;
+
+    /**
+     * Constructs a {@code StudentSortOrder} that shows the students in the order they were added.
+     */
+    public StudentSortOrder() {
+        type = null; // null represents the order the students were added in
+        order = null;
+    }
+
+    /**
+     * Constructs a {@code StudentSortOrder} that sorts the students by {@code type} in {@code order}.
+     */
+    public StudentSortOrder(Type type, Order order) {
+        requireAllNonNull(type, order);
+        this.type = type;
+        this.order = order;
+    }
+
+    /**
+     * Returns the comparator that sorts the students in this order, or an empty {@code Optional} if the students are
+     * shown in the order they were added.
+     */
+    public Optional<Comparator<Student>> getComparator() {
+        if (type == null) {
+            return Optional.empty();
+        }
+        switch (type) {
+        case NAME:
+            return Optional.of(order == Order.ASC ? Student::compareToByNameAsc : Student::compareToByNameDesc);
+        case CLASS:
+            return Optional.of(order == Order.ASC ? Student::compareToByClassAsc : Student::compareToByClassDesc);
+        case OWED:
+            return Optional.of(order == Order.ASC
+                    ? Student::compareToByMoneyOwedAsc
+                    : Student::compareToByMoneyOwedDesc);
+        default:
+            throw new AssertionError("Unknown sort type " + type);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StudentSortOrder // instanceof handles nulls
+                && type == ((StudentSortOrder) other).type
+                && order == ((StudentSortOrder) other).order); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, order);
+    }
+
+    @Override
+    public String toString() {
+        return type == null ? "Order added" : type + " " + order;
+    }
+}
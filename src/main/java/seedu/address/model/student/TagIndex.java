@@ -0,0 +1,167 @@
+package seedu.address.model.student;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * An index from each tag to the students that have it, kept as a {@code BitSet} of student ordinals.
+ * Every student is given an ordinal when added, which it keeps when edited. Ordinals freed by removed students are
+ * given to the next students added, so the ordinals stay close to the number of students.
+ * Tags are compared in lower case, and students are kept by identity, as the model holds exactly one instance of
+ * each student.
+ */
+public class TagIndex {
+    private final Map<Student, Integer> ordinals = new IdentityHashMap<>();
+    private final List<Student> studentsByOrdinal = new ArrayList<>();
+    private final BitSet usedOrdinals = new BitSet();
+    private final Map<String, BitSet> ordinalsByTag = new HashMap<>();
+
+    /**
+     * Returns {@code tagName} in the form that tags are kept in.
+     */
+    public static String normalize(String tagName) {
+        return tagName.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Adds the tags of {@code student}, giving it the lowest free ordinal.
+     */
+    public void add(Student student) {
+        requireNonNull(student);
+        int ordinal = usedOrdinals.nextClearBit(0);
+        usedOrdinals.set(ordinal);
+        if (ordinal == studentsByOrdinal.size()) {
+            studentsByOrdinal.add(student);
+        } else {
+            studentsByOrdinal.set(ordinal, student);
+        }
+        ordinals.put(student, ordinal);
+        addTags(student, ordinal);
+    }
+
+    /**
+     * Removes the tags of {@code student} and frees its ordinal.
+     */
+    public void remove(Student student) {
+        requireNonNull(student);
+        Integer ordinal = ordinals.remove(student);
+        if (ordinal == null) {
+            return;
+        }
+        removeTags(student, ordinal);
+        studentsByOrdinal.set(ordinal, null);
+        usedOrdinals.clear(ordinal);
+    }
+
+    /**
+     * Replaces the tags of {@code target} with those of {@code editedStudent}, which takes the ordinal of
+     * {@code target}.
+     */
+    public void setStudent(Student target, Student editedStudent) {
+        requireAllNonNull(target, editedStudent);
+        Integer ordinal = ordinals.remove(target);
+        if (ordinal == null) {
+            add(editedStudent);
+            return;
+        }
+        removeTags(target, ordinal);
+        studentsByOrdinal.set(ordinal, editedStudent);
+        ordinals.put(editedStudent, ordinal);
+        addTags(editedStudent, ordinal);
+    }
+
+    /**
+     * Replaces the contents of this index with the tags of {@code students}.
+     */
+    public void setStudents(List<Student> students) {
+        requireAllNonNull(students);
+        ordinals.clear();
+        studentsByOrdinal.clear();
+        usedOrdinals.clear();
+        ordinalsByTag.clear();
+        students.forEach(this::add);
+    }
+
+    /**
+     * Returns the ordinals of every student in this index.
+     * The returned {@code BitSet} is a copy and may be modified.
+     */
+    public BitSet getAllOrdinals() {
+        return (BitSet) usedOrdinals.clone();
+    }
+
+    /**
+     * Returns the ordinals of the students with the tag {@code tagName}, ignoring case.
+     * The returned {@code BitSet} is a copy and may be modified.
+     */
+    public BitSet getOrdinalsWithTag(String tagName) {
+        requireNonNull(tagName);
+        BitSet tagOrdinals = ordinalsByTag.get(normalize(tagName));
+        return tagOrdinals == null ? new BitSet() : (BitSet) tagOrdinals.clone();
+    }
+
+    /**
+     * Returns the students with the given {@code ordinals}.
+     */
+    public Set<Student> getStudents(BitSet ordinals) {
+        requireNonNull(ordinals);
+        Set<Student> students = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = ordinals.nextSetBit(0); i >= 0 && i < studentsByOrdinal.size(); i = ordinals.nextSetBit(i + 1)) {
+            Student student = studentsByOrdinal.get(i);
+            if (student != null) {
+                students.add(student);
+            }
+        }
+        return students;
+    }
+
+    /**
+     * Returns the number of students with the tag {@code tagName}, ignoring case.
+     */
+    public int getStudentCount(String tagName) {
+        requireNonNull(tagName);
+        BitSet tagOrdinals = ordinalsByTag.get(normalize(tagName));
+        return tagOrdinals == null ? 0 : tagOrdinals.cardinality();
+    }
+
+    /**
+     * Returns the number of students with each tag, by the lower case name of the tag.
+     */
+    public Map<String, Integer> getStudentCounts() {
+        Map<String, Integer> counts = new HashMap<>();
+        ordinalsByTag.forEach((tagName, tagOrdinals) -> counts.put(tagName, tagOrdinals.cardinality()));
+        return Collections.unmodifiableMap(counts);
+    }
+
+    private void addTags(Student student, int ordinal) {
+        for (Tag tag : student.getTags()) {
+            ordinalsByTag.computeIfAbsent(normalize(tag.tagName), unused -> new BitSet()).set(ordinal);
+        }
+    }
+
+    private void removeTags(Student student, int ordinal) {
+        for (Tag tag : student.getTags()) {
+            String tagName = normalize(tag.tagName);
+            BitSet tagOrdinals = ordinalsByTag.get(tagName);
+            if (tagOrdinals == null) {
+                continue;
+            }
+            tagOrdinals.clear(ordinal);
+            if (tagOrdinals.isEmpty()) {
+                ordinalsByTag.remove(tagName);
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package seedu.address.model.student;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * An inverted index from the words of one text field of students to the students whose field contains them.
+ * Words are separated by whitespace and compared in lower case, in the same way as
+ * {@code StringUtil#containsWordIgnoreCase(String, String)}.
+ * Students are kept by identity, as the model holds exactly one instance of each student.
+ * The words are also kept in a {@code TrigramIndex}, to find students by words with typing mistakes or by part of a
+ * word without checking every word.
+ */
+public class TokenIndex {
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Function<Student, String> field;
+    private final Map<String, Set<Student>> studentsByToken = new HashMap<>();
+    private final TrigramIndex trigramIndex = new TrigramIndex();
+
+    /**
+     * Creates an empty index of the field given by {@code field}.
+     */
+    public TokenIndex(Function<Student, String> field) {
+        requireNonNull(field);
+        this.field = field;
+    }
+
+    /**
+     * Returns {@code word} in the form that words are kept in.
+     */
+    public static String normalize(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Adds the words of the field of {@code student}.
+     */
+    public void add(Student student) {
+        requireNonNull(student);
+        for (String token : tokenize(field.apply(student))) {
+            studentsByToken.computeIfAbsent(token, this::createTokenEntry).add(student);
+        }
+    }
+
+    /**
+     * Removes the words of the field of {@code student}.
+     */
+    public void remove(Student student) {
+        requireNonNull(student);
+        for (String token : tokenize(field.apply(student))) {
+            Set<Student> students = studentsByToken.get(token);
+            if (students == null) {
+                continue;
+            }
+            students.remove(student);
+            if (students.isEmpty()) {
+                studentsByToken.remove(token);
+                trigramIndex.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Replaces the words of the field of {@code target} with those of {@code editedStudent}.
+     */
+    public void setStudent(Student target, Student editedStudent) {
+        requireAllNonNull(target, editedStudent);
+        remove(target);
+        add(editedStudent);
+    }
+
+    /**
+     * Replaces the contents of this index with the words of the fields of {@code students}.
+     */
+    public void setStudents(List<Student> students) {
+        requireAllNonNull(students);
+        studentsByToken.clear();
+        trigramIndex.clear();
+        students.forEach(this::add);
+    }
+
+    /**
+     * Returns the students whose field contains {@code word}, ignoring case.
+     */
+    public Set<Student> getStudentsWithWord(String word) {
+        requireNonNull(word);
+        Set<Student> students = studentsByToken.getOrDefault(normalize(word.trim()), Collections.emptySet());
+        return Collections.unmodifiableSet(students);
+    }
+
+    /**
+     * Returns the students whose field contains a word that contains {@code part}, ignoring case.
+     * The words are found in the {@code TrigramIndex}.
+     */
+    public Set<Student> getStudentsWithWordContaining(String part) {
+        requireNonNull(part);
+        Set<Student> students = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String word : trigramIndex.getWordsContaining(normalize(part))) {
+            students.addAll(studentsByToken.get(word));
+        }
+        return students;
+    }
+
+    /**
+     * Returns the students whose field contains a word within {@code maxDistance} typing mistakes of {@code word},
+     * ignoring case, along with the distance of the closest such word in the field of each student.
+     * The words are found in the {@code TrigramIndex}, so {@code maxDistance} is bounded as described in
+     * {@link TrigramIndex#getWordsWithin(String, int)}.
+     */
+    public Map<Student, Integer> getStudentsWithWordSimilarTo(String word, int maxDistance) {
+        requireNonNull(word);
+        Map<Student, Integer> students = new IdentityHashMap<>();
+        String normalizedWord = normalize(word.trim());
+        Map<String, Integer> similarWords = maxDistance == 0
+                ? (studentsByToken.containsKey(normalizedWord) ? Map.of(normalizedWord, 0) : Map.of())
+                : trigramIndex.getWordsWithin(normalizedWord, maxDistance);
+        similarWords.forEach((similarWord, distance) -> {
+            for (Student student : studentsByToken.get(similarWord)) {
+                students.merge(student, distance, Math::min);
+            }
+        });
+        return students;
+    }
+
+    private Set<Student> createTokenEntry(String token) {
+        trigramIndex.add(token);
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private static Set<String> tokenize(String value) {
+        Set<String> tokens = new HashSet<>();
+        for (String token : WHITESPACE.split(value)) {
+            if (!token.isEmpty()) {
+                tokens.add(normalize(token));
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,215 @@
+package seedu.address.model.student;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An index from runs of {@code GRAM_LENGTH} consecutive characters to the words that contain them, used to find the
+ * words that are within a few typing mistakes of a given word, or that contain a given part of a word.
+ * Each word is padded with {@code GRAM_LENGTH - 1} spaces on either side before it is split into runs, so a word of
+ * length n has n + 2 runs. As one insertion, deletion or substitution changes at most {@code GRAM_LENGTH} of the runs,
+ * a word within distance d of another shares all but at most {@code GRAM_LENGTH * d} of its runs. Only the words
+ * sharing that many runs are then compared character by character.
+ * Every word is given an id when added, in the same way as student ordinals in {@code TagIndex}, and each run is
+ * kept with an array of the ids of its words, so that the runs shared with every word can be counted in an array.
+ */
+public class TrigramIndex {
+    public static final int GRAM_LENGTH = 3;
+
+    private static final String PADDING = " ".repeat(GRAM_LENGTH - 1);
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> wordsById = new ArrayList<>();
+    private final BitSet usedIds = new BitSet();
+    private final Map<String, IdList> idsByGram = new HashMap<>();
+
+    /**
+     * Adds {@code word}, which cannot contain whitespace, giving it the lowest free id.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        if (ids.containsKey(word)) {
+            return;
+        }
+        int id = usedIds.nextClearBit(0);
+        usedIds.set(id);
+        if (id == wordsById.size()) {
+            wordsById.add(word);
+        } else {
+            wordsById.set(id, word);
+        }
+        ids.put(word, id);
+        for (String gram : getGrams(word)) {
+            idsByGram.computeIfAbsent(gram, unused -> new IdList()).add(id);
+        }
+    }
+
+    /**
+     * Removes {@code word} and frees its id.
+     */
+    public void remove(String word) {
+        requireNonNull(word);
+        Integer id = ids.remove(word);
+        if (id == null) {
+            return;
+        }
+        for (String gram : getGrams(word)) {
+            IdList gramIds = idsByGram.get(gram);
+            gramIds.remove(id);
+            if (gramIds.size == 0) {
+                idsByGram.remove(gram);
+            }
+        }
+        wordsById.set(id, null);
+        usedIds.clear(id);
+    }
+
+    /**
+     * Removes every word.
+     */
+    public void clear() {
+        ids.clear();
+        wordsById.clear();
+        usedIds.clear();
+        idsByGram.clear();
+    }
+
+    /**
+     * Returns the largest distance that words can be found within of {@code word}, which is the largest distance
+     * that leaves them at least one run in common with it.
+     */
+    public static int getMaxDistanceSupported(String word) {
+        requireNonNull(word);
+        return (getGrams(word).size() - 1) / GRAM_LENGTH;
+    }
+
+    /**
+     * Returns the words within {@code maxDistance} insertions, deletions and substitutions of {@code word}, along
+     * with their distance from it.
+     *
+     * @param maxDistance cannot be negative or more than {@link #getMaxDistanceSupported(String)} of {@code word}.
+     */
+    public Map<String, Integer> getWordsWithin(String word, int maxDistance) {
+        requireNonNull(word);
+        Set<String> grams = getGrams(word);
+        int minSharedGrams = grams.size() - GRAM_LENGTH * maxDistance;
+        checkArgument(maxDistance >= 0 && minSharedGrams > 0, "Maximum distance is too large for " + word);
+
+        // a word becomes a candidate when the count of runs it shares reaches the minimum, so each is listed once
+        int[] sharedGrams = new int[wordsById.size()];
+        IdList candidates = new IdList();
+        for (String gram : grams) {
+            IdList gramIds = idsByGram.get(gram);
+            if (gramIds == null) {
+                continue;
+            }
+            for (int i = 0; i < gramIds.size; i++) {
+                int id = gramIds.ids[i];
+                if (++sharedGrams[id] == minSharedGrams
+                        && Math.abs(wordsById.get(id).length() - word.length()) <= maxDistance) {
+                    candidates.add(id);
+                }
+            }
+        }
+
+        Map<String, Integer> words = new HashMap<>();
+        for (int i = 0; i < candidates.size; i++) {
+            String candidate = wordsById.get(candidates.ids[i]);
+            int distance = StringUtil.getEditDistance(word, candidate, maxDistance);
+            if (distance <= maxDistance) {
+                words.put(candidate, distance);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns the words that contain {@code part}.
+     * The words are looked up under the least common run of {@code part}, or under every run that contains
+     * {@code part} if it is shorter than {@code GRAM_LENGTH}, and are then checked in the same way as in
+     * {@code PhoneIndex}.
+     */
+    public Set<String> getWordsContaining(String part) {
+        requireNonNull(part);
+        Set<String> words = new HashSet<>();
+        if (part.chars().anyMatch(Character::isWhitespace)) {
+            // no word contains whitespace, and the padding of the runs must not be matched
+            return words;
+        }
+        if (part.length() < GRAM_LENGTH) {
+            idsByGram.forEach((gram, gramIds) -> {
+                if (gram.contains(part)) {
+                    for (int i = 0; i < gramIds.size; i++) {
+                        words.add(wordsById.get(gramIds.ids[i]));
+                    }
+                }
+            });
+            return words;
+        }
+
+        IdList leastCommon = null;
+        for (int i = 0; i + GRAM_LENGTH <= part.length(); i++) {
+            IdList gramIds = idsByGram.get(part.substring(i, i + GRAM_LENGTH));
+            if (gramIds == null) {
+                return words;
+            }
+            if (leastCommon == null || gramIds.size < leastCommon.size) {
+                leastCommon = gramIds;
+            }
+        }
+        for (int i = 0; i < leastCommon.size; i++) {
+            String word = wordsById.get(leastCommon.ids[i]);
+            if (word.contains(part)) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static Set<String> getGrams(String word) {
+        String padded = PADDING + word + PADDING;
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    /**
+     * A growable array of word ids, in no particular order.
+     */
+    private static class IdList {
+        private int[] ids = new int[4];
+        private int size;
+
+        private void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        /**
+         * Removes {@code id} by moving the last id into its place.
+         */
+        private void remove(int id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    ids[i] = ids[--size];
+                    return;
+                }
+            }
+        }
+    }
+}
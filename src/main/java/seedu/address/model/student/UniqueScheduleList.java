@@ -4,8 +4,12 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
@@ -20,22 +24,27 @@ import seedu.address.model.student.exceptions.StudentNotFoundException;
  * the student being added or updated is unique in terms of identity in the UniqueStudentList.
  * However, the removal of a student uses Student#equals(Object) so the student with exactly the same fields will be
  * removed.
+ * The students are kept indexed by {@code Phone}, and the students that have a class today are kept sorted by
+ * class time. A change to one student only inserts, removes or replaces that student in today's schedule.
  * Supports a minimal set of list operations.
  *
  * @see Student#isSameStudent (Student)
  */
 public class UniqueScheduleList implements Iterable<Student> {
-    private final ObservableList<Student> internalList = FXCollections.observableArrayList();
+    private static final Comparator<Student> SCHEDULE_ORDER = Student::compareToByClassAsc;
+
+    private final Map<Phone, Student> studentsByPhone = new LinkedHashMap<>();
     private final ObservableList<Student> internalListRef = FXCollections.observableArrayList();
     private final ObservableList<Student> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalListRef);
+    private LocalDate scheduleDate = LocalDate.now();
 
     /**
      * Returns true if the list contains an equivalent student as the given argument.
      */
     public boolean contains(Student toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameStudent);
+        return studentsByPhone.containsKey(toCheck.getPhone());
     }
 
     /**
@@ -47,8 +56,9 @@ public class UniqueScheduleList implements Iterable<Student> {
         if (contains(toAdd)) {
             throw new DuplicateStudentException();
         }
-        internalList.add(toAdd);
-        updateInternalListRef();
+        refreshIfDateChanged();
+        studentsByPhone.put(toAdd.getPhone(), toAdd);
+        addToSchedule(toAdd);
     }
 
     /**
@@ -58,16 +68,27 @@ public class UniqueScheduleList implements Iterable<Student> {
      */
     public void setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new StudentNotFoundException();
-        }
+        Student existingStudent = getExistingStudent(target);
 
         if (!target.isSameStudent(editedStudent) && contains(editedStudent)) {
             throw new DuplicateStudentException();
         }
-        internalList.set(index, editedStudent);
-        updateInternalListRef();
+        refreshIfDateChanged();
+        if (existingStudent.getPhone().equals(editedStudent.getPhone())) {
+            // keeps the student where it was, which also decides its place among students with the same class time
+            studentsByPhone.replace(editedStudent.getPhone(), editedStudent);
+        } else {
+            studentsByPhone.remove(existingStudent.getPhone());
+            studentsByPhone.put(editedStudent.getPhone(), editedStudent);
+        }
+
+        if (isScheduled(existingStudent) && isScheduled(editedStudent)
+                && SCHEDULE_ORDER.compare(existingStudent, editedStudent) == 0) {
+            internalListRef.set(scheduleIndexOf(existingStudent), editedStudent);
+        } else {
+            removeFromSchedule(existingStudent);
+            addToSchedule(editedStudent);
+        }
     }
 
     /**
@@ -76,15 +97,16 @@ public class UniqueScheduleList implements Iterable<Student> {
      */
     public void remove(Student toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new StudentNotFoundException();
-        }
-        updateInternalListRef();
+        Student existingStudent = getExistingStudent(toRemove);
+        refreshIfDateChanged();
+        studentsByPhone.remove(existingStudent.getPhone());
+        removeFromSchedule(existingStudent);
     }
 
     public void setStudents(UniqueScheduleList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        studentsByPhone.clear();
+        studentsByPhone.putAll(replacement.studentsByPhone);
         updateInternalListRef();
     }
 
@@ -94,71 +116,145 @@ public class UniqueScheduleList implements Iterable<Student> {
      */
     public void setStudents(List<Student> students) {
         requireAllNonNull(students);
-        if (!studentsAreUnique(students)) {
+        if (!DuplicateStudentDetector.isUnique(students)) {
             throw new DuplicateStudentException();
         }
 
-        internalList.setAll(students);
+        studentsByPhone.clear();
+        for (Student student : students) {
+            studentsByPhone.put(student.getPhone(), student);
+        }
         updateInternalListRef();
     }
 
+    /**
+     * Returns the stored student that is equal to {@code student}, looked up by its phone number.
+     *
+     * @throws StudentNotFoundException if no such student is in the list.
+     */
+    private Student getExistingStudent(Student student) {
+        Student existingStudent = studentsByPhone.get(student.getPhone());
+        if (existingStudent == null || !existingStudent.equals(student)) {
+            throw new StudentNotFoundException();
+        }
+        return existingStudent;
+    }
+
+    /**
+     * Returns true if {@code student} has a class on the date of the schedule.
+     */
+    private boolean isScheduled(Student student) {
+        return scheduleDate.equals(student.getAClass().date);
+    }
+
+    /**
+     * Inserts {@code student} into today's schedule after all students with the same class time,
+     * if the student has a class today.
+     */
+    private void addToSchedule(Student student) {
+        if (!isScheduled(student)) {
+            return;
+        }
+        int low = 0;
+        int high = internalListRef.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (SCHEDULE_ORDER.compare(internalListRef.get(mid), student) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        internalListRef.add(low, student);
+    }
+
+    /**
+     * Removes the stored {@code student} from today's schedule, if the student has a class today.
+     */
+    private void removeFromSchedule(Student student) {
+        if (!isScheduled(student)) {
+            return;
+        }
+        internalListRef.remove(scheduleIndexOf(student));
+    }
+
+    /**
+     * Returns the position of the stored {@code student} in today's schedule.
+     * The position is found by binary search on the class time, then by reference among students with the same
+     * class time.
+     */
+    private int scheduleIndexOf(Student student) {
+        int low = 0;
+        int high = internalListRef.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (SCHEDULE_ORDER.compare(internalListRef.get(mid), student) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        for (int i = low; i < internalListRef.size(); i++) {
+            if (internalListRef.get(i) == student) {
+                return i;
+            }
+        }
+        throw new StudentNotFoundException();
+    }
+
     /**
      *  Updates the {@code List<Student>} to ensure they have the correct display class date
      *  and returns a {@code List<Student>} which contains the filtered student list.
      */
     private List<Student> getScheduleList() {
 
-        return internalList
+        return studentsByPhone.values()
                 .stream()
-                .filter(student -> LocalDate.now().equals(student.getAClass().date))
-                .sorted(Student::compareToByClassAsc)
+                .filter(this::isScheduled)
+                .sorted(SCHEDULE_ORDER)
                 .collect(Collectors.toList());
     }
 
     /**
-     * Update internalListRef
+     * Rebuilds today's schedule from every student.
      */
     private void updateInternalListRef() {
-        List<Student> list = getScheduleList();
-        internalListRef.setAll(FXCollections.observableList(list));
+        scheduleDate = LocalDate.now();
+        internalListRef.setAll(getScheduleList());
+    }
+
+    /**
+     * Rebuilds today's schedule if the date has changed since it was last built.
+     */
+    private void refreshIfDateChanged() {
+        if (!scheduleDate.equals(LocalDate.now())) {
+            updateInternalListRef();
+        }
     }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
     public ObservableList<Student> asUnmodifiableObservableList() {
-        updateInternalListRef();
+        refreshIfDateChanged();
         return internalUnmodifiableList;
     }
 
     @Override
     public Iterator<Student> iterator() {
-        return internalList.iterator();
+        return studentsByPhone.values().iterator();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof UniqueScheduleList // instanceof handles nulls
-                        && internalList.equals(((UniqueScheduleList) other).internalList));
+                        && new ArrayList<>(studentsByPhone.values())
+                                .equals(new ArrayList<>(((UniqueScheduleList) other).studentsByPhone.values())));
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
-    }
-
-    /**
-     * Returns true if {@code students} contains only unique students.
-     */
-    private boolean studentsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).isSameStudent(students.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return new ArrayList<>(studentsByPhone.values()).hashCode();
     }
 }
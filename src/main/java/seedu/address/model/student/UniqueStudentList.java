@@ -3,10 +3,10 @@ package seedu.address.model.student;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +20,10 @@ import seedu.address.model.student.exceptions.StudentNotFoundException;
  * to ensure that the student being added or updated is unique in terms of identity in the UniqueStudentList.
  * However, the removal of a student uses Student#equals(Object) so the student with exactly the same fields will be
  * removed.
+ * Since the identity of a student is its phone number, the students are also indexed by {@code Phone} so that
+ * identity lookups do not need to scan the whole list. The position of each student is kept by phone number too,
+ * and is brought up to date lazily from the first position that an insertion or removal shifted. Such a shift
+ * already costs as much in the backing list, so finding a student to replace or remove is O(1) amortized.
  * Supports a minimal set of list operations.
  *
  * @see Student#isSameStudent(Student)
@@ -29,13 +33,17 @@ public class UniqueStudentList implements Iterable<Student> {
     private final ObservableList<Student> internalList = FXCollections.observableArrayList();
     private final ObservableList<Student> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Phone, Student> studentsByPhone = new HashMap<>();
+    private final Map<Phone, Integer> positionsByPhone = new HashMap<>();
+    // positions in positionsByPhone below this are up to date
+    private int validPositions = 0;
 
     /**
      * Returns true if the list contains an equivalent student as the given argument.
      */
     public boolean contains(Student toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameStudent);
+        return studentsByPhone.containsKey(toCheck.getPhone());
     }
 
     /**
@@ -47,42 +55,88 @@ public class UniqueStudentList implements Iterable<Student> {
         if (contains(toAdd)) {
             throw new DuplicateStudentException();
         }
+        studentsByPhone.put(toAdd.getPhone(), toAdd);
+        positionsByPhone.put(toAdd.getPhone(), internalList.size());
+        if (validPositions == internalList.size()) {
+            validPositions++;
+        }
         internalList.add(toAdd);
     }
 
     /**
-     * Replaces the student {@code target} in the list with {@code editedStudent}.
+     * Adds a student to the list at the given {@code index}.
+     * The student must not already exist in the list.
+     */
+    public void add(int index, Student toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateStudentException();
+        }
+        studentsByPhone.put(toAdd.getPhone(), toAdd);
+        invalidatePositionsFrom(index);
+        internalList.add(index, toAdd);
+    }
+
+    /**
+     * Adds {@code toAdd} to the end of the list as a single change.
+     * The students must not already exist in the list or share an identity with each other.
+     */
+    public void addAll(List<Student> toAdd) {
+        requireAllNonNull(toAdd);
+        if (!DuplicateStudentDetector.isUnique(toAdd) || toAdd.stream().anyMatch(this::contains)) {
+            throw new DuplicateStudentException();
+        }
+        for (Student student : toAdd) {
+            studentsByPhone.put(student.getPhone(), student);
+        }
+        invalidatePositionsFrom(internalList.size());
+        internalList.addAll(toAdd);
+    }
+
+    /**
+     * Replaces the student {@code target} in the list with {@code editedStudent} and returns the index it is at.
      * {@code target} must exist in the list.
      * The student identity of {@code editedStudent} must not be the same as another existing student in the list.
      */
-    public void setStudent(Student target, Student editedStudent) {
+    public int setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new StudentNotFoundException();
-        }
+        Student existingStudent = getExistingStudent(target);
 
         if (!target.isSameStudent(editedStudent) && contains(editedStudent)) {
             throw new DuplicateStudentException();
         }
 
+        int index = indexOf(existingStudent);
+        studentsByPhone.remove(existingStudent.getPhone());
+        studentsByPhone.put(editedStudent.getPhone(), editedStudent);
+        positionsByPhone.remove(existingStudent.getPhone());
+        positionsByPhone.put(editedStudent.getPhone(), index);
         internalList.set(index, editedStudent);
+        return index;
     }
 
     /**
-     * Removes the equivalent student from the list.
+     * Removes the equivalent student from the list and returns the index it was at.
      * The student must exist in the list.
      */
-    public void remove(Student toRemove) {
+    public int remove(Student toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new StudentNotFoundException();
-        }
+        Student existingStudent = getExistingStudent(toRemove);
+        int index = indexOf(existingStudent);
+        studentsByPhone.remove(existingStudent.getPhone());
+        positionsByPhone.remove(existingStudent.getPhone());
+        invalidatePositionsFrom(index);
+        internalList.remove(index);
+        return index;
     }
 
     public void setStudents(UniqueStudentList replacement) {
         requireNonNull(replacement);
+        studentsByPhone.clear();
+        studentsByPhone.putAll(replacement.studentsByPhone);
+        positionsByPhone.clear();
+        validPositions = 0;
         internalList.setAll(replacement.internalList);
     }
 
@@ -92,45 +146,63 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void setStudents(List<Student> students) {
         requireAllNonNull(students);
-        if (!studentsAreUnique(students)) {
+        if (!DuplicateStudentDetector.isUnique(students)) {
             throw new DuplicateStudentException();
         }
 
+        studentsByPhone.clear();
+        for (Student student : students) {
+            studentsByPhone.put(student.getPhone(), student);
+        }
+        positionsByPhone.clear();
+        validPositions = 0;
         internalList.setAll(students);
     }
 
     /**
-     * Sorts the {@code internalList} by the given {@code comparator}.
+     * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
-    public void sortStudents(Comparator<Student> comparator) {
-        requireNonNull(comparator);
-        ArrayList<Student> sortedList = replaceSort(internalList, comparator);
-        internalList.setAll(sortedList);
+    public ObservableList<Student> asUnmodifiableObservableList() {
+        return internalUnmodifiableList;
     }
 
-
-    private static ArrayList<Student> replaceSort(
-            ObservableList<Student> observableList, Comparator<Student> comparator) {
-        ArrayList<Student> duplicatedList = new ArrayList<>();
-        for (int i = 0; i < observableList.size(); i++) {
-            duplicatedList.add(observableList.get(i));
+    /**
+     * Returns the stored student that is equal to {@code student}, looked up by its phone number.
+     * Indexes that key students by identity must be given the stored student rather than an equal one.
+     *
+     * @throws StudentNotFoundException if no such student is in the list.
+     */
+    public Student getExistingStudent(Student student) {
+        requireNonNull(student);
+        Student existingStudent = studentsByPhone.get(student.getPhone());
+        if (existingStudent == null || !existingStudent.equals(student)) {
+            throw new StudentNotFoundException();
         }
-        duplicatedList.sort(comparator);
-        return duplicatedList;
+        return existingStudent;
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Returns the position of the stored {@code student} in the list.
+     * Positions from the first one that was shifted are brought up to date first, if needed.
      */
-    public ObservableList<Student> asUnmodifiableObservableList() {
-        return internalUnmodifiableList;
+    private int indexOf(Student student) {
+        Integer position = positionsByPhone.get(student.getPhone());
+        if (position == null || position >= validPositions) {
+            for (int i = validPositions; i < internalList.size(); i++) {
+                positionsByPhone.put(internalList.get(i).getPhone(), i);
+            }
+            validPositions = internalList.size();
+            position = positionsByPhone.get(student.getPhone());
+        }
+        assert position != null && internalList.get(position) == student;
+        return position;
     }
 
     /**
-     * Returns the current list.
+     * Marks the positions from {@code index} onwards as out of date.
      */
-    public ObservableList<Student> getInternalList() {
-        return internalList;
+    private void invalidatePositionsFrom(int index) {
+        validPositions = Math.min(validPositions, index);
     }
 
     @Override
@@ -149,18 +221,4 @@ public class UniqueStudentList implements Iterable<Student> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code students} contains only unique students.
-     */
-    private boolean studentsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).isSameStudent(students.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
@@ -0,0 +1,24 @@
+package seedu.address.model.student.exceptions;
+
+import seedu.address.model.student.Student;
+
+/**
+ * Signals that the operation will result in two classes that overlap in time.
+ */
+public class ClassConflictException extends RuntimeException {
+    private final Student conflictingStudent;
+
+    /**
+     * Constructs a {@code ClassConflictException} for a class that overlaps with the class of
+     * {@code conflictingStudent}.
+     */
+    public ClassConflictException(Student conflictingStudent) {
+        super(String.format("%s currently has a class on %s.", conflictingStudent.getName(),
+                conflictingStudent.getAClass()));
+        this.conflictingStudent = conflictingStudent;
+    }
+
+    public Student getConflictingStudent() {
+        return conflictingStudent;
+    }
+}
@@ -1,14 +1,18 @@
 package seedu.address.model.student.predicate;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentSearchIndex;
+import seedu.address.model.student.TokenIndex;
 
 /**
  * Tests that a {@code Student}'s {@code Address} matches any of the keywords given.
  */
-public class AddressContainsKeywordsPredicate implements Predicate<Student> {
+public class AddressContainsKeywordsPredicate implements IndexedPredicate {
     private final List<String> keywords;
 
     public AddressContainsKeywordsPredicate(List<String> keywords) {
@@ -25,6 +29,14 @@ public class AddressContainsKeywordsPredicate implements Predicate<Student> {
         return false;
     }
 
+    @Override
+    public Set<Student> findMatches(StudentSearchIndex index) {
+        TokenIndex addressIndex = index.getAddressIndex();
+        Set<Student> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        keywords.forEach(keyword -> matches.addAll(addressIndex.getStudentsWithWordContaining(keyword)));
+        return matches;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -0,0 +1,146 @@
+package seedu.address.model.student.predicate;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentSearchIndex;
+
+/**
+ * Tests that a {@code Student} satisfies every one of the predicates given.
+ * To find the matches, the predicate that can be looked up in the search index with the fewest estimated matches is
+ * looked up first, and only its matches are tested by the other predicates. If none of the predicates can be looked
+ * up, every student is tested. The plan chosen is logged at the {@code FINE} level, and shown by {@code find v/}.
+ */
+public class AllOfPredicate implements IndexedPredicate {
+    private static final Logger logger = LogsCenter.getLogger(AllOfPredicate.class);
+
+    private final List<Predicate<Student>> predicates;
+
+    /**
+     * Creates a predicate that is satisfied by students satisfying every one of {@code predicates}.
+     */
+    public AllOfPredicate(List<Predicate<Student>> predicates) {
+        requireNonNull(predicates);
+        this.predicates = new ArrayList<>(predicates);
+    }
+
+    @Override
+    public boolean test(Student student) {
+        return predicates.stream().allMatch(predicate -> predicate.test(student));
+    }
+
+    /**
+     * Returns the plan for finding the matches of this predicate in {@code index}.
+     */
+    public QueryPlan plan(StudentSearchIndex index) {
+        requireNonNull(index);
+        IndexedPredicate lookUp = null;
+        int estimate = index.getStudentCount();
+        for (Predicate<Student> predicate : predicates) {
+            if (!(predicate instanceof IndexedPredicate)) {
+                continue;
+            }
+            int predicateEstimate = ((IndexedPredicate) predicate).estimateMatches(index);
+            if (lookUp == null || predicateEstimate < estimate) {
+                lookUp = (IndexedPredicate) predicate;
+                estimate = predicateEstimate;
+            }
+        }
+        List<Predicate<Student>> filters = new ArrayList<>(predicates);
+        filters.remove(lookUp);
+        return new QueryPlan(lookUp, estimate, filters);
+    }
+
+    @Override
+    public Set<Student> findMatches(StudentSearchIndex index) {
+        QueryPlan plan = plan(index);
+        logger.fine("Finding students: " + plan);
+        Set<Student> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        matches.addAll(plan.lookUp == null ? index.getAllStudents() : plan.lookUp.findMatches(index));
+        for (Predicate<Student> filter : plan.filters) {
+            matches.removeIf(filter.negate());
+        }
+        return matches;
+    }
+
+    @Override
+    public int estimateMatches(StudentSearchIndex index) {
+        return plan(index).estimate;
+    }
+
+    /**
+     * Returns the rankings of the predicates that rank their matches, in the order the predicates were given.
+     */
+    @Override
+    public Optional<Comparator<Student>> getRanking() {
+        return predicates.stream()
+                .filter(predicate -> predicate instanceof IndexedPredicate)
+                .map(predicate -> ((IndexedPredicate) predicate).getRanking())
+                .flatMap(Optional::stream)
+                .reduce(Comparator::thenComparing);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AllOfPredicate // instanceof handles nulls
+                && predicates.equals(((AllOfPredicate) other).predicates)); // state check
+    }
+
+    /**
+     * The order in which the predicates of an {@code AllOfPredicate} are used to find its matches.
+     */
+    public static class QueryPlan {
+        private final IndexedPredicate lookUp;
+        private final int estimate;
+        private final List<Predicate<Student>> filters;
+
+        private QueryPlan(IndexedPredicate lookUp, int estimate, List<Predicate<Student>> filters) {
+            this.lookUp = lookUp;
+            this.estimate = estimate;
+            this.filters = filters;
+        }
+
+        /**
+         * Returns the predicate looked up in the search index, or null if every student is tested.
+         */
+        public IndexedPredicate getLookUp() {
+            return lookUp;
+        }
+
+        /**
+         * Returns the predicates that the students found are tested by, in order.
+         */
+        public List<Predicate<Student>> getFilters() {
+            return filters;
+        }
+
+        @Override
+        public String toString() {
+            String start = lookUp == null
+                    ? "test all " + estimate + " students"
+                    : "look up " + describe(lookUp) + " (at most " + estimate + " students)";
+            if (filters.isEmpty()) {
+                return start;
+            }
+            return start + ", then test "
+                    + filters.stream().map(QueryPlan::describe).collect(Collectors.joining(", "));
+        }
+
+        private static String describe(Predicate<Student> predicate) {
+            return predicate.getClass().getSimpleName();
+        }
+    }
+}
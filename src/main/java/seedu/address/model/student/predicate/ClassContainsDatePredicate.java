@@ -1,30 +1,60 @@
 package seedu.address.model.student.predicate;
 
-import java.util.function.Predicate;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import seedu.address.commons.util.StringUtil;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import seedu.address.model.student.Class;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentSearchIndex;
 
 /**
- * Tests that a {@code Student}'s {@code Class} matches the date given.
+ * Tests that a {@code Student}'s {@code Class} is on the date given, or within the range of dates given.
  */
-public class ClassContainsDatePredicate implements Predicate<Student> {
-    private final String keyword;
+public class ClassContainsDatePredicate implements IndexedPredicate {
+    public static final String RANGE_SEPARATOR = "..";
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    /**
+     * Creates a predicate for classes on {@code date}.
+     */
+    public ClassContainsDatePredicate(LocalDate date) {
+        this(date, date);
+    }
 
-    public ClassContainsDatePredicate(String keyword) {
-        this.keyword = keyword;
+    /**
+     * Creates a predicate for classes from {@code startDate} to {@code endDate} inclusive.
+     */
+    public ClassContainsDatePredicate(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        this.startDate = startDate;
+        this.endDate = endDate;
     }
 
     @Override
     public boolean test(Student student) {
-        return StringUtil.containsWord(student.getAClass().classDateTime, keyword);
+        Class aClass = student.getAClass();
+        return !aClass.isEmpty() && !aClass.date.isBefore(startDate) && !aClass.date.isAfter(endDate);
+    }
+
+    @Override
+    public Set<Student> findMatches(StudentSearchIndex index) {
+        Set<Student> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        matches.addAll(index.getTimetable().getStudentsBetween(startDate, endDate));
+        return matches;
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof ClassContainsDatePredicate // instanceof handles nulls
-                && keyword.equals(((ClassContainsDatePredicate) other).keyword)); // state check
+                && startDate.equals(((ClassContainsDatePredicate) other).startDate)
+                && endDate.equals(((ClassContainsDatePredicate) other).endDate)); // state check
     }
 
 }
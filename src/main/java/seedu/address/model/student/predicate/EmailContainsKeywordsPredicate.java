@@ -1,15 +1,19 @@
 package seedu.address.model.student.predicate;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentSearchIndex;
+import seedu.address.model.student.TokenIndex;
 
 /**
  * Tests that a {@code Student}'s {@code Email} matches any of the keywords given.
  */
-public class EmailContainsKeywordsPredicate implements Predicate<Student> {
+public class EmailContainsKeywordsPredicate implements IndexedPredicate {
     private final List<String> keywords;
 
     public EmailContainsKeywordsPredicate(List<String> keywords) {
@@ -22,6 +26,20 @@ public class EmailContainsKeywordsPredicate implements Predicate<Student> {
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(student.getEmail().value, keyword));
     }
 
+    @Override
+    public Set<Student> findMatches(StudentSearchIndex index) {
+        TokenIndex emailIndex = index.getEmailIndex();
+        Set<Student> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        keywords.forEach(keyword -> matches.addAll(emailIndex.getStudentsWithWord(keyword)));
+        return matches;
+    }
+
+    @Override
+    public int estimateMatches(StudentSearchIndex index) {
+        TokenIndex emailIndex = index.getEmailIndex();
+        return keywords.stream().mapToInt(keyword -> emailIndex.getStudentsWithWord(keyword).size()).sum();
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
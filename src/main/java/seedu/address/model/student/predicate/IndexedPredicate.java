@@ -0,0 +1,38 @@
+package seedu.address.model.student.predicate;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentSearchIndex;
+
+/**
+ * A {@code Predicate} on students whose matches can be looked up in a {@code StudentSearchIndex}, so that finding
+ * them does not need to test every student.
+ */
+public interface IndexedPredicate extends Predicate<Student> {
+
+    /**
+     * Returns the students in {@code index} that satisfy this predicate.
+     */
+    Set<Student> findMatches(StudentSearchIndex index);
+
+    /**
+     * Returns an estimate of the number of students in {@code index} that satisfy this predicate, which is used to
+     * decide which of several predicates to look up first. The estimate is never less than the actual number.
+     * By default, the matches are found and counted.
+     */
+    default int estimateMatches(StudentSearchIndex index) {
+        return findMatches(index).size();
+    }
+
+    /**
+     * Returns the order in which the matches of this predicate should be listed, best match first, if some matches
+     * are better than others. By default, all matches are equally good.
+     */
+    default Optional<Comparator<Student>> getRanking() {
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.model.student.predicate;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+import seedu.address.model.student.Money;
+import seedu.address.model.student.Student;
+
+/**
+ * Tests that an amount of money of a {@code Student} compares with the amount given as required.
+ */
+public class MoneyComparisonPredicate implements Predicate<Student> {
+
+    /**
+     * The amounts of money of a student that can be compared.
+     */
+    public enum Field {
+        MONEY_OWED(Student::getMoneyOwed),
+        MONEY_PAID(Student::getMoneyPaid),
+        RATES_PER_CLASS(Student::getRatesPerClass);
+
+        private final Function<Student, Money> getter;
+
+        Field(Function<Student, Money> getter) {
+            this.getter = getter;
+        }
+    }
+
+    /**
+     * The ways an amount of money can compare with the amount given.
+     * Longer symbols come first, so that a symbol is never mistaken for the start of a longer one.
+     */
+    public enum Comparison {
+        AT_LEAST(">=", difference -> difference >= 0),
+        AT_MOST("<=", difference -> difference <= 0),
+        MORE_THAN(">", difference -> difference > 0),
+        LESS_THAN("<", difference -> difference < 0),
+        EQUAL_TO("=", difference -> difference == 0);
+
+        private final String symbol;
+        private final IntPredicate isSatisfiedBy;
+
+        Comparison(String symbol, IntPredicate isSatisfiedBy) {
+            this.symbol = symbol;
+            this.isSatisfiedBy = isSatisfiedBy;
+        }
+
+        public String getSymbol() {
+            return symbol;
+        }
+
+        /**
+         * Returns the comparison whose symbol {@code value} starts with, if any.
+         */
+        public static Optional<Comparison> of(String value) {
+            for (Comparison comparison : values()) {
+                if (value.startsWith(comparison.symbol)) {
+                    return Optional.of(comparison);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    private final Field field;
+    private final Comparison comparison;
+    private final Money amount;
+
+    /**
+     * Creates a predicate for students whose {@code field} compares with {@code amount} by {@code comparison}.
+     */
+    public MoneyComparisonPredicate(Field field, Comparison comparison, Money amount) {
+        requireAllNonNull(field, comparison, amount);
+        this.field = field;
+        this.comparison = comparison;
+        this.amount = amount;
+    }
+
+    @Override
+    public boolean test(Student student) {
+        return comparison.isSatisfiedBy.test(field.getter.apply(student).compareTo(amount));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof MoneyComparisonPredicate // instanceof handles nulls
+                && field == ((MoneyComparisonPredicate) other).field
+                && comparison == ((MoneyComparisonPredicate) other).comparison
+                && amount.equals(((MoneyComparisonPredicate) other).amount)); // state check
+    }
+
+    @Override
+    public String toString() {
+        return field + " " + comparison.symbol + " " + amount;
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.model.student.predicate;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentSearchIndex;
+import seedu.address.model.student.TokenIndex;
+import seedu.address.model.student.TrigramIndex;
+
+/**
+ * Tests that a {@code Student}'s {@code Name} matches any of the keywords given, allowing for typing mistakes.
+ * A keyword ending with {@code TYPO_TOLERANT} matches a word of the name within {@link #getMaxDistance(String)}
+ * insertions, deletions and substitutions of it, and any other keyword matches a word exactly. Case is ignored.
+ */
+public class NameSimilarToKeywordsPredicate implements IndexedPredicate {
+    public static final String TYPO_TOLERANT = "~";
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final List<String> keywords;
+
+    public NameSimilarToKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    /**
+     * Returns the most typing mistakes that a word of a name can have to match {@code keyword}.
+     * None are allowed in words of up to 2 characters, 1 in words of up to 5 characters, and 2 in longer words.
+     */
+    public static int getMaxDistance(String keyword) {
+        if (!keyword.endsWith(TYPO_TOLERANT)) {
+            return 0;
+        }
+        String word = getWord(keyword);
+        int maxDistance = word.length() <= 2 ? 0 : word.length() <= 5 ? 1 : 2;
+        return Math.min(maxDistance, TrigramIndex.getMaxDistanceSupported(word));
+    }
+
+    private static String getWord(String keyword) {
+        String word = keyword.endsWith(TYPO_TOLERANT)
+                ? keyword.substring(0, keyword.length() - TYPO_TOLERANT.length())
+                : keyword;
+        return TokenIndex.normalize(word.trim());
+    }
+
+    @Override
+    public boolean test(Student student) {
+        return getDistance(student).isPresent();
+    }
+
+    /**
+     * Returns the fewest typing mistakes between a keyword and a word of the name of {@code student}, if the student
+     * matches any keyword.
+     */
+    public OptionalInt getDistance(Student student) {
+        String[] nameWords = WHITESPACE.split(TokenIndex.normalize(student.getName().fullName));
+        OptionalInt closest = OptionalInt.empty();
+        for (String keyword : keywords) {
+            String word = getWord(keyword);
+            int maxDistance = getMaxDistance(keyword);
+            for (String nameWord : nameWords) {
+                int distance = StringUtil.getEditDistance(word, nameWord, maxDistance);
+                if (distance <= maxDistance && (closest.isEmpty() || distance < closest.getAsInt())) {
+                    closest = OptionalInt.of(distance);
+                }
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Returns a comparator that orders students closest to the keywords first, and students matching no keyword last.
+     * The distance of each student is worked out once.
+     */
+    @Override
+    public Optional<Comparator<Student>> getRanking() {
+        Map<Student, Integer> distances = new IdentityHashMap<>();
+        return Optional.of(Comparator.comparingInt(student -> distances.computeIfAbsent(student, unused ->
+                getDistance(student).orElse(Integer.MAX_VALUE))));
+    }
+
+    @Override
+    public Set<Student> findMatches(StudentSearchIndex index) {
+        TokenIndex nameIndex = index.getNameIndex();
+        Set<Student> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        keywords.forEach(keyword -> matches.addAll(
+                nameIndex.getStudentsWithWordSimilarTo(getWord(keyword), getMaxDistance(keyword)).keySet()));
+        return matches;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NameSimilarToKeywordsPredicate // instanceof handles nulls
+                && keywords.equals(((NameSimilarToKeywordsPredicate) other).keywords)); // state check
+    }
+
+}
@@ -1,14 +1,14 @@
 package seedu.address.model.student.predicate;
 
-import java.util.function.Predicate;
+import java.util.Set;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentSearchIndex;
 
 /**
- * Tests that a {@code Student}'s {@code Phone} matches the phone given.
+ * Tests that a {@code Student}'s next of kin's {@code Phone} contains the digits given.
  */
-public class NokPhoneContainsNumberPredicate implements Predicate<Student> {
+public class NokPhoneContainsNumberPredicate implements IndexedPredicate {
     private String keyword;
 
     public NokPhoneContainsNumberPredicate(String keyword) {
@@ -17,7 +17,17 @@ public class NokPhoneContainsNumberPredicate implements Predicate<Student> {
 
     @Override
     public boolean test(Student student) {
-        return StringUtil.containsWord(student.getNokPhone().value, keyword);
+        return student.getNokPhone().value.contains(keyword);
+    }
+
+    @Override
+    public Set<Student> findMatches(StudentSearchIndex index) {
+        return index.getNokPhoneIndex().getStudentsWithNumberContaining(keyword);
+    }
+
+    @Override
+    public int estimateMatches(StudentSearchIndex index) {
+        return index.getNokPhoneIndex().estimateStudentsWithNumberContaining(keyword);
     }
 
     @Override
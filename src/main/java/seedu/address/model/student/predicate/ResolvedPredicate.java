@@ -0,0 +1,41 @@
+package seedu.address.model.student.predicate;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentSearchIndex;
+
+/**
+ * Tests students against an {@code IndexedPredicate} whose matches have been looked up in a search index in advance.
+ * The matches are only used until {@link #expireMatches()} is called, which should be done as soon as the students
+ * in the search index may change, such as after an edit or an undo. Students are then tested by the
+ * {@code IndexedPredicate} itself.
+ */
+public class ResolvedPredicate implements Predicate<Student> {
+    private final IndexedPredicate predicate;
+    private Set<Student> matches;
+
+    /**
+     * Looks up the students that satisfy {@code predicate} in {@code index}.
+     */
+    public ResolvedPredicate(IndexedPredicate predicate, StudentSearchIndex index) {
+        requireAllNonNull(predicate, index);
+        this.predicate = predicate;
+        this.matches = predicate.findMatches(index);
+    }
+
+    /**
+     * Stops using the matches looked up in advance.
+     */
+    public void expireMatches() {
+        matches = null;
+    }
+
+    @Override
+    public boolean test(Student student) {
+        return matches != null ? matches.contains(student) : predicate.test(student);
+    }
+}
@@ -1,44 +1,106 @@
 package seedu.address.model.student.predicate;
 
+import java.util.BitSet;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.model.student.Student;
-
+import seedu.address.model.student.StudentSearchIndex;
+import seedu.address.model.student.TagIndex;
 
 /**
- * Tests that a {@code Student}'s {@code Tag} matches the keywords given
+ * Tests that a {@code Student}'s {@code Tag} matches the keywords given.
+ * A student matches if it matches every keyword. A keyword is one or more tag names separated by {@code OR}, and a
+ * student matches it if it has any of those tags. A tag name starting with {@code NOT} is matched by students that
+ * do not have the tag instead.
  */
-public class TagContainsKeywordsPredicate implements Predicate<Student> {
+public class TagContainsKeywordsPredicate implements IndexedPredicate {
+    public static final String OR = "|";
+    public static final String NOT = "!";
+
+    private static final Pattern OR_PATTERN = Pattern.compile(Pattern.quote(OR));
+
     private final List<String> keywords;
 
     public TagContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    /**
+     * Returns the tag names, each possibly starting with {@code NOT}, in {@code keyword}.
+     */
+    public static String[] getTerms(String keyword) {
+        return OR_PATTERN.split(keyword);
+    }
+
+    private static boolean isNegated(String term) {
+        return term.startsWith(NOT);
+    }
+
+    private static String getTagName(String term) {
+        return TagIndex.normalize(isNegated(term) ? term.substring(NOT.length()) : term);
+    }
+
     @Override
     public boolean test(Student student) {
-        // There is a need to convert tagName to lowercase so that the comparison is case-insensitive
-        String tagString = student.getTags().stream()
-                .map(tag -> tag.tagName)
-                .collect(Collectors.joining(" "));
-        /*
-         There is only a need to check whether the tagString (the current tags of the student) contains
-         the keyword.
-         If it does not then it is false.
-         If the tagString only has 1 tag and there are 2 keywords to search for, it will also fail since this is
-         technically O(n^2) solution so all the cases will be covered.
-         */
+        // tag names are converted to lowercase so that the comparison is case-insensitive
+        Set<String> tagNames = student.getTags().stream()
+                .map(tag -> TagIndex.normalize(tag.tagName))
+                .collect(Collectors.toSet());
         for (String keyword : keywords) {
-            if (!StringUtil.containsWordIgnoreCase(tagString, keyword)) {
+            boolean isKeywordMatched = false;
+            for (String term : getTerms(keyword)) {
+                if (tagNames.contains(getTagName(term)) != isNegated(term)) {
+                    isKeywordMatched = true;
+                    break;
+                }
+            }
+            if (!isKeywordMatched) {
                 return false;
             }
         }
         return true;
     }
 
+    @Override
+    public Set<Student> findMatches(StudentSearchIndex index) {
+        TagIndex tagIndex = index.getTagIndex();
+        BitSet allOrdinals = tagIndex.getAllOrdinals();
+        BitSet matches = tagIndex.getAllOrdinals();
+        for (String keyword : keywords) {
+            BitSet keywordMatches = new BitSet();
+            for (String term : getTerms(keyword)) {
+                BitSet termMatches = tagIndex.getOrdinalsWithTag(getTagName(term));
+                if (isNegated(term)) {
+                    BitSet withoutTag = (BitSet) allOrdinals.clone();
+                    withoutTag.andNot(termMatches);
+                    termMatches = withoutTag;
+                }
+                keywordMatches.or(termMatches);
+            }
+            matches.and(keywordMatches);
+        }
+        return tagIndex.getStudents(matches);
+    }
+
+    @Override
+    public int estimateMatches(StudentSearchIndex index) {
+        TagIndex tagIndex = index.getTagIndex();
+        int studentCount = tagIndex.getAllOrdinals().cardinality();
+        int estimate = studentCount;
+        for (String keyword : keywords) {
+            int keywordEstimate = 0;
+            for (String term : getTerms(keyword)) {
+                int tagCount = tagIndex.getStudentCount(getTagName(term));
+                keywordEstimate += isNegated(term) ? studentCount - tagCount : tagCount;
+            }
+            estimate = Math.min(estimate, keywordEstimate);
+        }
+        return estimate;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -0,0 +1,147 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.analytics.RevenueEventStore;
+import seedu.address.model.analytics.RevenueEventStore.EventType;
+
+/**
+ * A class to access the revenue events stored in a binary file next to the TeachersPet data file.
+ * The file starts with {@code MAGIC}, followed by one fixed-size record per event: the day since the epoch, the
+ * kind and the amount. As events are never changed once recorded, each save appends only the events recorded since
+ * the last save, and a record left partly written by a crash is dropped when the file is next read.
+ */
+public class BinaryRevenueStorage implements RevenueStorage {
+
+    public static final String REVENUE_FILE_SUFFIX = ".revenue";
+
+    static final byte[] MAGIC = {'T', 'P', 'R', 'V'};
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryRevenueStorage.class);
+    private static final int RECORD_BYTES = Integer.BYTES + Byte.BYTES + Integer.BYTES;
+    private static final int REVERSAL_FLAG = 0x80;
+    private static final EventType[] EVENT_TYPES = EventType.values();
+    private static final int UNKNOWN_EVENT_COUNT = -1;
+
+    private final Path filePath;
+    private int savedEventCount = UNKNOWN_EVENT_COUNT;
+
+    public BinaryRevenueStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the revenue file kept with the TeachersPet data file at {@code teachersPetFilePath}.
+     */
+    public static Path getRevenueFilePath(Path teachersPetFilePath) {
+        requireNonNull(teachersPetFilePath);
+        return teachersPetFilePath.resolveSibling(teachersPetFilePath.getFileName() + REVENUE_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getRevenueFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public synchronized Optional<RevenueEventStore> readRevenueEvents() throws DataConversionException, IOException {
+        if (!Files.exists(filePath)) {
+            logger.info("Revenue file " + filePath + " not found");
+            savedEventCount = UNKNOWN_EVENT_COUNT;
+            return Optional.empty();
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        if (!hasMagic(buffer)) {
+            throw new DataConversionException(new IOException("Not a revenue file: " + filePath));
+        }
+
+        RevenueEventStore events = new RevenueEventStore();
+        while (buffer.remaining() >= RECORD_BYTES) {
+            int epochDay = buffer.getInt();
+            int kind = buffer.get() & 0xFF;
+            int amount = buffer.getInt();
+            int typeOrdinal = kind & ~REVERSAL_FLAG;
+            if (typeOrdinal >= EVENT_TYPES.length || amount < 0) {
+                throw new DataConversionException(
+                        new IOException("Invalid revenue event " + events.size() + " in " + filePath));
+            }
+            events.append(EVENT_TYPES[typeOrdinal], (kind & REVERSAL_FLAG) != 0, epochDay, amount);
+        }
+        if (buffer.hasRemaining()) {
+            logger.warning("Ignoring partly written revenue event at the end of " + filePath);
+        }
+        savedEventCount = events.size();
+        return Optional.of(events);
+    }
+
+    /**
+     * Reads the start of {@code buffer}, and returns true if it is {@code MAGIC}.
+     */
+    private static boolean hasMagic(ByteBuffer buffer) {
+        if (buffer.remaining() < MAGIC.length) {
+            return false;
+        }
+        byte[] magic = new byte[MAGIC.length];
+        buffer.get(magic);
+        return Arrays.equals(magic, MAGIC);
+    }
+
+    @Override
+    public synchronized void saveRevenueEvents(RevenueEventStore events) throws IOException {
+        requireNonNull(events);
+        if (savedEventCount == UNKNOWN_EVENT_COUNT || savedEventCount > events.size() || !Files.exists(filePath)) {
+            FileUtil.createParentDirsOfFile(filePath);
+            FileUtil.writeToFileAtomically(filePath, out -> writeTo(events, 0, out, true));
+        } else if (savedEventCount < events.size()) {
+            appendToFile(events);
+        }
+        savedEventCount = events.size();
+    }
+
+    private void appendToFile(RevenueEventStore events) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        writeTo(events, savedEventCount, bytes, false);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+            // drops any partly written record left after the events saved so far
+            channel.truncate(MAGIC.length + (long) savedEventCount * RECORD_BYTES);
+            channel.position(channel.size());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    private static void writeTo(RevenueEventStore events, int from, OutputStream out, boolean withMagic)
+            throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        if (withMagic) {
+            data.write(MAGIC);
+        }
+        for (int i = from; i < events.size(); i++) {
+            data.writeInt(events.getEpochDay(i));
+            data.writeByte(events.getType(i).ordinal() | (events.isReversal(i) ? REVERSAL_FLAG : 0));
+            data.writeInt(events.getAmount(i));
+        }
+        data.flush();
+    }
+}
@@ -0,0 +1,243 @@
+package seedu.address.storage;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyTeachersPet;
+import seedu.address.model.TeachersPet;
+import seedu.address.model.student.Class;
+import seedu.address.model.student.Student;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes a TeachersPet in a compact binary format.
+ * <p>
+ * The format starts with {@code MAGIC} and a format version, followed by a table of every distinct string used by
+ * the students, so that repeated values such as tags and addresses are stored once. Each student then refers to
+ * strings by their position in the table. Phone numbers and amounts of money are stored as variable-length
+ * integers, and a class is stored as its day since the epoch and its start and end minutes of the day.
+ * The students are converted with the same checks as {@link JsonAdaptedStudent}, so a file that is read
+ * successfully holds the same data as an equivalent json file.
+ */
+class BinarySerializableTeachersPet {
+
+    static final byte[] MAGIC = {'T', 'P', 'E', 'T'};
+    static final int VERSION = 1;
+
+    private static final int FLAG_HAS_CLASS = 1;
+    private static final int FLAG_IS_PRESENT = 1 << 1;
+    private static final int MAX_VAR_INT_BYTES = 5;
+
+    private BinarySerializableTeachersPet() {}
+
+    /**
+     * Returns true if {@code header} starts with the header of this format.
+     */
+    static boolean hasMagic(byte[] header) {
+        return header.length >= MAGIC.length && Arrays.equals(Arrays.copyOf(header, MAGIC.length), MAGIC);
+    }
+
+    /**
+     * Writes {@code source} to {@code out} in this format.
+     */
+    static void writeTo(ReadOnlyTeachersPet source, OutputStream out) throws IOException {
+        List<Student> students = source.getStudentList();
+        Map<String, Integer> stringIndexes = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        for (Student student : students) {
+            for (String value : getStrings(student)) {
+                if (stringIndexes.putIfAbsent(value, strings.size()) == null) {
+                    strings.add(value);
+                }
+            }
+        }
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.write(MAGIC);
+        writeVarInt(data, VERSION);
+        writeVarInt(data, strings.size());
+        for (String value : strings) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(data, bytes.length);
+            data.write(bytes);
+        }
+        writeVarInt(data, students.size());
+        for (Student student : students) {
+            writeStudent(data, student, stringIndexes);
+        }
+        data.flush();
+    }
+
+    private static List<String> getStrings(Student student) {
+        List<String> strings = new ArrayList<>();
+        strings.add(student.getName().fullName);
+        strings.add(student.getEmail().value);
+        strings.add(student.getAddress().value);
+        strings.add(student.getAdditionalNotes().toString());
+        student.getTags().forEach(tag -> strings.add(tag.tagName));
+        return strings;
+    }
+
+    private static void writeStudent(DataOutputStream data, Student student, Map<String, Integer> stringIndexes)
+            throws IOException {
+        writeVarInt(data, stringIndexes.get(student.getName().fullName));
+        writeVarInt(data, Integer.parseInt(student.getPhone().value));
+        writeVarInt(data, Integer.parseInt(student.getNokPhone().value));
+        writeVarInt(data, stringIndexes.get(student.getEmail().value));
+        writeVarInt(data, stringIndexes.get(student.getAddress().value));
+        writeVarInt(data, stringIndexes.get(student.getAdditionalNotes().toString()));
+
+        Class aClass = student.getAClass();
+        int flags = (aClass.isEmpty() ? 0 : FLAG_HAS_CLASS)
+                | (student.getMarkStatus().isMarked() ? FLAG_IS_PRESENT : 0);
+        data.writeByte(flags);
+        if (!aClass.isEmpty()) {
+            writeVarInt(data, toZigZag(Math.toIntExact(aClass.date.toEpochDay())));
+            writeVarInt(data, aClass.startTime.toSecondOfDay() / 60);
+            writeVarInt(data, aClass.endTime.toSecondOfDay() / 60);
+        }
+
+        writeVarInt(data, student.getMoneyOwed().value);
+        writeVarInt(data, student.getMoneyPaid().value);
+        writeVarInt(data, student.getRatesPerClass().value);
+        writeVarInt(data, student.getTags().size());
+        for (Tag tag : student.getTags()) {
+            writeVarInt(data, stringIndexes.get(tag.tagName));
+        }
+    }
+
+    /**
+     * Reads a teacher's pet in this format from {@code in}.
+     *
+     * @throws IOException if {@code in} does not hold a teacher's pet in this format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static TeachersPet readFrom(InputStream in) throws IOException, IllegalValueException {
+        DataInputStream data = new DataInputStream(in);
+        byte[] magic = new byte[MAGIC.length];
+        data.readFully(magic);
+        if (!hasMagic(magic)) {
+            throw new IOException("Not a binary teacher's pet file");
+        }
+        int version = readVarInt(data);
+        if (version != VERSION) {
+            throw new IOException("Unsupported binary teacher's pet file version " + version);
+        }
+
+        int stringCount = readVarInt(data);
+        List<String> strings = new ArrayList<>();
+        for (int i = 0; i < stringCount; i++) {
+            byte[] bytes = new byte[readVarInt(data)];
+            data.readFully(bytes);
+            strings.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+
+        int studentCount = readVarInt(data);
+        ParallelStudentConverter converter = new ParallelStudentConverter();
+        List<JsonAdaptedStudent> batch = new ArrayList<>();
+        for (int i = 0; i < studentCount; i++) {
+            batch.add(readStudent(data, strings));
+            if (batch.size() == JsonSerializableTeachersPet.BATCH_SIZE) {
+                converter.convert(batch);
+                batch.clear();
+            }
+        }
+        converter.convert(batch);
+        if (data.read() != -1) {
+            throw new IOException("Unexpected data after the last student");
+        }
+        return JsonSerializableTeachersPet.toTeachersPet(converter.getStudents());
+    }
+
+    private static JsonAdaptedStudent readStudent(DataInputStream data, List<String> strings) throws IOException {
+        String name = readString(data, strings);
+        String phone = String.valueOf(readVarInt(data));
+        String nokPhone = String.valueOf(readVarInt(data));
+        String email = readString(data, strings);
+        String address = readString(data, strings);
+        String additionalNotes = readString(data, strings);
+
+        int flags = data.readUnsignedByte();
+        String classDateTime = "";
+        if ((flags & FLAG_HAS_CLASS) != 0) {
+            LocalDate date = LocalDate.ofEpochDay(fromZigZag(readVarInt(data)));
+            LocalTime startTime = readMinuteOfDay(data);
+            LocalTime endTime = readMinuteOfDay(data);
+            classDateTime = new Class(date, startTime, endTime).classDateTime;
+        }
+
+        Integer moneyOwed = readVarInt(data);
+        Integer moneyPaid = readVarInt(data);
+        Integer ratesPerClass = readVarInt(data);
+        int tagCount = readVarInt(data);
+        List<String> tagNames = new ArrayList<>();
+        for (int i = 0; i < tagCount; i++) {
+            tagNames.add(readString(data, strings));
+        }
+        List<JsonAdaptedTag> tagged = tagNames.stream().map(JsonAdaptedTag::new).collect(Collectors.toList());
+
+        return new JsonAdaptedStudent(name, phone, nokPhone, email, address, classDateTime, moneyOwed, moneyPaid,
+                ratesPerClass, additionalNotes, tagged, (flags & FLAG_IS_PRESENT) != 0);
+    }
+
+    private static String readString(DataInputStream data, List<String> strings) throws IOException {
+        int index = readVarInt(data);
+        if (index < 0 || index >= strings.size()) {
+            throw new IOException("Invalid string reference " + index);
+        }
+        return strings.get(index);
+    }
+
+    private static LocalTime readMinuteOfDay(DataInputStream data) throws IOException {
+        int minuteOfDay = readVarInt(data);
+        if (minuteOfDay < 0 || minuteOfDay >= 24 * 60) {
+            throw new IOException("Invalid time " + minuteOfDay);
+        }
+        return LocalTime.ofSecondOfDay(minuteOfDay * 60L);
+    }
+
+    /**
+     * Writes {@code value} as an unsigned integer in groups of 7 bits, lowest group first, where the highest bit
+     * of each byte is set if more bytes follow.
+     */
+    private static void writeVarInt(DataOutputStream data, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            data.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream data) throws IOException {
+        int value = 0;
+        for (int i = 0; i < MAX_VAR_INT_BYTES; i++) {
+            int b = data.readUnsignedByte();
+            value |= (b & 0x7F) << (7 * i);
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+
+    private static int toZigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int fromZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyTeachersPet;
+
+/**
+ * A class to access TeachersPet data stored in a compact binary file on the hard disk.
+ * A json data file found at the same location is read as well, so existing data is converted to the binary format
+ * on the next save.
+ *
+ * @see BinarySerializableTeachersPet
+ */
+public class BinaryTeachersPetStorage implements TeachersPetStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryTeachersPetStorage.class);
+
+    private final Path filePath;
+
+    public BinaryTeachersPetStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} is in the binary format.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (!Files.isRegularFile(filePath)) {
+            return false;
+        }
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return BinarySerializableTeachersPet.hasMagic(in.readNBytes(BinarySerializableTeachersPet.MAGIC.length));
+        }
+    }
+
+    @Override
+    public Path getTeachersPetFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTeachersPet> readTeachersPet() throws DataConversionException, IOException {
+        return readTeachersPet(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTeachersPet()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTeachersPet> readTeachersPet(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+        if (!isBinaryFile(filePath)) {
+            logger.info("Reading " + filePath + " as a json file");
+            return new JsonTeachersPetStorage(filePath).readTeachersPet(filePath);
+        }
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            return Optional.of(BinarySerializableTeachersPet.readFrom(in));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveTeachersPet(ReadOnlyTeachersPet teachersPet) throws IOException {
+        saveTeachersPet(teachersPet, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTeachersPet(ReadOnlyTeachersPet)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveTeachersPet(ReadOnlyTeachersPet teachersPet, Path filePath) throws IOException {
+        requireNonNull(teachersPet);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFileAtomically(filePath, out -> BinarySerializableTeachersPet.writeTo(teachersPet, out));
+    }
+
+}
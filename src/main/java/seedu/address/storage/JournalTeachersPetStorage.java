@@ -0,0 +1,405 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyTeachersPet;
+import seedu.address.model.StudentChangeLog;
+import seedu.address.model.StudentChangeLog.StudentChange;
+import seedu.address.model.TeachersPet;
+
+/**
+ * A class to access TeachersPet data stored as a json file on the hard disk, together with a journal of the changes
+ * made since the json file was last written.
+ * Each save appends one line per student added, edited or removed since the last save, as recorded in the
+ * {@code StudentChangeLog} of the data, to the journal and syncs it to the disk once, instead of rewriting the whole
+ * json file. A student whose phone number was changed is removed and added again at the same position.
+ * The json file is rewritten and the journal cleared once the journal holds more records than there are students,
+ * when the student list was replaced as a whole, e.g. when it was cleared or sorted, and on {@link #flush()}.
+ */
+public class JournalTeachersPetStorage implements TeachersPetStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String MESSAGE_INVALID_RECORD = "Journal contains an invalid record.";
+
+    /** The smallest number of records that the journal may hold before the json file is rewritten. */
+    static final int MIN_COMPACTION_THRESHOLD = 64;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalTeachersPetStorage.class);
+
+    /** Returned when replaying a journal that cannot be appended to. */
+    private static final int JOURNAL_NOT_APPENDABLE = -1;
+
+    private final Path filePath;
+    private final JsonTeachersPetStorage snapshotStorage;
+
+    // The data as of the last line of the journal, or null if the json file must be rewritten on the next save
+    private ReadOnlyTeachersPet journaledTeachersPet;
+    // The change log of journaledTeachersPet, if any, and its version as of the last line of the journal
+    private StudentChangeLog journaledChangeLog;
+    private long journaledVersion;
+    private int journalRecordCount;
+
+    /**
+     * Creates a {@code JournalTeachersPetStorage} that keeps its json file at {@code filePath} and its journal
+     * next to it.
+     */
+    public JournalTeachersPetStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.snapshotStorage = new JsonTeachersPetStorage(filePath);
+    }
+
+    /**
+     * Returns the path of the journal for the json file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getTeachersPetFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTeachersPet> readTeachersPet() throws DataConversionException {
+        return readTeachersPet(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTeachersPet()}.
+     * The journal is ignored if it was written for a different version of the json file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file or the journal is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyTeachersPet> readTeachersPet(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        byte[] snapshotBytes;
+        JsonSerializableTeachersPet snapshot;
+        try {
+            snapshotBytes = Files.readAllBytes(filePath);
+            snapshot = JsonUtil.fromJsonString(new String(snapshotBytes, StandardCharsets.UTF_8),
+                    JsonSerializableTeachersPet.class);
+        } catch (IOException e) {
+            logger.warning("Error reading from json file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+
+        List<JsonAdaptedStudent> students = new ArrayList<>(snapshot.getStudents());
+        Set<String> phones = new HashSet<>();
+        students.forEach(student -> phones.add(student.getPhone()));
+        boolean hasDuplicates = phones.size() < students.size();
+        int recordCount = hasDuplicates
+                ? JOURNAL_NOT_APPENDABLE
+                : replayJournal(getJournalFilePath(filePath), getChecksum(snapshotBytes), students);
+
+        TeachersPet teachersPet;
+        try {
+            // duplicates, including those added by the journal, are left for toModelType to report
+            teachersPet = hasDuplicates
+                    ? snapshot.toModelType()
+                    : new JsonSerializableTeachersPet(students).toModelType();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            if (recordCount == JOURNAL_NOT_APPENDABLE) {
+                journaledTeachersPet = null;
+            } else {
+                setJournaledData(teachersPet);
+            }
+            journalRecordCount = Math.max(recordCount, 0);
+        }
+        return Optional.of(teachersPet);
+    }
+
+    /**
+     * Applies the records in the journal at {@code journalFilePath} to {@code students}, if the journal was
+     * written for the json file with the checksum {@code snapshotChecksum}.
+     * A record that was only partly written, e.g. because the app stopped in the middle of a save, ends the journal.
+     *
+     * @return the number of records applied, or {@code JOURNAL_NOT_APPENDABLE} if the journal is missing, was
+     *     written for another json file or ends with a partly written record.
+     */
+    private static int replayJournal(Path journalFilePath, long snapshotChecksum,
+            List<JsonAdaptedStudent> students) throws DataConversionException {
+        if (!Files.exists(journalFilePath)) {
+            return JOURNAL_NOT_APPENDABLE;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            if (!isJournalFor(reader.readLine(), snapshotChecksum)) {
+                logger.info("Ignoring journal " + journalFilePath + " as it belongs to an older json file");
+                return JOURNAL_NOT_APPENDABLE;
+            }
+
+            int recordCount = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                JsonAdaptedJournalRecord record;
+                try {
+                    record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+                } catch (JsonProcessingException e) {
+                    logger.warning("Ignoring partly written record at the end of journal " + journalFilePath);
+                    return JOURNAL_NOT_APPENDABLE;
+                }
+                applyRecord(record, students);
+                recordCount++;
+            }
+            return recordCount;
+        } catch (IOException e) {
+            logger.warning("Error reading from journal " + journalFilePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static boolean isJournalFor(String header, long snapshotChecksum) throws IOException {
+        if (header == null) {
+            return false;
+        }
+        try {
+            JsonAdaptedJournalRecord record = JsonUtil.fromJsonString(header, JsonAdaptedJournalRecord.class);
+            return JsonAdaptedJournalRecord.OPERATION_SNAPSHOT.equals(record.getOperation())
+                    && Long.valueOf(snapshotChecksum).equals(record.getSnapshotChecksum());
+        } catch (JsonProcessingException e) {
+            return false;
+        }
+    }
+
+    private static void applyRecord(JsonAdaptedJournalRecord record, List<JsonAdaptedStudent> students)
+            throws DataConversionException {
+        String operation = record.getOperation();
+        JsonAdaptedStudent student = record.getStudent();
+        Integer index = record.getIndex();
+        if (JsonAdaptedJournalRecord.OPERATION_ADD.equals(operation) && student != null && index != null
+                && index >= 0 && index <= students.size()) {
+            students.add(index, student);
+        } else if (JsonAdaptedJournalRecord.OPERATION_PUT.equals(operation) && student != null) {
+            int position = getPosition(students, student.getPhone(), index);
+            if (position >= 0) {
+                students.set(position, student);
+            } else if (index == null) {
+                students.add(student);
+            } else {
+                throw new DataConversionException(new IllegalValueException(MESSAGE_INVALID_RECORD));
+            }
+        } else if (JsonAdaptedJournalRecord.OPERATION_REMOVE.equals(operation) && record.getPhone() != null) {
+            int position = getPosition(students, record.getPhone(), index);
+            if (position >= 0) {
+                students.remove(position);
+            } else if (index != null) {
+                throw new DataConversionException(new IllegalValueException(MESSAGE_INVALID_RECORD));
+            }
+        } else {
+            throw new DataConversionException(new IllegalValueException(MESSAGE_INVALID_RECORD));
+        }
+    }
+
+    /**
+     * Returns the position of the student with the given phone number, which a record expects at {@code index},
+     * or -1 if the student is not there.
+     * Records written by older versions give no index, so the whole list is searched for the student instead.
+     */
+    private static int getPosition(List<JsonAdaptedStudent> students, String phone, Integer index) {
+        if (index != null) {
+            return index >= 0 && index < students.size() && phone.equals(students.get(index).getPhone())
+                    ? index
+                    : -1;
+        }
+        for (int i = 0; i < students.size(); i++) {
+            if (phone.equals(students.get(i).getPhone())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void saveTeachersPet(ReadOnlyTeachersPet teachersPet) throws IOException {
+        saveTeachersPet(teachersPet, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTeachersPet(ReadOnlyTeachersPet)}.
+     * Data saved to a location other than that of this storage is written as a json file without a journal.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveTeachersPet(ReadOnlyTeachersPet teachersPet, Path filePath) throws IOException {
+        requireAllNonNull(teachersPet, filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveTeachersPet(teachersPet, filePath);
+            return;
+        }
+
+        Optional<List<JsonAdaptedJournalRecord>> records = getUnjournaledChanges(teachersPet)
+                .map(JournalTeachersPetStorage::getRecords);
+        if (records.isEmpty() || journalRecordCount + records.get().size()
+                > Math.max(MIN_COMPACTION_THRESHOLD, teachersPet.getStudentList().size())) {
+            compact(teachersPet);
+            return;
+        }
+        if (!records.get().isEmpty()) {
+            appendToJournal(records.get());
+        }
+        setJournaledData(teachersPet);
+    }
+
+    /**
+     * Rewrites the json file if the journal holds any records.
+     */
+    @Override
+    public synchronized void flush() throws IOException {
+        if (journaledTeachersPet == null || journalRecordCount == 0) {
+            return;
+        }
+        compact(journaledTeachersPet);
+    }
+
+    /**
+     * Returns the changes made to the journaled data that turn it into {@code teachersPet}, or
+     * {@code Optional.empty()} if they are not known because the json file must be rewritten, the changes are not
+     * recorded or no longer kept, or {@code teachersPet} is not a later version of the journaled data.
+     */
+    private Optional<List<StudentChange>> getUnjournaledChanges(ReadOnlyTeachersPet teachersPet) {
+        Optional<StudentChangeLog> changeLog = teachersPet.getStudentChangeLog();
+        if (journaledTeachersPet == null || journaledChangeLog == null || changeLog.isEmpty()) {
+            return Optional.empty();
+        }
+        if (changeLog.get().hasSameOrigin(journaledChangeLog)) {
+            return changeLog.get().getChangesSince(journaledVersion);
+        }
+        // a copy of the journaled data, e.g. the one that the model is created from after reading, is recognised by
+        // having been created from the very same students, as long as the journaled data has not changed since
+        if (journaledChangeLog.getVersion() != journaledVersion) {
+            return Optional.empty();
+        }
+        return changeLog.get().getChangesSinceReplacedBy(journaledTeachersPet.getStudentList());
+    }
+
+    /**
+     * Returns the records of {@code changes}, in the same order.
+     * A student whose phone number was changed is removed and added again, as records name students by phone number.
+     */
+    private static List<JsonAdaptedJournalRecord> getRecords(List<StudentChange> changes) {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        for (StudentChange change : changes) {
+            switch (change.getType()) {
+            case ADD:
+                records.add(JsonAdaptedJournalRecord.add(change.getIndex(),
+                        new JsonAdaptedStudent(change.getNewStudent())));
+                break;
+            case SET:
+                if (change.getOldStudent().isSameStudent(change.getNewStudent())) {
+                    records.add(JsonAdaptedJournalRecord.put(change.getIndex(),
+                            new JsonAdaptedStudent(change.getNewStudent())));
+                } else {
+                    records.add(JsonAdaptedJournalRecord.remove(change.getIndex(),
+                            change.getOldStudent().getPhone().value));
+                    records.add(JsonAdaptedJournalRecord.add(change.getIndex(),
+                            new JsonAdaptedStudent(change.getNewStudent())));
+                }
+                break;
+            case REMOVE:
+                records.add(JsonAdaptedJournalRecord.remove(change.getIndex(),
+                        change.getOldStudent().getPhone().value));
+                break;
+            default:
+                throw new AssertionError("Unknown change: " + change.getType());
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Remembers {@code teachersPet} as the data as of the last line of the journal.
+     */
+    private void setJournaledData(ReadOnlyTeachersPet teachersPet) {
+        journaledTeachersPet = teachersPet;
+        journaledChangeLog = teachersPet.getStudentChangeLog().orElse(null);
+        journaledVersion = journaledChangeLog == null ? 0 : journaledChangeLog.getVersion();
+    }
+
+    private void appendToJournal(List<JsonAdaptedJournalRecord> records) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toSingleLineJsonString(record)).append('\n');
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(getJournalFilePath(filePath), StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            // the journal may end with a partly written record, so it cannot be appended to anymore
+            journaledTeachersPet = null;
+            throw e;
+        }
+        journalRecordCount += records.size();
+    }
+
+    /**
+     * Rewrites the json file with {@code teachersPet} and starts a new journal for it.
+     * The journal is replaced after the json file, so if the app stops in between, the old journal is ignored
+     * on the next read as it belongs to the old json file.
+     */
+    private void compact(ReadOnlyTeachersPet teachersPet) throws IOException {
+        try {
+            snapshotStorage.saveTeachersPet(teachersPet, filePath);
+            long snapshotChecksum = getChecksum(Files.readAllBytes(filePath));
+            FileUtil.writeToFileAtomically(getJournalFilePath(filePath),
+                    JsonUtil.toSingleLineJsonString(JsonAdaptedJournalRecord.snapshot(snapshotChecksum)) + "\n");
+        } catch (IOException e) {
+            // the journal may not belong to the json file anymore
+            journaledTeachersPet = null;
+            throw e;
+        }
+        setJournaledData(teachersPet);
+        journalRecordCount = 0;
+    }
+
+    private static long getChecksum(byte[] bytes) {
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes);
+        return checksum.getValue();
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of one line of the journal kept by {@link JournalTeachersPetStorage}.
+ * The first line of a journal names the data file it applies to, and every following line adds, replaces or
+ * removes one student at a position of the student list.
+ * Lines written by older versions do not give a position, and name the student by phone number only.
+ */
+class JsonAdaptedJournalRecord {
+
+    static final String OPERATION_SNAPSHOT = "snapshot";
+    static final String OPERATION_ADD = "add";
+    static final String OPERATION_PUT = "put";
+    static final String OPERATION_REMOVE = "remove";
+
+    private final String operation;
+    private final Long snapshotChecksum;
+    private final Integer index;
+    private final String phone;
+    private final JsonAdaptedStudent student;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("operation") String operation,
+                                    @JsonProperty("snapshotChecksum") Long snapshotChecksum,
+                                    @JsonProperty("index") Integer index,
+                                    @JsonProperty("phone") String phone,
+                                    @JsonProperty("student") JsonAdaptedStudent student) {
+        this.operation = operation;
+        this.snapshotChecksum = snapshotChecksum;
+        this.index = index;
+        this.phone = phone;
+        this.student = student;
+    }
+
+    /**
+     * Returns the first line of a journal that applies to the data file with the given checksum.
+     */
+    static JsonAdaptedJournalRecord snapshot(long snapshotChecksum) {
+        return new JsonAdaptedJournalRecord(OPERATION_SNAPSHOT, snapshotChecksum, null, null, null);
+    }
+
+    /**
+     * Returns a line that adds {@code student} at {@code index} of the list.
+     */
+    static JsonAdaptedJournalRecord add(int index, JsonAdaptedStudent student) {
+        return new JsonAdaptedJournalRecord(OPERATION_ADD, null, index, null, student);
+    }
+
+    /**
+     * Returns a line that replaces the student at {@code index} of the list, which has the same phone number as
+     * {@code student}.
+     */
+    static JsonAdaptedJournalRecord put(int index, JsonAdaptedStudent student) {
+        return new JsonAdaptedJournalRecord(OPERATION_PUT, null, index, null, student);
+    }
+
+    /**
+     * Returns a line that removes the student at {@code index} of the list, which has the given phone number.
+     */
+    static JsonAdaptedJournalRecord remove(int index, String phone) {
+        return new JsonAdaptedJournalRecord(OPERATION_REMOVE, null, index, phone, null);
+    }
+
+    String getOperation() {
+        return operation;
+    }
+
+    Long getSnapshotChecksum() {
+        return snapshotChecksum;
+    }
+
+    /**
+     * Returns the position of the student in the list, or null if the line was written by an older version.
+     */
+    Integer getIndex() {
+        return index;
+    }
+
+    String getPhone() {
+        return phone;
+    }
+
+    JsonAdaptedStudent getStudent() {
+        return student;
+    }
+}
@@ -92,6 +92,10 @@ class JsonAdaptedStudent {
         isPresent = source.getMarkStatus().isMarked();
     }
 
+    String getPhone() {
+        return phone;
+    }
+
     /**
      * Converts this Jackson-friendly adapted student object into the model's {@code Student} object.
      *
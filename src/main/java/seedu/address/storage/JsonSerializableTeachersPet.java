@@ -1,5 +1,8 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -7,11 +10,19 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyTeachersPet;
 import seedu.address.model.TeachersPet;
+import seedu.address.model.student.DuplicateStudentDetector;
+import seedu.address.model.student.DuplicateStudentDetector.Duplicate;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.exceptions.ClassConflictException;
 
 /**
  * An Immutable TeachersPet that is serializable to JSON format.
@@ -20,6 +31,12 @@ import seedu.address.model.student.Student;
 class JsonSerializableTeachersPet {
 
     public static final String MESSAGE_DUPLICATE_STUDENT = "Students list contains duplicate student(s).";
+    public static final String MESSAGE_CLASS_CONFLICT = "Students list contains classes with conflicting timings.";
+
+    /** The number of students read before they are converted together. */
+    static final int BATCH_SIZE = 4096;
+
+    private static final String STUDENTS_FIELD = "students";
 
     private final List<JsonAdaptedStudent> students = new ArrayList<>();
 
@@ -41,19 +58,100 @@ class JsonSerializableTeachersPet {
         students.addAll(source.getStudentList().stream().map(JsonAdaptedStudent::new).collect(Collectors.toList()));
     }
 
+    List<JsonAdaptedStudent> getStudents() {
+        return students;
+    }
+
     /**
      * Converts this teacher's pet into the model's {@code TeachersPet} object.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public TeachersPet toModelType() throws IllegalValueException {
-        TeachersPet teachersPet = new TeachersPet();
-        for (JsonAdaptedStudent jsonAdaptedStudent : students) {
-            Student student = jsonAdaptedStudent.toModelType();
-            if (teachersPet.hasStudent(student)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
+        ParallelStudentConverter converter = new ParallelStudentConverter();
+        converter.convert(students);
+        return toTeachersPet(converter.getStudents());
+    }
+
+    /**
+     * Reads a teacher's pet in the format of this class from {@code in}.
+     * Students are converted into the model's {@code Student} in batches of {@code BATCH_SIZE} as they are read,
+     * so neither the whole json text nor all the adapted students are held in memory at once.
+     *
+     * @throws IOException if {@code in} does not hold a teacher's pet in json format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static TeachersPet readFrom(InputStream in) throws IOException, IllegalValueException {
+        ParallelStudentConverter converter = new ParallelStudentConverter();
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a teacher's pet object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                boolean isStudentsField = STUDENTS_FIELD.equals(parser.getCurrentName());
+                if (parser.nextToken() == JsonToken.START_ARRAY && isStudentsField) {
+                    readStudents(parser, converter);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+                throw new JsonParseException(parser, "Unexpected end of teacher's pet object");
+            }
+        }
+        return toTeachersPet(converter.getStudents());
+    }
+
+    private static void readStudents(JsonParser parser, ParallelStudentConverter converter) throws IOException {
+        List<JsonAdaptedStudent> batch = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a student object");
             }
-            teachersPet.addStudent(student);
+            batch.add(parser.readValueAs(JsonAdaptedStudent.class));
+            if (batch.size() == BATCH_SIZE) {
+                converter.convert(batch);
+                batch.clear();
+            }
+        }
+        converter.convert(batch);
+    }
+
+    /**
+     * Writes {@code source} to {@code out} in the format of this class, one student at a time.
+     * The output is indented if {@code isPretty}.
+     */
+    static void writeTo(ReadOnlyTeachersPet source, OutputStream out, boolean isPretty) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, isPretty)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(STUDENTS_FIELD);
+            for (Student student : source.getStudentList()) {
+                generator.writeObject(new JsonAdaptedStudent(student));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Returns a {@code TeachersPet} with {@code modelStudents}.
+     *
+     * @throws IllegalValueException if there are duplicate students or conflicting classes.
+     */
+    static TeachersPet toTeachersPet(List<Student> modelStudents) throws IllegalValueException {
+        List<Duplicate> duplicates = DuplicateStudentDetector.findDuplicates(modelStudents);
+        if (!duplicates.isEmpty()) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT + "\n" + duplicates.stream()
+                    .map(Duplicate::toString)
+                    .collect(Collectors.joining("\n")));
+        }
+
+        TeachersPet teachersPet = new TeachersPet();
+        try {
+            teachersPet.resetStudents(modelStudents);
+        } catch (ClassConflictException e) {
+            throw new IllegalValueException(MESSAGE_CLASS_CONFLICT + "\n" + e.getMessage());
         }
         return teachersPet;
     }
@@ -2,7 +2,10 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -11,20 +14,30 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyTeachersPet;
 
 /**
  * A class to access TeachersPet data stored as a json file on the hard disk.
+ * The file is read and written one student at a time.
  */
 public class JsonTeachersPetStorage implements TeachersPetStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonTeachersPetStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
 
     public JsonTeachersPetStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonTeachersPetStorage} that writes to {@code filePath} without line breaks and indentation
+     * if {@code isCompact}.
+     */
+    public JsonTeachersPetStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
 
     public Path getTeachersPetFilePath() {
@@ -45,14 +58,16 @@ public class JsonTeachersPetStorage implements TeachersPetStorage {
     public Optional<ReadOnlyTeachersPet> readTeachersPet(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableTeachersPet> jsonTeachersPet = JsonUtil.readJsonFile(
-                filePath, JsonSerializableTeachersPet.class);
-        if (!jsonTeachersPet.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonTeachersPet.get().toModelType());
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            return Optional.of(JsonSerializableTeachersPet.readFrom(in));
+        } catch (IOException e) {
+            logger.warning("Error reading from json file " + filePath + ": " + e);
+            throw new DataConversionException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -73,8 +88,9 @@ public class JsonTeachersPetStorage implements TeachersPetStorage {
         requireNonNull(teachersPet);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableTeachersPet(teachersPet), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFileAtomically(filePath, out -> JsonSerializableTeachersPet.writeTo(teachersPet, out,
+                !isCompact));
     }
 
 }
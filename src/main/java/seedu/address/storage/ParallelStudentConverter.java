@@ -0,0 +1,104 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.student.Student;
+
+/**
+ * Converts adapted students into the model's {@code Student}s, many at a time on the common fork-join pool.
+ * Every student is converted even if some of them are invalid, so that all the invalid students in a data file are
+ * reported together, each with its position in the file.
+ * The converted students are kept in the order they were given.
+ */
+class ParallelStudentConverter {
+
+    static final String MESSAGE_INVALID_STUDENTS = "%1$d invalid student(s) found.";
+    static final String MESSAGE_INVALID_STUDENT = "Student %1$d: %2$s";
+    static final String MESSAGE_MORE_INVALID_STUDENTS = "... and %1$d more";
+    static final int MAX_REPORTED_ERRORS = 10;
+
+    /** The number of students below which converting them in parallel is not worth the overhead. */
+    private static final int PARALLEL_THRESHOLD = 256;
+
+    private final List<Student> students = new ArrayList<>();
+    private final List<String> reportedErrors = new ArrayList<>();
+    private int errorCount = 0;
+    private int convertedCount = 0;
+
+    /**
+     * Decodes the adapted student at a position.
+     */
+    @FunctionalInterface
+    interface StudentDecoder {
+        JsonAdaptedStudent decode(int index) throws IOException;
+    }
+
+    /**
+     * Converts {@code adaptedStudents}, which follow the students converted so far.
+     */
+    void convert(List<JsonAdaptedStudent> adaptedStudents) {
+        convert(adaptedStudents.size(), adaptedStudents::get);
+    }
+
+    /**
+     * Decodes and converts {@code count} students with {@code decoder}, which follow the students converted so far.
+     * {@code decoder} may be called from several threads at the same time.
+     */
+    void convert(int count, StudentDecoder decoder) {
+        Student[] converted = new Student[count];
+        String[] errors = new String[count];
+        IntStream indexes = IntStream.range(0, count);
+        if (count >= PARALLEL_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> {
+            try {
+                converted[i] = decoder.decode(i).toModelType();
+            } catch (IOException | IllegalValueException e) {
+                errors[i] = e.getMessage();
+            } catch (RuntimeException e) {
+                // such as a DateTimeException from an adapted field, which should not stop the other students
+                errors[i] = e.getMessage() == null ? e.toString() : e.getMessage();
+            }
+        });
+
+        for (int i = 0; i < count; i++) {
+            if (errors[i] == null) {
+                students.add(converted[i]);
+            } else {
+                addError(convertedCount + i + 1, errors[i]);
+            }
+        }
+        convertedCount += count;
+    }
+
+    private void addError(int position, String message) {
+        errorCount++;
+        if (reportedErrors.size() < MAX_REPORTED_ERRORS) {
+            reportedErrors.add(String.format(MESSAGE_INVALID_STUDENT, position, message));
+        }
+    }
+
+    /**
+     * Returns the converted students in the order they were given.
+     *
+     * @throws IllegalValueException if any student is invalid, listing the first {@code MAX_REPORTED_ERRORS} of them.
+     */
+    List<Student> getStudents() throws IllegalValueException {
+        if (errorCount == 0) {
+            return students;
+        }
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_INVALID_STUDENTS, errorCount));
+        reportedErrors.forEach(error -> message.append("\n").append(error));
+        if (errorCount > reportedErrors.size()) {
+            message.append("\n").append(String.format(MESSAGE_MORE_INVALID_STUDENTS,
+                    errorCount - reportedErrors.size()));
+        }
+        throw new IllegalValueException(message.toString());
+    }
+}
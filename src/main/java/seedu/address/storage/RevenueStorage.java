@@ -0,0 +1,35 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.analytics.RevenueEventStore;
+
+/**
+ * Represents a storage for the revenue events of {@link seedu.address.model.analytics.RevenueAnalytics}.
+ */
+public interface RevenueStorage {
+
+    /**
+     * Returns the file path of the revenue file.
+     */
+    Path getRevenueFilePath();
+
+    /**
+     * Returns the revenue events in storage, in the order they were recorded.
+     *   Returns {@code Optional.empty()} if storage file is not found.
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    Optional<RevenueEventStore> readRevenueEvents() throws DataConversionException, IOException;
+
+    /**
+     * Saves the given revenue events to the storage.
+     * Events are never changed once recorded, so only the events recorded since the last save need to be written.
+     * @param events cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveRevenueEvents(RevenueEventStore events) throws IOException;
+}
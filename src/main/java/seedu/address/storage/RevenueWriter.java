@@ -0,0 +1,100 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.analytics.RevenueEventStore;
+
+/**
+ * Writes revenue events to a {@code RevenueStorage} on a single background thread, in the same way as
+ * {@code TeachersPetWriter} writes TeachersPet data.
+ * Only the latest events submitted are kept. As events are only ever recorded after the earlier ones, writing them
+ * also writes the events of any earlier submission that was replaced or could not be written.
+ */
+class RevenueWriter {
+
+    private static final Logger logger = LogsCenter.getLogger(RevenueWriter.class);
+
+    private final RevenueStorage revenueStorage;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Revenue writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<RevenueEventStore> pendingEvents = new AtomicReference<>();
+    private volatile RevenueEventStore failedEvents;
+    private volatile Consumer<IOException> saveFailureHandler = ioe -> {};
+
+    RevenueWriter(RevenueStorage revenueStorage) {
+        requireNonNull(revenueStorage);
+        this.revenueStorage = revenueStorage;
+    }
+
+    /**
+     * Sets the handler that is called on the writer thread when a write fails.
+     */
+    void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    /**
+     * Queues {@code events} to be written, replacing any events that are still waiting to be written.
+     * {@code events} must not be modified afterwards.
+     */
+    void submit(RevenueEventStore events) {
+        requireNonNull(events);
+        if (pendingEvents.getAndSet(events) == null) {
+            executor.execute(this::writePendingEvents);
+        }
+    }
+
+    /**
+     * Waits for every queued write to finish.
+     * If the latest write failed, it is tried once more on the calling thread.
+     *
+     * @throws IOException if the latest write still fails.
+     */
+    void flush() throws IOException {
+        try {
+            executor.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for revenue events to be saved");
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task should not fail", e);
+        }
+
+        RevenueEventStore events = failedEvents;
+        if (events != null) {
+            revenueStorage.saveRevenueEvents(events);
+            failedEvents = null;
+        }
+    }
+
+    private void writePendingEvents() {
+        RevenueEventStore events = pendingEvents.getAndSet(null);
+        if (events == null) {
+            return;
+        }
+        try {
+            revenueStorage.saveRevenueEvents(events);
+            failedEvents = null;
+        } catch (IOException ioe) {
+            logger.warning("Failed to save revenue events to " + revenueStorage.getRevenueFilePath() + ": "
+                    + StringUtil.getDetails(ioe));
+            failedEvents = events;
+            saveFailureHandler.accept(ioe);
+        }
+    }
+}
@@ -3,16 +3,18 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyTeachersPet;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.analytics.RevenueEventStore;
 
 /**
  * API of the Storage component
  */
-public interface Storage extends TeachersPetStorage, UserPrefsStorage {
+public interface Storage extends TeachersPetStorage, UserPrefsStorage, RevenueStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException;
@@ -29,4 +31,37 @@ public interface Storage extends TeachersPetStorage, UserPrefsStorage {
     @Override
     void saveTeachersPet(ReadOnlyTeachersPet teachersPet) throws IOException;
 
+    /**
+     * Saves the given {@link ReadOnlyTeachersPet} to the storage, and calls {@code onSaved} once it has been written.
+     * If the data is saved in the background, {@code onSaved} is called from another thread, and is not called at all
+     * if the data is replaced by newer data before it is written or cannot be written.
+     * @param teachersPet cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveTeachersPet(ReadOnlyTeachersPet teachersPet, Runnable onSaved) throws IOException;
+
+    @Override
+    Optional<RevenueEventStore> readRevenueEvents() throws DataConversionException, IOException;
+
+    @Override
+    void saveRevenueEvents(RevenueEventStore events) throws IOException;
+
+    /**
+     * Waits until all saved TeachersPet data and revenue events have been written.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Sets the handler to be called when TeachersPet data saved in the background could not be written.
+     * The handler may be called from a thread other than the one that saved the data.
+     */
+    void setSaveFailureHandler(Consumer<IOException> saveFailureHandler);
+
+    /**
+     * Sets the handler to be called when revenue events saved in the background could not be written.
+     * The handler may be called from a thread other than the one that saved the events.
+     */
+    void setRevenueSaveFailureHandler(Consumer<IOException> saveFailureHandler);
+
 }
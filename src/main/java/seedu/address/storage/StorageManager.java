@@ -1,8 +1,11 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -10,6 +13,7 @@ import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyTeachersPet;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.analytics.RevenueEventStore;
 
 /**
  * Manages storage of TeachersPet data in local storage.
@@ -19,13 +23,34 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private TeachersPetStorage teachersPetStorage;
     private UserPrefsStorage userPrefsStorage;
+    private TeachersPetWriter teachersPetWriter;
+    private RevenueStorage revenueStorage;
+    private RevenueWriter revenueWriter;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code TeachersPetStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code TeachersPetStorage} and {@code UserPrefStorage}
+     * that saves TeachersPet data before returning.
      */
     public StorageManager(TeachersPetStorage teachersPetStorage, UserPrefsStorage userPrefsStorage) {
+        this(teachersPetStorage, userPrefsStorage, false);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code TeachersPetStorage} and {@code UserPrefStorage}.
+     * If {@code isWriteBehind} is true, TeachersPet data and revenue events are saved on background threads instead,
+     * and {@link #flush()} must be called to make sure that they have been written.
+     * Revenue events are kept in a {@code BinaryRevenueStorage} next to the TeachersPet data file.
+     */
+    public StorageManager(TeachersPetStorage teachersPetStorage, UserPrefsStorage userPrefsStorage,
+            boolean isWriteBehind) {
         this.teachersPetStorage = teachersPetStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.revenueStorage = new BinaryRevenueStorage(
+                BinaryRevenueStorage.getRevenueFilePath(teachersPetStorage.getTeachersPetFilePath()));
+        if (isWriteBehind) {
+            teachersPetWriter = new TeachersPetWriter(teachersPetStorage);
+            revenueWriter = new RevenueWriter(revenueStorage);
+        }
     }
 
     // ================ UserPrefs methods ==============================
@@ -68,10 +93,75 @@ public class StorageManager implements Storage {
         saveTeachersPet(teachersPet, teachersPetStorage.getTeachersPetFilePath());
     }
 
+    @Override
+    public void saveTeachersPet(ReadOnlyTeachersPet teachersPet, Runnable onSaved) throws IOException {
+        saveTeachersPet(teachersPet, teachersPetStorage.getTeachersPetFilePath(), onSaved);
+    }
+
     @Override
     public void saveTeachersPet(ReadOnlyTeachersPet teachersPet, Path filePath) throws IOException {
+        saveTeachersPet(teachersPet, filePath, () -> {});
+    }
+
+    private void saveTeachersPet(ReadOnlyTeachersPet teachersPet, Path filePath, Runnable onSaved)
+            throws IOException {
+        requireNonNull(onSaved);
         logger.fine("Attempting to write to data file: " + filePath);
-        teachersPetStorage.saveTeachersPet(teachersPet, filePath);
+        if (teachersPetWriter == null) {
+            teachersPetStorage.saveTeachersPet(teachersPet, filePath);
+            onSaved.run();
+            return;
+        }
+        // the snapshot is written on the writer thread, so later changes to teachersPet do not affect it
+        teachersPetWriter.submit(new TeachersPetSnapshot(teachersPet), filePath, onSaved);
+    }
+
+    // ================ Revenue methods ==============================
+
+    @Override
+    public Path getRevenueFilePath() {
+        return revenueStorage.getRevenueFilePath();
+    }
+
+    @Override
+    public Optional<RevenueEventStore> readRevenueEvents() throws DataConversionException, IOException {
+        logger.fine("Attempting to read revenue events from file: " + getRevenueFilePath());
+        return revenueStorage.readRevenueEvents();
+    }
+
+    @Override
+    public void saveRevenueEvents(RevenueEventStore events) throws IOException {
+        requireNonNull(events);
+        logger.fine("Attempting to write revenue events to file: " + getRevenueFilePath());
+        if (revenueWriter == null) {
+            revenueStorage.saveRevenueEvents(events);
+            return;
+        }
+        // the snapshot is written on the writer thread, so events recorded later do not affect it
+        revenueWriter.submit(events.snapshot());
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (teachersPetWriter != null) {
+            teachersPetWriter.flush();
+            revenueWriter.flush();
+        }
+        teachersPetStorage.flush();
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        if (teachersPetWriter != null) {
+            teachersPetWriter.setSaveFailureHandler(saveFailureHandler);
+        }
+    }
+
+    @Override
+    public void setRevenueSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        if (revenueWriter != null) {
+            revenueWriter.setSaveFailureHandler(saveFailureHandler);
+        }
     }
 
 }
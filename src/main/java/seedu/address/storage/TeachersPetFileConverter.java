@@ -0,0 +1,53 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyTeachersPet;
+
+/**
+ * Converts TeachersPet data files between the json and the binary formats.
+ * Both formats hold every field of every student, so converting a file to the other format and back gives the
+ * same data.
+ */
+public class TeachersPetFileConverter {
+
+    private TeachersPetFileConverter() {}
+
+    /**
+     * Writes the data in the json file at {@code jsonFilePath} to a binary file at {@code binaryFilePath}.
+     * Both paths may be the same.
+     *
+     * @throws DataConversionException if the json file is not in the correct format.
+     * @throws IOException if the json file does not exist or the binary file cannot be written.
+     */
+    public static void jsonToBinary(Path jsonFilePath, Path binaryFilePath) throws DataConversionException,
+            IOException {
+        requireAllNonNull(jsonFilePath, binaryFilePath);
+        convert(new JsonTeachersPetStorage(jsonFilePath), new BinaryTeachersPetStorage(binaryFilePath));
+    }
+
+    /**
+     * Writes the data in the binary file at {@code binaryFilePath} to a json file at {@code jsonFilePath}.
+     * Both paths may be the same.
+     *
+     * @throws DataConversionException if the binary file is not in the correct format.
+     * @throws IOException if the binary file does not exist or the json file cannot be written.
+     */
+    public static void binaryToJson(Path binaryFilePath, Path jsonFilePath) throws DataConversionException,
+            IOException {
+        requireAllNonNull(binaryFilePath, jsonFilePath);
+        convert(new BinaryTeachersPetStorage(binaryFilePath), new JsonTeachersPetStorage(jsonFilePath));
+    }
+
+    private static void convert(TeachersPetStorage source, TeachersPetStorage target)
+            throws DataConversionException, IOException {
+        ReadOnlyTeachersPet teachersPet = source.readTeachersPet()
+                .orElseThrow(() -> new NoSuchFileException(source.getTeachersPetFilePath().toString()));
+        target.saveTeachersPet(teachersPet);
+    }
+}
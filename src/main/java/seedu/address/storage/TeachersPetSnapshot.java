@@ -0,0 +1,60 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyTeachersPet;
+import seedu.address.model.StudentChangeLog;
+import seedu.address.model.student.Student;
+
+/**
+ * A copy of the students of a {@code ReadOnlyTeachersPet} at the time it was taken, to be written to a file.
+ * Only the lists are copied, as the students themselves are immutable, so taking a snapshot does not build any of
+ * the indexes that a {@code TeachersPet} keeps. The log of the changes made to the students is shared rather than
+ * copied.
+ * Guarantees: immutable.
+ */
+class TeachersPetSnapshot implements ReadOnlyTeachersPet {
+
+    private final ObservableList<Student> students;
+    private final ObservableList<Student> schedule;
+    private final StudentChangeLog changeLog;
+
+    /**
+     * Creates a snapshot of the students, schedule and student change log of {@code teachersPet}.
+     */
+    TeachersPetSnapshot(ReadOnlyTeachersPet teachersPet) {
+        requireNonNull(teachersPet);
+        students = toUnmodifiableObservableList(teachersPet.getStudentList());
+        schedule = toUnmodifiableObservableList(teachersPet.getScheduleList());
+        changeLog = teachersPet.getStudentChangeLog().map(StudentChangeLog::snapshot).orElse(null);
+    }
+
+    private static ObservableList<Student> toUnmodifiableObservableList(List<Student> students) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(List.copyOf(students)));
+    }
+
+    @Override
+    public ObservableList<Student> getStudentList() {
+        return students;
+    }
+
+    @Override
+    public ObservableList<Student> getScheduleList() {
+        return schedule;
+    }
+
+    @Override
+    public Optional<StudentChangeLog> getStudentChangeLog() {
+        return Optional.ofNullable(changeLog);
+    }
+
+    @Override
+    public String toString() {
+        return students.size() + " students";
+    }
+}
@@ -42,4 +42,10 @@ public interface TeachersPetStorage {
      */
     void saveTeachersPet(ReadOnlyTeachersPet teachersPet, Path filePath) throws IOException;
 
+    /**
+     * Makes sure that everything saved so far is kept in its final form, e.g. before the app exits.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void flush() throws IOException {}
+
 }
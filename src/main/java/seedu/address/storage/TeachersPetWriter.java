@@ -0,0 +1,121 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyTeachersPet;
+
+/**
+ * Writes TeachersPet data to a {@code TeachersPetStorage} on a single background thread.
+ * Only the latest data submitted is kept, so saves submitted while a write is in progress are combined into a
+ * single write of the latest data.
+ */
+class TeachersPetWriter {
+
+    private static final Logger logger = LogsCenter.getLogger(TeachersPetWriter.class);
+
+    private final TeachersPetStorage teachersPetStorage;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "TeachersPet writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<PendingSave> pendingSave = new AtomicReference<>();
+    private volatile PendingSave failedSave;
+    private volatile Consumer<IOException> saveFailureHandler = ioe -> {};
+
+    TeachersPetWriter(TeachersPetStorage teachersPetStorage) {
+        requireNonNull(teachersPetStorage);
+        this.teachersPetStorage = teachersPetStorage;
+    }
+
+    /**
+     * Sets the handler that is called on the writer thread when a write fails.
+     */
+    void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    /**
+     * Queues {@code teachersPet} to be written to {@code filePath}, replacing any data that is still waiting to be
+     * written. {@code teachersPet} must not be modified afterwards.
+     * {@code onSaved} is called on the writer thread once {@code teachersPet} has been written.
+     */
+    void submit(ReadOnlyTeachersPet teachersPet, Path filePath, Runnable onSaved) {
+        requireAllNonNull(teachersPet, filePath, onSaved);
+        if (pendingSave.getAndSet(new PendingSave(teachersPet, filePath, onSaved)) == null) {
+            executor.execute(this::writePendingSave);
+        }
+    }
+
+    /**
+     * Waits for every queued write to finish.
+     * If the latest write failed, it is tried once more on the calling thread.
+     *
+     * @throws IOException if the latest write still fails.
+     */
+    void flush() throws IOException {
+        try {
+            executor.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for data to be saved");
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task should not fail", e);
+        }
+
+        PendingSave save = failedSave;
+        if (save != null) {
+            save.write(teachersPetStorage);
+            failedSave = null;
+        }
+    }
+
+    private void writePendingSave() {
+        PendingSave save = pendingSave.getAndSet(null);
+        if (save == null) {
+            return;
+        }
+        try {
+            save.write(teachersPetStorage);
+            failedSave = null;
+        } catch (IOException ioe) {
+            logger.warning("Failed to save data to " + save.filePath + ": " + StringUtil.getDetails(ioe));
+            failedSave = save;
+            saveFailureHandler.accept(ioe);
+        }
+    }
+
+    /**
+     * TeachersPet data waiting to be written to a file.
+     */
+    private static class PendingSave {
+        private final ReadOnlyTeachersPet teachersPet;
+        private final Path filePath;
+        private final Runnable onSaved;
+
+        PendingSave(ReadOnlyTeachersPet teachersPet, Path filePath, Runnable onSaved) {
+            this.teachersPet = teachersPet;
+            this.filePath = filePath;
+            this.onSaved = onSaved;
+        }
+
+        void write(TeachersPetStorage teachersPetStorage) throws IOException {
+            teachersPetStorage.saveTeachersPet(teachersPet, filePath);
+            onSaved.run();
+        }
+    }
+}
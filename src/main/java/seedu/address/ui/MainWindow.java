@@ -1,8 +1,11 @@
 package seedu.address.ui;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Queue;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -25,6 +28,9 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class MainWindow extends UiPart<Stage> {
 
+    public static final String MESSAGE_COMMAND_QUEUED =
+            "Students are still being loaded. \"%1$s\" will be executed once loading is complete.";
+
     private static final String FXML = "MainWindow.fxml";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
@@ -42,6 +48,10 @@ public class MainWindow extends UiPart<Stage> {
     private HelpWindow helpWindow;
     private ScheduleListPanel scheduleListPanel;
     private StatisticsDisplay statisticsDisplay;
+    private StatusBarFooter statusBarFooter;
+
+    private final Queue<String> queuedCommands = new ArrayDeque<>();
+    private boolean isLoading = false;
 
 
     @FXML
@@ -128,15 +138,16 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getTeachersPetFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getTeachersPetFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
         statisticsDisplay = new StatisticsDisplay();
-        statisticsDisplay.showStatisticsToUser(logic.getStatisticsCalculator());
+        statisticsDisplay.showStatisticsToUser(logic.getStatisticsCalculator(), logic.getRevenueAnalytics());
         statisticsPlaceholder.getChildren().add(statisticsDisplay.getRoot());
     }
 
@@ -191,11 +202,18 @@ public class MainWindow extends UiPart<Stage> {
      */
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException,
             DataConversionException, IOException {
+        if (isLoading) {
+            queuedCommands.add(commandText);
+            String feedbackToUser = String.format(MESSAGE_COMMAND_QUEUED, commandText);
+            resultDisplay.setFeedbackToUser(feedbackToUser);
+            return new CommandResult(feedbackToUser);
+        }
+
         try {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-            statisticsDisplay.showStatisticsToUser(logic.getStatisticsCalculator());
+            statisticsDisplay.showStatisticsToUser(logic.getStatisticsCalculator(), logic.getRevenueAnalytics());
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
@@ -213,6 +231,33 @@ public class MainWindow extends UiPart<Stage> {
         }
     }
 
+    /**
+     * Shows the loading progress in the status bar. Commands are queued until loading is complete.
+     */
+    void showLoadingProgress(int loadedCount, int totalCount) {
+        isLoading = true;
+        statusBarFooter.setLoadingProgress(loadedCount, totalCount);
+    }
+
+    /**
+     * Hides the loading progress and executes the commands that were queued while loading.
+     */
+    void showLoadingComplete() {
+        isLoading = false;
+        statusBarFooter.clearLoadingProgress();
+        statisticsDisplay.showStatisticsToUser(logic.getStatisticsCalculator(), logic.getRevenueAnalytics());
+        while (!queuedCommands.isEmpty()) {
+            String commandText = queuedCommands.remove();
+            try {
+                if (executeCommand(commandText).isExit()) {
+                    queuedCommands.clear();
+                }
+            } catch (CommandException | ParseException | DataConversionException | IOException e) {
+                // the error has been shown to the user by executeCommand
+            }
+        }
+    }
+
     /**
      * Displays error message to user when there is invalid format in the teachersPet json file.
      */
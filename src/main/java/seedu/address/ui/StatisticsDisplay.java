@@ -1,9 +1,13 @@
 package seedu.address.ui;
 
+import java.time.LocalDate;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.TextArea;
 import javafx.scene.layout.Region;
 import seedu.address.model.StatisticsCalculator;
+import seedu.address.model.analytics.RevenueAnalytics;
+import seedu.address.model.analytics.RevenueSummary;
 
 /**
  * A UI for the statistics display that is displayed at the top right of the application.
@@ -23,13 +27,22 @@ public class StatisticsDisplay extends UiPart<Region> {
      * Displays the statistics of the TeachersPet to the user.
      *
      * @param statisticsCalculator the calculator to calculate statistical values.
+     * @param revenueAnalytics the revenue of the classes attended and payments made.
      */
-    public void showStatisticsToUser(StatisticsCalculator statisticsCalculator) {
-        int numberOfStudents = statisticsCalculator.getSize();
-        String amountOwed = statisticsCalculator.getAmountOwed();
-        String amountCollected = statisticsCalculator.getAmountPaid();
+    public void showStatisticsToUser(StatisticsCalculator statisticsCalculator, RevenueAnalytics revenueAnalytics) {
+        LocalDate today = LocalDate.now();
+        RevenueSummary thisMonth = revenueAnalytics.getMonthSummary(today);
+        String collectionRate = thisMonth.getCollectionRate().isPresent()
+                ? String.format("%.0f%%", thisMonth.getCollectionRate().getAsDouble() * 100)
+                : "-";
         statisticsDisplay.setText(String.format("Number of students: %d\n"
-                + "Total amount owed: %s\n"
-                + "Total amount collected: %s", numberOfStudents, amountOwed, amountCollected));
+                + "Students owing money: %d\n"
+                + "Total amount owed: $%d\n"
+                + "Total amount collected: $%d\n"
+                + "Collected this month: $%d of $%d (%s)\n"
+                + "Classes attended this week: %d", statisticsCalculator.getSize(),
+                statisticsCalculator.getStudentsOwingMoney(), statisticsCalculator.getAmountOwed(),
+                statisticsCalculator.getAmountPaid(), thisMonth.getAmountCollected(), thisMonth.getAmountCharged(),
+                collectionRate, revenueAnalytics.getWeekSummary(today).getClassesAttended()));
     }
 }
@@ -12,10 +12,15 @@ import javafx.scene.layout.Region;
  */
 public class StatusBarFooter extends UiPart<Region> {
 
+    public static final String MESSAGE_LOADING = "Loading students...";
+    public static final String MESSAGE_LOADING_PROGRESS = "Loading students... %1$d / %2$d";
+
     private static final String FXML = "StatusBarFooter.fxml";
 
     @FXML
     private Label saveLocationStatus;
+    @FXML
+    private Label loadingStatus;
 
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
@@ -25,4 +30,21 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows that {@code loadedCount} of {@code totalCount} students have been loaded.
+     * A {@code totalCount} of 0 means the data file is still being read.
+     */
+    public void setLoadingProgress(int loadedCount, int totalCount) {
+        loadingStatus.setText(totalCount == 0
+                ? MESSAGE_LOADING
+                : String.format(MESSAGE_LOADING_PROGRESS, loadedCount, totalCount));
+    }
+
+    /**
+     * Hides the loading progress.
+     */
+    public void clearLoadingProgress() {
+        loadingStatus.setText("");
+    }
+
 }
@@ -12,4 +12,15 @@ public interface Ui {
 
     void displayInvalidJsonFileMessage();
 
+    /**
+     * Shows that {@code loadedCount} of {@code totalCount} students have been loaded.
+     * Commands entered from now on are queued until {@link #showLoadingComplete()} is called.
+     */
+    void showLoadingProgress(int loadedCount, int totalCount);
+
+    /**
+     * Shows that all the students have been loaded, and executes the queued commands.
+     */
+    void showLoadingComplete();
+
 }
@@ -58,6 +58,16 @@ public class UiManager implements Ui {
         mainWindow.displayErrorMessageInvalidJson();
     }
 
+    @Override
+    public void showLoadingProgress(int loadedCount, int totalCount) {
+        mainWindow.showLoadingProgress(loadedCount, totalCount);
+    }
+
+    @Override
+    public void showLoadingComplete() {
+        mainWindow.showLoadingComplete();
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -0,0 +1,75 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.getTypicalTeachersPet;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ModelManager;
+import seedu.address.model.TeachersPet;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
+
+public class TeachersPetLoaderTest {
+
+    private final ModelManager model = new ModelManager();
+    private final LoadingListenerStub listener = new LoadingListenerStub();
+    private final TeachersPetLoader loader = new TeachersPetLoader(model, Runnable::run, listener);
+
+    @Test
+    public void load_manyStudents_addedInChunks() {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 2 * TeachersPetLoader.CHUNK_SIZE + 1; i++) {
+            students.add(new StudentBuilder(ALICE).withPhone(String.valueOf(90000000 + i)).build());
+        }
+        TeachersPet teachersPet = new TeachersPet();
+        teachersPet.resetStudents(students);
+
+        loader.load(() -> teachersPet);
+        assertEquals(teachersPet, model.getTeachersPet());
+        assertEquals(List.of(TeachersPetLoader.CHUNK_SIZE, 2 * TeachersPetLoader.CHUNK_SIZE, students.size()),
+                listener.progress);
+        assertEquals(1, listener.loadedCount);
+    }
+
+    @Test
+    public void load_fewStudents_addedInOneChunk() {
+        TeachersPet teachersPet = getTypicalTeachersPet();
+        loader.load(() -> teachersPet);
+        assertEquals(teachersPet, model.getTeachersPet());
+        assertEquals(List.of(teachersPet.getStudentList().size()), listener.progress);
+        assertEquals(1, listener.loadedCount);
+    }
+
+    @Test
+    public void load_readerFails_loadedWithoutStudents() {
+        loader.load(() -> {
+            throw new IllegalStateException();
+        });
+        assertEquals(new TeachersPet(), model.getTeachersPet());
+        assertEquals(List.of(0), listener.progress);
+        assertEquals(1, listener.loadedCount);
+    }
+
+    /**
+     * A listener that records the progress it is given.
+     */
+    private static class LoadingListenerStub implements TeachersPetLoader.LoadingListener {
+        private final List<Integer> progress = new ArrayList<>();
+        private int loadedCount = 0;
+
+        @Override
+        public void onProgress(int loadedCount, int totalCount) {
+            progress.add(loadedCount);
+        }
+
+        @Override
+        public void onLoaded() {
+            loadedCount++;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +124,33 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for getEditDistance --------------------------------------
+
+    @Test
+    public void getEditDistance_withinMaxDistance_returnsDistance() {
+        assertEquals(0, StringUtil.getEditDistance("alice", "alice", 2));
+        assertEquals(1, StringUtil.getEditDistance("alice", "alise", 2)); // substitution
+        assertEquals(1, StringUtil.getEditDistance("alice", "alce", 2)); // deletion
+        assertEquals(1, StringUtil.getEditDistance("alice", "allice", 2)); // insertion
+        assertEquals(2, StringUtil.getEditDistance("alice", "laice", 2)); // transposition
+        assertEquals(2, StringUtil.getEditDistance("", "ab", 2)); // empty string (boundary case)
+        assertEquals(3, StringUtil.getEditDistance("kitten", "sitting", 3));
+    }
+
+    @Test
+    public void getEditDistance_beyondMaxDistance_returnsMaxDistancePlusOne() {
+        assertEquals(3, StringUtil.getEditDistance("alice", "bob", 2));
+        assertEquals(3, StringUtil.getEditDistance("kitten", "sitting", 2));
+        assertEquals(1, StringUtil.getEditDistance("alice", "alise", 0));
+        assertEquals(2, StringUtil.getEditDistance("abcdef", "abc", 1)); // lengths too far apart
+    }
+
+    @Test
+    public void getEditDistance_invalidInputs_throwsException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.getEditDistance(null, "abc", 1));
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.getEditDistance("abc", "abc", -1));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
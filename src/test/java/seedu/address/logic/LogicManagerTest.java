@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
@@ -11,7 +13,9 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalStudents.AMY;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.LocalDate;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,6 +26,8 @@ import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -29,6 +35,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyTeachersPet;
 import seedu.address.model.StatisticsCalculator;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.student.Money;
 import seedu.address.model.student.Student;
 import seedu.address.storage.JsonTeachersPetStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
@@ -71,6 +78,78 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_readOnlyCommand_notUndoable() throws Exception {
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        assertCommandException(UndoCommand.COMMAND_WORD, ModelManager.MESSAGE_NOTHING_TO_UNDO);
+    }
+
+    @Test
+    public void execute_undoAndRedoAddCommand_success() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + NOK_PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        Student expectedStudent = new StudentBuilder(AMY).withTags().build();
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addStudent(expectedStudent);
+        logic.execute(addCommand);
+
+        assertCommandSuccess(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_SUCCESS, new ModelManager());
+        assertCommandSuccess(RedoCommand.COMMAND_WORD, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandException(RedoCommand.COMMAND_WORD, ModelManager.MESSAGE_NOTHING_TO_REDO);
+    }
+
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        assertFalse(Files.exists(temporaryFolder.resolve("teachersPet.json")));
+    }
+
+    @Test
+    public void execute_modifyingCommand_saves() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + NOK_PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        assertTrue(Files.exists(temporaryFolder.resolve("teachersPet.json")));
+        assertFalse(model.hasUnsavedChanges());
+        // no revenue events have been recorded yet
+        assertFalse(Files.exists(temporaryFolder.resolve("teachersPet.json.revenue")));
+    }
+
+    @Test
+    public void execute_newRevenueEvents_savesRevenueEvents() throws Exception {
+        model.recordPayment(LocalDate.of(2022, 10, 1), new Money(30));
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertTrue(Files.exists(temporaryFolder.resolve("teachersPet.json.revenue")));
+    }
+
+    @Test
+    public void execute_revenueSaveFails_commandSucceeds() throws Exception {
+        // a directory in place of the revenue file cannot be written to
+        Files.createDirectory(temporaryFolder.resolve("teachersPet.json.revenue"));
+        model.recordPayment(LocalDate.of(2022, 10, 1), new Money(30));
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + NOK_PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        assertTrue(Files.exists(temporaryFolder.resolve("teachersPet.json")));
+        assertFalse(model.hasUnsavedChanges());
+    }
+
+    @Test
+    public void execute_writeBehindSaveFails_keepsUnsavedChanges() throws Exception {
+        JsonTeachersPetStorage teachersPetStorage =
+                new JsonTeachersPetIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionTeachersPet.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        StorageManager storage = new StorageManager(teachersPetStorage, userPrefsStorage, true);
+        logic = new LogicManager(model, storage);
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + NOK_PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        assertThrows(IOException.class, storage::flush);
+        assertTrue(model.hasUnsavedChanges());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         // Setup LogicManager with JsonTeachersPetIoExceptionThrowingStub
@@ -7,9 +7,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -21,7 +23,14 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyTeachersPet;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.TeachersPet;
+import seedu.address.model.analytics.DebtRanking;
+import seedu.address.model.analytics.RevenueAnalytics;
+import seedu.address.model.analytics.RevenueEventStore;
+import seedu.address.model.analytics.StudentGroupStatistics;
+import seedu.address.model.student.Money;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentSearchIndex;
+import seedu.address.model.student.StudentSortOrder;
 import seedu.address.testutil.StudentBuilder;
 
 public class AddCommandTest {
@@ -115,9 +124,50 @@ public class AddCommandTest {
         }
 
         @Override
-        public void sortStudents(Comparator<Student> comparator) {
+        public void addLoadedStudents(List<Student> students) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void setStudentSortOrder(StudentSortOrder studentSortOrder) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public StudentGroupStatistics getGroupStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public DebtRanking getDebtRanking() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public StudentSearchIndex getSearchIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public RevenueAnalytics getRevenueAnalytics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addLoadedRevenueEvents(RevenueEventStore events) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void recordAttendance(LocalDate date, Money fee) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void recordPayment(LocalDate date, Money amount) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setTeachersPet(ReadOnlyTeachersPet newData) {
             throw new AssertionError("This method should not be called.");
@@ -164,7 +214,17 @@ public class AddCommandTest {
         }
 
         @Override
-        public void updateTeachersPetHistory() {
+        public Optional<Student> getConflictingStudent(Student student, Student excludedStudent) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitTeachersPet() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void discardTeachersPetChanges() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -174,7 +234,22 @@ public class AddCommandTest {
         }
 
         @Override
-        public void deleteTeachersPetHistory() {
+        public void redo() throws CommandException {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasUnsavedChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getTeachersPetVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markTeachersPetSaved(long version) {
             throw new AssertionError("This method should not be called.");
         }
     }
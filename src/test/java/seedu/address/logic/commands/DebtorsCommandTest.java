@@ -0,0 +1,106 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_STUDENT;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.CARL;
+import static seedu.address.testutil.TypicalStudents.getTypicalTeachersPet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.student.Money;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for DebtorsCommand.
+ */
+public class DebtorsCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalTeachersPet(), new UserPrefs());
+        setMoneyOwed(model, ALICE, 50);
+        setMoneyOwed(model, BENSON, 50);
+        setMoneyOwed(model, CARL, 80);
+        expectedModel = new ModelManager(model.getTeachersPet(), new UserPrefs());
+    }
+
+    private static void setMoneyOwed(Model model, Student student, int moneyOwed) {
+        model.setStudent(student, new StudentBuilder(student).withMoneyOwed(moneyOwed).build());
+    }
+
+    @Test
+    public void execute_top_showsTopDebtorsWithoutReordering() {
+        String expectedMessage = String.format(DebtorsCommand.MESSAGE_TOP_DEBTORS, 2) + "\n"
+                + "1. Carl Kurz: $80\n"
+                + "2. Alice Pauline: $50";
+        assertCommandSuccess(DebtorsCommand.top(2), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_topWithoutDebtors_showsNoDebtors() {
+        model = new ModelManager(getTypicalTeachersPet(), new UserPrefs());
+        assertCommandSuccess(DebtorsCommand.top(DebtorsCommand.DEFAULT_COUNT), model,
+                DebtorsCommand.MESSAGE_NO_DEBTORS, new ModelManager(getTypicalTeachersPet(), new UserPrefs()));
+    }
+
+    @Test
+    public void execute_owingMoreThan_showsStudentsOwingMore() {
+        String expectedMessage = String.format(DebtorsCommand.MESSAGE_OWING_MORE_THAN, 3, 40) + "\n"
+                + "1. Carl Kurz: $80\n"
+                + "2. Alice Pauline: $50\n"
+                + "3. Benson Meier: $50";
+        assertCommandSuccess(DebtorsCommand.owingMoreThan(new Money(40)), model, expectedMessage, expectedModel);
+        assertCommandSuccess(DebtorsCommand.owingMoreThan(new Money(80)), model,
+                String.format(DebtorsCommand.MESSAGE_NONE_OWING_MORE_THAN, 80), expectedModel);
+    }
+
+    @Test
+    public void execute_rankOf_showsRank() {
+        // Benson is the second student in the student list
+        String expectedMessage = String.format(DebtorsCommand.MESSAGE_RANK, "Benson Meier", 3, 7, 50);
+        assertCommandSuccess(DebtorsCommand.rankOf(INDEX_SECOND_STUDENT), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_rankOfInvalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredStudentList().size() + 1);
+        assertCommandFailure(DebtorsCommand.rankOf(outOfBoundIndex), model,
+                Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        DebtorsCommand topCommand = DebtorsCommand.top(3);
+
+        // same values -> returns true
+        assertTrue(topCommand.equals(DebtorsCommand.top(3)));
+        assertTrue(DebtorsCommand.rankOf(INDEX_FIRST_STUDENT).equals(DebtorsCommand.rankOf(INDEX_FIRST_STUDENT)));
+
+        // different types -> returns false
+        assertFalse(topCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(topCommand.equals(null));
+
+        // different queries -> returns false
+        assertFalse(topCommand.equals(DebtorsCommand.top(4)));
+        assertFalse(DebtorsCommand.rankOf(INDEX_FIRST_STUDENT).equals(DebtorsCommand.rankOf(INDEX_SECOND_STUDENT)));
+        assertFalse(DebtorsCommand.owingMoreThan(new Money(3)).equals(topCommand));
+    }
+}
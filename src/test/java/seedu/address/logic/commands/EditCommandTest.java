@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.DESC_AMY;
@@ -18,14 +19,12 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
-import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.logic.commands.EditCommand.EditStudentDescriptor;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.TeachersPet;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.student.Student;
-import seedu.address.storage.ClassStorage;
 import seedu.address.testutil.EditStudentDescriptorBuilder;
 import seedu.address.testutil.StudentBuilder;
 
@@ -37,7 +36,7 @@ public class EditCommandTest {
     private Model model = new ModelManager(getTypicalTeachersPet(), new UserPrefs());
 
     @Test
-    public void execute_allFieldsSpecifiedUnfilteredList_success() throws DataConversionException {
+    public void execute_allFieldsSpecifiedUnfilteredList_success() {
         Student editedStudent = new StudentBuilder().build();
         EditStudentDescriptor descriptor = new EditStudentDescriptorBuilder(editedStudent).build();
         EditCommand editCommand = new EditCommand(INDEX_FIRST_STUDENT, descriptor);
@@ -45,7 +44,6 @@ public class EditCommandTest {
         String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_STUDENT_SUCCESS, editedStudent);
 
         Model expectedModel = new ModelManager(new TeachersPet(model.getTeachersPet()), new UserPrefs());
-        ClassStorage classStorage = new ClassStorage(model);
         expectedModel.setStudent(model.getFilteredStudentList().get(0), editedStudent);
 
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
@@ -72,6 +70,40 @@ public class EditCommandTest {
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_appendedNotes_appendsToCopyOfNotes() {
+        Student firstStudent = new StudentBuilder(model.getFilteredStudentList().get(0))
+                .withAdditionalNotes("hello").build();
+        model.setStudent(model.getFilteredStudentList().get(0), firstStudent);
+        EditStudentDescriptor descriptor = new EditStudentDescriptorBuilder().withAppendedAdditionalNotes("world")
+                .build();
+        EditCommand editCommand = new EditCommand(INDEX_FIRST_STUDENT, descriptor);
+
+        Student editedStudent = new StudentBuilder(firstStudent).withAdditionalNotes("hello world").build();
+        String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_STUDENT_SUCCESS, editedStudent);
+        Model expectedModel = new ModelManager(new TeachersPet(model.getTeachersPet()), new UserPrefs());
+        expectedModel.setStudent(firstStudent, editedStudent);
+
+        assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
+        // the student that was edited keeps its notes
+        assertEquals("hello", firstStudent.getAdditionalNotes().toString());
+    }
+
+    @Test
+    public void execute_appendedNotesToEmptyNotes_success() {
+        Student firstStudent = model.getFilteredStudentList().get(0);
+        EditStudentDescriptor descriptor = new EditStudentDescriptorBuilder().withAppendedAdditionalNotes("world")
+                .build();
+        EditCommand editCommand = new EditCommand(INDEX_FIRST_STUDENT, descriptor);
+
+        Student editedStudent = new StudentBuilder(firstStudent).withAdditionalNotes("world").build();
+        String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_STUDENT_SUCCESS, editedStudent);
+        Model expectedModel = new ModelManager(new TeachersPet(model.getTeachersPet()), new UserPrefs());
+        expectedModel.setStudent(firstStudent, editedStudent);
+
+        assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void execute_noFieldSpecifiedUnfilteredList_success() {
         EditCommand editCommand = new EditCommand(INDEX_FIRST_STUDENT, new EditStudentDescriptor());
@@ -101,6 +133,38 @@ public class EditCommandTest {
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_conflictingClass_failure() throws Exception {
+        Student firstStudent = model.getFilteredStudentList().get(INDEX_FIRST_STUDENT.getZeroBased());
+        Student firstStudentWithClass = new StudentBuilder(firstStudent).withClass("2022-05-05 1200-1400").build();
+        model.setStudent(firstStudent, firstStudentWithClass);
+
+        EditStudentDescriptor descriptor = new EditStudentDescriptorBuilder().withClass("2022-05-05 1300-1500")
+                .build();
+        EditCommand editCommand = new EditCommand(INDEX_SECOND_STUDENT, descriptor);
+
+        String expectedMessage = String.format("%s\n%s currently has a class on %s.",
+                EditCommand.MESSAGE_CLASS_CONFLICT, firstStudentWithClass.getName(), firstStudentWithClass.getAClass());
+        assertCommandFailure(editCommand, model, expectedMessage);
+    }
+
+    @Test
+    public void execute_classOverlappingOwnClass_success() throws Exception {
+        Student firstStudent = model.getFilteredStudentList().get(INDEX_FIRST_STUDENT.getZeroBased());
+        Student firstStudentWithClass = new StudentBuilder(firstStudent).withClass("2022-05-05 1200-1400").build();
+        model.setStudent(firstStudent, firstStudentWithClass);
+
+        EditStudentDescriptor descriptor = new EditStudentDescriptorBuilder().withClass("2022-05-05 1300-1500")
+                .build();
+        EditCommand editCommand = new EditCommand(INDEX_FIRST_STUDENT, descriptor);
+        Student editedStudent = new StudentBuilder(firstStudentWithClass).withClass("2022-05-05 1300-1500").build();
+
+        String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_STUDENT_SUCCESS, editedStudent);
+        Model expectedModel = new ModelManager(new TeachersPet(model.getTeachersPet()), new UserPrefs());
+        expectedModel.setStudent(firstStudentWithClass, editedStudent);
+        assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void execute_duplicateStudentUnfilteredList_failure() {
         Student firstStudent = model.getFilteredStudentList().get(INDEX_FIRST_STUDENT.getZeroBased());
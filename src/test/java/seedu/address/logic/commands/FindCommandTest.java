@@ -5,11 +5,16 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
 import static seedu.address.testutil.TypicalStudents.CARL;
+import static seedu.address.testutil.TypicalStudents.DANIEL;
 import static seedu.address.testutil.TypicalStudents.ELLE;
 import static seedu.address.testutil.TypicalStudents.FIONA;
+import static seedu.address.testutil.TypicalStudents.GEORGE;
 import static seedu.address.testutil.TypicalStudents.getTypicalTeachersPet;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 
@@ -19,9 +24,12 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.student.predicate.AddressContainsKeywordsPredicate;
+import seedu.address.model.student.predicate.AllOfPredicate;
+import seedu.address.model.student.predicate.AllOfPredicate.QueryPlan;
 import seedu.address.model.student.predicate.ClassContainsDatePredicate;
 import seedu.address.model.student.predicate.EmailContainsKeywordsPredicate;
 import seedu.address.model.student.predicate.NameContainsKeywordsPredicate;
+import seedu.address.model.student.predicate.NameSimilarToKeywordsPredicate;
 import seedu.address.model.student.predicate.NokPhoneContainsNumberPredicate;
 import seedu.address.model.student.predicate.PhoneContainsNumberPredicate;
 import seedu.address.model.student.predicate.TagContainsKeywordsPredicate;
@@ -48,9 +56,9 @@ public class FindCommandTest {
         EmailContainsKeywordsPredicate emailSecondPredicate =
                 new EmailContainsKeywordsPredicate(Collections.singletonList("wongtf@gmail.com"));
         ClassContainsDatePredicate classOnePredicate =
-                new ClassContainsDatePredicate("2022-10-10");
+                new ClassContainsDatePredicate(LocalDate.of(2022, 10, 10));
         ClassContainsDatePredicate classTwoPredicate =
-                new ClassContainsDatePredicate("2022-10-11");
+                new ClassContainsDatePredicate(LocalDate.of(2022, 10, 11));
         PhoneContainsNumberPredicate phoneOnePredicate =
                 new PhoneContainsNumberPredicate("94351253");
         PhoneContainsNumberPredicate phoneTwoPredicate =
@@ -126,6 +134,9 @@ public class FindCommandTest {
         // different student -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
 
+        // different verbosity -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(firstPredicate, true)));
+
         // different address -> returns false
         assertFalse(findAddressFirstCommand.equals(findAddressSecondCommand));
 
@@ -168,7 +179,7 @@ public class FindCommandTest {
     @Test
     public void execute_zeroClassKeywords_noStudentFound() {
         String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 0);
-        ClassContainsDatePredicate predicate = new ClassContainsDatePredicate("2022-01-01");
+        ClassContainsDatePredicate predicate = new ClassContainsDatePredicate(LocalDate.of(2022, 1, 1));
         FindCommand command = new FindCommand(predicate);
         expectedModel.updateFilteredStudentList(predicate);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
@@ -185,6 +196,87 @@ public class FindCommandTest {
         assertEquals(Collections.emptyList(), model.getFilteredStudentList());
     }
 
+    @Test
+    public void execute_partialPhone_multipleStudentsFound() {
+        String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 3);
+        PhoneContainsNumberPredicate predicate = new PhoneContainsNumberPredicate("9482");
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredStudentList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ELLE, FIONA, GEORGE), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void execute_typoTolerantName_closestMatchesFirst() {
+        String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 4);
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(Arrays.asList("meyer~", "carl"));
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredStudentList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, ELLE, BENSON, DANIEL), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void execute_typoTolerantNameNotFound_noStudentFound() {
+        String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 0);
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(Arrays.asList("xavier~"));
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredStudentList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void execute_combinedCriteria_multipleStudentsFound() {
+        String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 2);
+        AllOfPredicate predicate = new AllOfPredicate(Arrays.asList(
+                new NameContainsKeywordsPredicate(Collections.singletonList("Meier")),
+                prepareTagPredicate("beginner")));
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredStudentList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void execute_verboseCombinedCriteria_planShown() {
+        NameContainsKeywordsPredicate namePredicate =
+                new NameContainsKeywordsPredicate(Collections.singletonList("Meier"));
+        AllOfPredicate predicate = new AllOfPredicate(Arrays.asList(namePredicate, prepareTagPredicate("beginner")));
+        QueryPlan plan = predicate.plan(model.getSearchIndex());
+        String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 2) + "\n"
+                + String.format(FindCommand.MESSAGE_QUERY_PLAN, plan);
+        FindCommand command = new FindCommand(predicate, true);
+        expectedModel.updateFilteredStudentList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredStudentList());
+
+        // the name, matching fewer students than the tag, is looked up
+        assertEquals(namePredicate, plan.getLookUp());
+        assertTrue(expectedMessage.contains("look up NameContainsKeywordsPredicate"));
+    }
+
+    @Test
+    public void execute_verboseSinglePredicate_planShown() {
+        String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 0) + "\n"
+                + String.format(FindCommand.MESSAGE_QUERY_PLAN,
+                "look up ClassContainsDatePredicate (at most 0 students)");
+        ClassContainsDatePredicate predicate = new ClassContainsDatePredicate(LocalDate.of(2022, 1, 1));
+        FindCommand command = new FindCommand(predicate, true);
+        expectedModel.updateFilteredStudentList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_alternativeAndNegatedTags_multipleStudentsFound() {
+        String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 2);
+        TagContainsKeywordsPredicate predicate = prepareTagPredicate("beginner|python !owesMoney");
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredStudentList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, DANIEL), model.getFilteredStudentList());
+    }
+
     @Test
     public void execute_zeroTagKeyword_noStudentFound() {
         String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 0);
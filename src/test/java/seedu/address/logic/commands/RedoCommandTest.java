@@ -0,0 +1,38 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.getTypicalTeachersPet;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class RedoCommandTest {
+    private Model model = new ModelManager(getTypicalTeachersPet(), new UserPrefs());
+
+    @Test
+    public void execute_undoneAction_success() throws Exception {
+        model.deleteStudent(ALICE);
+        model.commitTeachersPet();
+        model.undo();
+
+        ModelManager expectedModel = new ModelManager(getTypicalTeachersPet(), new UserPrefs());
+        expectedModel.deleteStudent(ALICE);
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void execute_noUndoneAction_throwsCommandException() {
+        assertCommandFailure(new RedoCommand(), model, ModelManager.MESSAGE_NOTHING_TO_REDO);
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(new RedoCommand().equals(new RedoCommand()));
+    }
+}
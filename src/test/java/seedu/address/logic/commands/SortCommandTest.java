@@ -1,17 +1,23 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalStudents.getTypicalTeachersPet;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
-import seedu.address.logic.commands.SortCommand.Order;
-import seedu.address.logic.commands.SortCommand.Type;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentSortOrder;
+import seedu.address.model.student.StudentSortOrder.Order;
+import seedu.address.model.student.StudentSortOrder.Type;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code SortCommand}.
@@ -24,10 +30,18 @@ public class SortCommandTest {
         SortCommand sortCommand = new SortCommand(Type.NAME, Order.ASC);
         String expectedMessage = SortCommand.MESSAGE_SUCCESS;
         ModelManager expectedModel = new ModelManager(model.getTeachersPet(), new UserPrefs());
-        expectedModel.sortStudents(SortCommand.generateComparator(Type.NAME, Order.ASC));
+        expectedModel.setStudentSortOrder(new StudentSortOrder(Type.NAME, Order.ASC));
         assertCommandSuccess(sortCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_validSort_studentsNotReordered() throws Exception {
+        List<Student> students = new ArrayList<>(model.getTeachersPet().getStudentList());
+        new SortCommand(Type.NAME, Order.DESC).execute(model);
+        assertEquals(students, model.getTeachersPet().getStudentList());
+        assertEquals(new StudentSortOrder(Type.NAME, Order.DESC), model.getUserPrefs().getStudentSortOrder());
+    }
+
     @Test
     public void equals() {
         SortCommand sortCommand1 = new SortCommand(Type.OWED, Order.ASC);
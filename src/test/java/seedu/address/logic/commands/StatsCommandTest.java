@@ -0,0 +1,117 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalStudents.getTypicalTeachersPet;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.StatsCommand.Grouping;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.analytics.RevenueSummary;
+import seedu.address.model.student.Money;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for StatsCommand.
+ */
+public class StatsCommandTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2022, 10, 1);
+    private static final LocalDate END_DATE = LocalDate.of(2022, 10, 31);
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalTeachersPet(), new UserPrefs());
+        expectedModel = new ModelManager(model.getTeachersPet(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_range_showsRevenueInRange() {
+        model.recordAttendance(START_DATE, new Money(40));
+        model.recordPayment(END_DATE, new Money(30));
+        model.recordPayment(END_DATE.plusDays(1), new Money(10));
+
+        String expectedMessage = "2022-10-01 to 2022-10-31: $30 collected of $40 charged, 1 classes attended"
+                + " (75% collected)";
+        assertCommandSuccess(new StatsCommand(START_DATE, END_DATE), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noRange_showsRevenueOfEachPeriod() {
+        model.recordPayment(LocalDate.now(), new Money(30));
+
+        String expectedMessage = "Today: $30 collected of $0 charged, 0 classes attended\n"
+                + "This week: $30 collected of $0 charged, 0 classes attended\n"
+                + "This month: $30 collected of $0 charged, 0 classes attended\n"
+                + "All time: $30 collected of $0 charged, 0 classes attended";
+        assertCommandSuccess(new StatsCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_groupings_showsStudentsInEachGroup() throws Exception {
+        Student student = model.getFilteredStudentList().get(0);
+        Student studentWithClass = new StudentBuilder(student).withClass("2022-10-15 1500-1600").withMoneyOwed(40)
+                .build();
+        model.setStudent(student, studentWithClass);
+        expectedModel.setStudent(student, studentWithClass);
+
+        String expectedMessage = StatsCommand.MESSAGE_BY_TAG + "\n"
+                + "beginner: 3 students, 1 owing $40\n"
+                + "owesmoney: 1 students, 0 owing $0\n"
+                + StatsCommand.MESSAGE_BY_SLOT + "\n"
+                + "Sat 1500-1600: 1 students, 1 owing $40";
+        assertCommandSuccess(new StatsCommand(EnumSet.allOf(Grouping.class)), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noStudentsInGroups_showsNoGroups() {
+        model = new ModelManager();
+        assertCommandSuccess(new StatsCommand(EnumSet.allOf(Grouping.class)), model,
+                StatsCommand.MESSAGE_NO_TAGS + "\n" + StatsCommand.MESSAGE_NO_SLOTS, new ModelManager());
+    }
+
+    @Test
+    public void formatSummary() {
+        assertEquals("Today: $0 collected of $0 charged, 0 classes attended",
+                StatsCommand.formatSummary("Today", RevenueSummary.EMPTY));
+        assertEquals("Today: $1 collected of $3 charged, 1 classes attended (33% collected)",
+                StatsCommand.formatSummary("Today", new RevenueSummary(3, 1, 1)));
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand rangeCommand = new StatsCommand(START_DATE, END_DATE);
+
+        // same values -> returns true
+        assertTrue(rangeCommand.equals(new StatsCommand(START_DATE, END_DATE)));
+        assertTrue(new StatsCommand().equals(new StatsCommand()));
+
+        // different types -> returns false
+        assertFalse(rangeCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(rangeCommand.equals(null));
+
+        // different range -> returns false
+        assertFalse(rangeCommand.equals(new StatsCommand(START_DATE, START_DATE)));
+        assertFalse(rangeCommand.equals(new StatsCommand()));
+
+        // different groupings -> returns false
+        assertFalse(new StatsCommand(Set.of(Grouping.TAG)).equals(new StatsCommand(Set.of(Grouping.CLASS_SLOT))));
+        assertFalse(new StatsCommand(Set.of(Grouping.TAG)).equals(new StatsCommand()));
+    }
+}
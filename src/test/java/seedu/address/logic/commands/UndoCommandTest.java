@@ -1,27 +1,56 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
 import static seedu.address.testutil.TypicalStudents.getTypicalTeachersPet;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.commands.EditCommand.EditStudentDescriptor;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.EditStudentDescriptorBuilder;
+import seedu.address.testutil.StudentBuilder;
+import seedu.address.testutil.TeachersPetBuilder;
 
 public class UndoCommandTest {
     private Model model = new ModelManager(getTypicalTeachersPet(), new UserPrefs());
 
     @Test
-    public void execute_success() {
-        UndoCommand undoCommand = new UndoCommand();
-        String expectedMessage = UndoCommand.MESSAGE_SUCCESS;
-        // history of two commands added: the first one is an arbitrary command, the second is the undo command
-        model.updateTeachersPetHistory();
-        model.updateTeachersPetHistory();
+    public void execute_previousAction_success() {
+        model.deleteStudent(ALICE);
+        model.commitTeachersPet();
+
         ModelManager expectedModel = new ModelManager(getTypicalTeachersPet(), new UserPrefs());
-        assertCommandSuccess(undoCommand, model, expectedMessage, expectedModel);
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void execute_appendedNotes_restoresNotes() throws Exception {
+        Student alice = new StudentBuilder(ALICE).withAdditionalNotes("hello").build();
+        model = new ModelManager(new TeachersPetBuilder().withStudent(alice).withStudent(BENSON).build(),
+                new UserPrefs());
+        EditStudentDescriptor descriptor = new EditStudentDescriptorBuilder().withAppendedAdditionalNotes("world")
+                .build();
+        new EditCommand(INDEX_FIRST_STUDENT, descriptor).execute(model);
+        model.commitTeachersPet();
+
+        ModelManager expectedModel = new ModelManager(new TeachersPetBuilder().withStudent(alice)
+                .withStudent(BENSON).build(), new UserPrefs());
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertEquals("hello", model.getTeachersPet().getStudentList().get(0).getAdditionalNotes().toString());
+    }
+
+    @Test
+    public void execute_noPreviousAction_throwsCommandException() {
+        assertCommandFailure(new UndoCommand(), model, ModelManager.MESSAGE_NOTHING_TO_UNDO);
     }
 
     @Test
@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_STUDENT;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.DebtorsCommand;
+import seedu.address.model.student.Money;
+
+public class DebtorsCommandParserTest {
+    private DebtorsCommandParser parser = new DebtorsCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsDebtorsCommand() {
+        assertParseSuccess(parser, "", DebtorsCommand.top(DebtorsCommand.DEFAULT_COUNT));
+        assertParseSuccess(parser, " 3", DebtorsCommand.top(3));
+        assertParseSuccess(parser, " rank 2", DebtorsCommand.rankOf(INDEX_SECOND_STUDENT));
+        assertParseSuccess(parser, " OVER  100 ", DebtorsCommand.owingMoreThan(new Money(100)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, DebtorsCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " 0", expectedMessage);
+        assertParseFailure(parser, " 3 4", expectedMessage);
+        assertParseFailure(parser, " rank", expectedMessage);
+        assertParseFailure(parser, " rank a", expectedMessage);
+        assertParseFailure(parser, " over -1", expectedMessage);
+        assertParseFailure(parser, " under 100", expectedMessage);
+    }
+}
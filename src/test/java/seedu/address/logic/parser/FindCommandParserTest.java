@@ -6,30 +6,39 @@ import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.NOK_PHONE_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NOK_PHONE_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.student.Class;
+import seedu.address.model.student.Money;
+import seedu.address.model.student.Name;
 import seedu.address.model.student.Phone;
 import seedu.address.model.student.predicate.AddressContainsKeywordsPredicate;
+import seedu.address.model.student.predicate.AllOfPredicate;
 import seedu.address.model.student.predicate.ClassContainsDatePredicate;
 import seedu.address.model.student.predicate.EmailContainsKeywordsPredicate;
+import seedu.address.model.student.predicate.MoneyComparisonPredicate;
+import seedu.address.model.student.predicate.MoneyComparisonPredicate.Comparison;
+import seedu.address.model.student.predicate.MoneyComparisonPredicate.Field;
 import seedu.address.model.student.predicate.NameContainsKeywordsPredicate;
+import seedu.address.model.student.predicate.NameSimilarToKeywordsPredicate;
 import seedu.address.model.student.predicate.NokPhoneContainsNumberPredicate;
 import seedu.address.model.student.predicate.PhoneContainsNumberPredicate;
 import seedu.address.model.student.predicate.TagContainsKeywordsPredicate;
+import seedu.address.model.tag.Tag;
 
 public class FindCommandParserTest {
 
-    public static final String ONLY_ONE_PREFIX_MESSAGE = "You can only search with 1 prefix for "
-            + "n/, p/, np/, e/, a/, dt/, or multiple prefixes for t/.\n" + "Examples: find n/Ben, find t/Java t/Python";
-
     private static final String MESSAGE_INVALID_FORMAT =
             String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
 
@@ -54,18 +63,87 @@ public class FindCommandParserTest {
     }
 
     @Test
-    public void parse_multiplePrefixes_failure() {
+    public void parse_multiplePrefixes_returnsFindCommand() {
         // Name and phone prefixes parsed
-        assertParseFailure(parser, NAME_DESC_AMY + PHONE_DESC_AMY, ONLY_ONE_PREFIX_MESSAGE);
+        FindCommand expectedFindCommand = new FindCommand(new AllOfPredicate(Arrays.asList(
+                new NameContainsKeywordsPredicate(Arrays.asList("Amy", "Bee")),
+                new PhoneContainsNumberPredicate(VALID_PHONE_AMY))));
+        assertParseSuccess(parser, NAME_DESC_AMY + PHONE_DESC_AMY, expectedFindCommand);
 
-        // Name, phone and email prefixes parsed
-        assertParseFailure(parser, NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY, ONLY_ONE_PREFIX_MESSAGE);
+        // predicates are in the same order whatever the order of the prefixes
+        assertParseSuccess(parser, PHONE_DESC_AMY + NAME_DESC_AMY, expectedFindCommand);
 
         // Name, phone, nokPhone and email prefixes parsed
-        assertParseFailure(parser, NAME_DESC_AMY + PHONE_DESC_AMY + NOK_PHONE_DESC_AMY + EMAIL_DESC_AMY,
-                ONLY_ONE_PREFIX_MESSAGE);
+        expectedFindCommand = new FindCommand(new AllOfPredicate(Arrays.asList(
+                new NameContainsKeywordsPredicate(Arrays.asList("Amy", "Bee")),
+                new PhoneContainsNumberPredicate(VALID_PHONE_AMY),
+                new NokPhoneContainsNumberPredicate(VALID_NOK_PHONE_AMY),
+                new EmailContainsKeywordsPredicate(Arrays.asList(VALID_EMAIL_AMY)))));
+        assertParseSuccess(parser, NAME_DESC_AMY + PHONE_DESC_AMY + NOK_PHONE_DESC_AMY + EMAIL_DESC_AMY,
+                expectedFindCommand);
+
+        // Name, tag, money owed and date prefixes parsed
+        expectedFindCommand = new FindCommand(new AllOfPredicate(Arrays.asList(
+                new NameContainsKeywordsPredicate(Arrays.asList("alice")),
+                new ClassContainsDatePredicate(LocalDate.of(2022, 10, 10)),
+                new TagContainsKeywordsPredicate(Arrays.asList("python")),
+                new MoneyComparisonPredicate(Field.MONEY_OWED, Comparison.MORE_THAN, new Money(100)))));
+        assertParseSuccess(parser, " n/alice t/python owed/>100 dt/2022-10-10", expectedFindCommand);
+    }
 
-        assertParseFailure(parser, NAME_DESC_AMY + NAME_DESC_BOB, ONLY_ONE_PREFIX_MESSAGE);
+    @Test
+    public void parse_repeatedPrefix_failure() {
+        assertParseFailure(parser, NAME_DESC_AMY + NAME_DESC_BOB, FindCommand.MESSAGE_REPEATED_PREFIX);
+        assertParseFailure(parser, NAME_DESC_AMY + PHONE_DESC_AMY + PHONE_DESC_AMY,
+                FindCommand.MESSAGE_REPEATED_PREFIX);
+    }
+
+    @Test
+    public void parse_verbosePrefix_returnsVerboseFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(
+                new NameContainsKeywordsPredicate(Arrays.asList("alice")), true);
+        assertParseSuccess(parser, " n/alice v/", expectedFindCommand);
+        assertParseSuccess(parser, " v/ n/alice", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_verbosePrefixWithValue_failure() {
+        assertParseFailure(parser, " n/alice v/yes", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " v/", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_additionalNotesPrefix_failure() {
+        assertParseFailure(parser, " nt/likes maths", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, NAME_DESC_AMY + " nt/likes maths", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_validMoneyPrefix_returnsFindCommand() {
+        // no symbol
+        assertParseSuccess(parser, " owed/100", new FindCommand(
+                new MoneyComparisonPredicate(Field.MONEY_OWED, Comparison.EQUAL_TO, new Money(100))));
+
+        // every symbol
+        assertParseSuccess(parser, " paid/ >= 50 ", new FindCommand(
+                new MoneyComparisonPredicate(Field.MONEY_PAID, Comparison.AT_LEAST, new Money(50))));
+        assertParseSuccess(parser, " paid/<=50", new FindCommand(
+                new MoneyComparisonPredicate(Field.MONEY_PAID, Comparison.AT_MOST, new Money(50))));
+        assertParseSuccess(parser, " rate/>50", new FindCommand(
+                new MoneyComparisonPredicate(Field.RATES_PER_CLASS, Comparison.MORE_THAN, new Money(50))));
+        assertParseSuccess(parser, " rate/<50", new FindCommand(
+                new MoneyComparisonPredicate(Field.RATES_PER_CLASS, Comparison.LESS_THAN, new Money(50))));
+        assertParseSuccess(parser, " owed/=0", new FindCommand(
+                new MoneyComparisonPredicate(Field.MONEY_OWED, Comparison.EQUAL_TO, new Money(0))));
+    }
+
+    @Test
+    public void parse_invalidMoney() {
+        assertParseFailure(parser, " owed/", Money.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " owed/>", Money.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " owed/=>100", Money.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " paid/-1", Money.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " rate/ten", Money.MESSAGE_CONSTRAINTS);
     }
 
     @Test
@@ -80,6 +158,22 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " n/Alice    Bob", expectedFindCommand);
     }
 
+    @Test
+    public void parse_typoTolerantName_returnsFindCommand() {
+        assertParseSuccess(parser, " n/Alise~ Bob", new FindCommand(
+                new NameSimilarToKeywordsPredicate(Arrays.asList("Alise~", "Bob"))));
+        assertParseSuccess(parser, " n/  Alise~  ", new FindCommand(
+                new NameSimilarToKeywordsPredicate(Arrays.asList("Alise~"))));
+    }
+
+    @Test
+    public void parse_invalidTypoTolerantName() {
+        assertParseFailure(parser, " n/~", Name.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " n/Alice ~", Name.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " n/Ali~ce", Name.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " n/Alice~~", Name.MESSAGE_CONSTRAINTS);
+    }
+
     @Test
     public void parse_validPhonePrefix_returnsFindCommand() {
         FindCommand expectedFindCommand =
@@ -98,16 +192,24 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " p/   81234567  ", expectedFindCommand);
     }
 
+    @Test
+    public void parse_partialPhone_returnsFindCommand() {
+        assertParseSuccess(parser, " p/8123", new FindCommand(new PhoneContainsNumberPredicate("8123")));
+
+        // whitespaces between digits
+        assertParseSuccess(parser, " p/ 1 2 ", new FindCommand(new PhoneContainsNumberPredicate("12")));
+    }
+
     @Test
     public void parse_invalidPhone() {
-        // phone number not 8 digits long
-        assertParseFailure(parser, " p/8123", Phone.MESSAGE_CONSTRAINTS);
+        // phone number longer than 8 digits
+        assertParseFailure(parser, " p/812345678", Phone.MESSAGE_FIND_CONSTRAINTS);
 
-        // phone number does not start with 6/8/9
-        assertParseFailure(parser, " p/12345678", Phone.MESSAGE_CONSTRAINTS);
+        // phone number with other characters
+        assertParseFailure(parser, " p/8123-4567", Phone.MESSAGE_FIND_CONSTRAINTS);
 
         // empty
-        assertParseFailure(parser, " p/", Phone.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " p/", Phone.MESSAGE_FIND_CONSTRAINTS);
     }
 
     @Test
@@ -162,14 +264,14 @@ public class FindCommandParserTest {
     }
     @Test
     public void parse_invalidNokPhone() {
-        // phone number not 8 digits long
-        assertParseFailure(parser, " p/8123", Phone.MESSAGE_CONSTRAINTS);
+        // phone number longer than 8 digits
+        assertParseFailure(parser, " np/812345678", Phone.MESSAGE_FIND_CONSTRAINTS);
 
-        // phone number does not start with 6/8/9
-        assertParseFailure(parser, " p/12345678", Phone.MESSAGE_CONSTRAINTS);
+        // phone number with other characters
+        assertParseFailure(parser, " np/+6581234567", Phone.MESSAGE_FIND_CONSTRAINTS);
 
         // empty
-        assertParseFailure(parser, " p/", Phone.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " np/", Phone.MESSAGE_FIND_CONSTRAINTS);
     }
 
     @Test
@@ -182,12 +284,24 @@ public class FindCommandParserTest {
 
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " t/   Python  ", expectedFindCommand);
+
+        // alternative and negated tags
+        assertParseSuccess(parser, " t/Python|Java t/!beginner", new FindCommand(
+                new TagContainsKeywordsPredicate(Arrays.asList("Python|Java", "!beginner"))));
+    }
+
+    @Test
+    public void parse_invalidTag() {
+        assertParseFailure(parser, " t/Python|", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " t/Python||Java", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " t/!", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " t/Python | Java", Tag.MESSAGE_CONSTRAINTS);
     }
 
     @Test
     public void parse_validClassDate_returnsFindCommand() {
         FindCommand expectedFindCommand =
-                new FindCommand(new ClassContainsDatePredicate("2022-10-10"));
+                new FindCommand(new ClassContainsDatePredicate(LocalDate.of(2022, 10, 10)));
 
         // no leading and trailing whitespaces
         assertParseSuccess(parser, " dt/2022-10-10", expectedFindCommand);
@@ -202,6 +316,26 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " dt/   2022-10-10  ", expectedFindCommand);
     }
 
+    @Test
+    public void parse_validClassDateRange_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(
+                new ClassContainsDatePredicate(LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 31)));
+        assertParseSuccess(parser, " dt/2022-10-01..2022-10-31", expectedFindCommand);
+        assertParseSuccess(parser, " dt/ 2022-10-01 .. 2022-10-31 ", expectedFindCommand);
+
+        // single day range
+        assertParseSuccess(parser, " dt/2022-10-10..2022-10-10",
+                new FindCommand(new ClassContainsDatePredicate(LocalDate.of(2022, 10, 10))));
+    }
+
+    @Test
+    public void parse_invalidClassDateRange() {
+        assertParseFailure(parser, " dt/2022-10-31..2022-10-01", Class.INVALID_FIND_RANGE_MESSAGE);
+        assertParseFailure(parser, " dt/2022-10-01..", Class.INVALID_FIND_COMMAND_MESSAGE);
+        assertParseFailure(parser, " dt/..2022-10-01", Class.INVALID_FIND_COMMAND_MESSAGE);
+        assertParseFailure(parser, " dt/2022-10-01..2022-10-31..2022-11-30", Class.INVALID_FIND_COMMAND_MESSAGE);
+    }
+
     @Test
     public void parse_invalidDate() {
         // different format
@@ -160,6 +160,16 @@ public class ParserUtilTest {
         assertEquals(expectedPhone, ParserUtil.parsePhone(phoneWithWhitespace));
     }
 
+    @Test
+    public void parsePhoneToFind_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parsePhoneToFind(INVALID_PHONE));
+    }
+
+    @Test
+    public void parsePhoneToFind_partialValueWithWhitespace_returnsDigits() throws Exception {
+        assertEquals("8234", ParserUtil.parsePhoneToFind(WHITESPACE + "82 34" + WHITESPACE));
+    }
+
     @Test
     public void parseNokPhone_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parsePhone((String) null));
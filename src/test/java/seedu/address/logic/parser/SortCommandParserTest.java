@@ -12,9 +12,9 @@ import static seedu.address.testutil.Assert.assertThrows;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.SortCommand;
-import seedu.address.logic.commands.SortCommand.Order;
-import seedu.address.logic.commands.SortCommand.Type;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.student.StudentSortOrder.Order;
+import seedu.address.model.student.StudentSortOrder.Type;
 
 public class SortCommandParserTest {
     private SortCommandParser parser = new SortCommandParser();
@@ -0,0 +1,53 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.StatsCommand.Grouping;
+import seedu.address.model.student.Class;
+
+public class StatsCommandParserTest {
+    private StatsCommandParser parser = new StatsCommandParser();
+
+    @Test
+    public void parse_emptyArgs_returnsStatsCommand() {
+        assertParseSuccess(parser, "  ", new StatsCommand());
+    }
+
+    @Test
+    public void parse_dates_returnsStatsCommand() {
+        LocalDate date = LocalDate.of(2022, 10, 15);
+        assertParseSuccess(parser, " 2022-10-15", new StatsCommand(date, date));
+        assertParseSuccess(parser, " 2022-10-01 .. 2022-10-15", new StatsCommand(LocalDate.of(2022, 10, 1), date));
+    }
+
+    @Test
+    public void parse_groupings_returnsStatsCommand() {
+        assertParseSuccess(parser, " t/", new StatsCommand(Set.of(Grouping.TAG)));
+        assertParseSuccess(parser, " dt/ ", new StatsCommand(Set.of(Grouping.CLASS_SLOT)));
+        assertParseSuccess(parser, " dt/ t/", new StatsCommand(EnumSet.allOf(Grouping.class)));
+    }
+
+    @Test
+    public void parse_invalidGroupings_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " t/python", expectedMessage);
+        assertParseFailure(parser, " 2022-10-15 dt/", expectedMessage);
+        assertParseFailure(parser, " dt/ dt/", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " 15-10-2022", Class.INVALID_FIND_COMMAND_MESSAGE);
+        assertParseFailure(parser, " 2022-10-01..", Class.INVALID_FIND_COMMAND_MESSAGE);
+        assertParseFailure(parser, " 2022-10-15..2022-10-01", Class.INVALID_FIND_RANGE_MESSAGE);
+    }
+}
@@ -7,6 +7,7 @@ import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -17,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.DebtorsCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditStudentDescriptor;
@@ -26,6 +28,8 @@ import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.MarkCommand;
 import seedu.address.logic.commands.PayCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.student.Money;
@@ -103,12 +107,30 @@ public class TeachersPetParserTest {
         assertEquals(new MarkCommand(INDEX_FIRST_STUDENT), command);
     }
 
+    @Test
+    public void parseCommand_debtors() throws Exception {
+        assertEquals(DebtorsCommand.top(3), parser.parseCommand(DebtorsCommand.COMMAND_WORD + " 3"));
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertEquals(new StatsCommand(), parser.parseCommand(StatsCommand.COMMAND_WORD));
+        assertEquals(new StatsCommand(LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 31)),
+                parser.parseCommand(StatsCommand.COMMAND_WORD + " 2022-10-01..2022-10-31"));
+    }
+
     @Test
     public void parseCommand_undo() throws Exception {
         UndoCommand command = (UndoCommand) parser.parseCommand(UndoCommand.COMMAND_WORD);
         assertEquals(new UndoCommand(), command);
     }
 
+    @Test
+    public void parseCommand_redo() throws Exception {
+        RedoCommand command = (RedoCommand) parser.parseCommand(RedoCommand.COMMAND_WORD);
+        assertEquals(new RedoCommand(), command);
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
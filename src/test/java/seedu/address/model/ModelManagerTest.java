@@ -7,15 +7,33 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalStudents.ALICE;
 import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.CARL;
+import static seedu.address.testutil.TypicalStudents.DANIEL;
+import static seedu.address.testutil.TypicalStudents.ELLE;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.analytics.RevenueSummary;
+import seedu.address.model.student.Money;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentSortOrder;
+import seedu.address.model.student.StudentSortOrder.Order;
+import seedu.address.model.student.StudentSortOrder.Type;
+import seedu.address.model.student.predicate.AddressContainsKeywordsPredicate;
+import seedu.address.model.student.predicate.AllOfPredicate;
+import seedu.address.model.student.predicate.ClassContainsDatePredicate;
 import seedu.address.model.student.predicate.NameContainsKeywordsPredicate;
+import seedu.address.model.student.predicate.NameSimilarToKeywordsPredicate;
+import seedu.address.model.student.predicate.TagContainsKeywordsPredicate;
+import seedu.address.testutil.StudentBuilder;
 import seedu.address.testutil.TeachersPetBuilder;
 
 public class ModelManagerTest {
@@ -88,11 +106,265 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasStudent(ALICE));
     }
 
+    @Test
+    public void undo_noPreviousAction_throwsCommandException() {
+        assertThrows(CommandException.class, ModelManager.MESSAGE_NOTHING_TO_UNDO, () -> modelManager.undo());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_throwsCommandException() {
+        modelManager.addStudent(ALICE);
+        assertThrows(CommandException.class, ModelManager.MESSAGE_NOTHING_TO_UNDO, () -> modelManager.undo());
+    }
+
+    @Test
+    public void undo_eachMutation_restoresPreviousState() throws Exception {
+        TeachersPet initialTeachersPet = new TeachersPetBuilder().withStudent(ALICE).withStudent(BENSON)
+                .withStudent(CARL).build();
+        modelManager = new ModelManager(initialTeachersPet, new UserPrefs());
+
+        modelManager.addStudent(DANIEL);
+        modelManager.commitTeachersPet();
+        modelManager.deleteStudent(BENSON);
+        modelManager.commitTeachersPet();
+        modelManager.setStudent(ALICE, new StudentBuilder(ALICE).withAddress("Changed").build());
+        modelManager.commitTeachersPet();
+        modelManager.setTeachersPet(new TeachersPet());
+        modelManager.commitTeachersPet();
+
+        for (int i = 0; i < 4; i++) {
+            modelManager.undo();
+        }
+        assertEquals(initialTeachersPet, modelManager.getTeachersPet());
+        assertThrows(CommandException.class, () -> modelManager.undo());
+    }
+
+    @Test
+    public void undo_deletedStudent_restoresPosition() throws Exception {
+        TeachersPet initialTeachersPet = new TeachersPetBuilder().withStudent(ALICE).withStudent(BENSON)
+                .withStudent(CARL).build();
+        modelManager = new ModelManager(initialTeachersPet, new UserPrefs());
+
+        modelManager.deleteStudent(CARL);
+        modelManager.deleteStudent(ALICE);
+        modelManager.commitTeachersPet();
+        modelManager.undo();
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), modelManager.getTeachersPet().getStudentList());
+    }
+
+    @Test
+    public void redo_afterUndo_reappliesChanges() throws Exception {
+        modelManager.addStudent(ALICE);
+        modelManager.addStudent(BENSON);
+        modelManager.commitTeachersPet();
+        modelManager.undo();
+        assertEquals(new TeachersPet(), modelManager.getTeachersPet());
+
+        modelManager.redo();
+        assertEquals(new TeachersPetBuilder().withStudent(ALICE).withStudent(BENSON).build(),
+                modelManager.getTeachersPet());
+        assertThrows(CommandException.class, ModelManager.MESSAGE_NOTHING_TO_REDO, () -> modelManager.redo());
+    }
+
+    @Test
+    public void redo_newChangeAfterUndo_throwsCommandException() throws Exception {
+        modelManager.addStudent(ALICE);
+        modelManager.commitTeachersPet();
+        modelManager.undo();
+        modelManager.addStudent(BENSON);
+        modelManager.commitTeachersPet();
+        assertThrows(CommandException.class, ModelManager.MESSAGE_NOTHING_TO_REDO, () -> modelManager.redo());
+    }
+
+    @Test
+    public void updateFilteredStudentList_indexedPredicate_filtersByIndex() {
+        modelManager = new ModelManager(new TeachersPetBuilder().withStudent(ALICE).withStudent(BENSON)
+                .withStudent(CARL).build(), new UserPrefs());
+        modelManager.updateFilteredStudentList(new AddressContainsKeywordsPredicate(List.of("AVE")));
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredStudentList());
+
+        // students changed after the search are tested by the predicate
+        Student editedCarl = new StudentBuilder(CARL).withAddress("1, Ave 3").build();
+        modelManager.setStudent(CARL, editedCarl);
+        modelManager.deleteStudent(ALICE);
+        modelManager.updateFilteredStudentList(new NameContainsKeywordsPredicate(List.of("carl", "alice")));
+        assertEquals(List.of(editedCarl), modelManager.getFilteredStudentList());
+        modelManager.discardTeachersPetChanges();
+        assertEquals(List.of(ALICE, CARL), modelManager.getFilteredStudentList());
+    }
+
+    @Test
+    public void setStudentSortOrder_sortOrder_sortsDisplayedStudentsOnly() {
+        modelManager = new ModelManager(new TeachersPetBuilder().withStudent(BENSON).withStudent(ALICE)
+                .withStudent(CARL).build(), new UserPrefs());
+        StudentSortOrder nameDesc = new StudentSortOrder(Type.NAME, Order.DESC);
+        modelManager.setStudentSortOrder(nameDesc);
+        assertEquals(List.of(CARL, BENSON, ALICE), modelManager.getFilteredStudentList());
+        assertEquals(List.of(BENSON, ALICE, CARL), modelManager.getTeachersPet().getStudentList());
+        assertEquals(nameDesc, modelManager.getUserPrefs().getStudentSortOrder());
+
+        // students added or edited after sorting are shown in sorted position
+        Student editedAlice = new StudentBuilder(ALICE).withName("Zed Alice").build();
+        modelManager.setStudent(ALICE, editedAlice);
+        modelManager.addStudent(DANIEL);
+        assertEquals(List.of(editedAlice, DANIEL, CARL, BENSON), modelManager.getFilteredStudentList());
+
+        modelManager.setStudentSortOrder(new StudentSortOrder());
+        assertEquals(List.of(BENSON, editedAlice, CARL, DANIEL), modelManager.getFilteredStudentList());
+    }
+
+    @Test
+    public void setUserPrefs_studentSortOrder_sortsDisplayedStudents() {
+        modelManager = new ModelManager(new TeachersPetBuilder().withStudent(ALICE).withStudent(BENSON).build(),
+                new UserPrefs());
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setStudentSortOrder(new StudentSortOrder(Type.NAME, Order.DESC));
+        modelManager.setUserPrefs(userPrefs);
+        assertEquals(List.of(BENSON, ALICE), modelManager.getFilteredStudentList());
+    }
+
+    @Test
+    public void updateFilteredStudentList_typoTolerantName_closestFirstThenSortOrder() {
+        modelManager = new ModelManager(new TeachersPetBuilder().withStudent(ALICE).withStudent(BENSON)
+                .withStudent(CARL).withStudent(DANIEL).build(), new UserPrefs());
+        modelManager.setStudentSortOrder(new StudentSortOrder(Type.NAME, Order.DESC));
+        modelManager.updateFilteredStudentList(new NameSimilarToKeywordsPredicate(List.of("meyer~", "carl")));
+        assertEquals(List.of(CARL, DANIEL, BENSON), modelManager.getFilteredStudentList());
+
+        // the ranking only lasts until the list is filtered again
+        modelManager.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        assertEquals(List.of(DANIEL, CARL, BENSON, ALICE), modelManager.getFilteredStudentList());
+    }
+
+    @Test
+    public void updateFilteredStudentList_typoTolerantNameWithOtherCriteria_closestFirst() {
+        modelManager = new ModelManager(new TeachersPetBuilder().withStudent(ALICE).withStudent(BENSON)
+                .withStudent(CARL).withStudent(DANIEL).withStudent(ELLE).build(), new UserPrefs());
+        modelManager.setStudentSortOrder(new StudentSortOrder(Type.NAME, Order.DESC));
+        modelManager.updateFilteredStudentList(new AllOfPredicate(List.of(
+                new NameSimilarToKeywordsPredicate(List.of("meyer~", "alice")),
+                new TagContainsKeywordsPredicate(List.of("beginner")))));
+        assertEquals(List.of(ALICE, DANIEL, BENSON), modelManager.getFilteredStudentList());
+    }
+
+    @Test
+    public void updateFilteredStudentList_classDateRange_filtersByTimetable() throws Exception {
+        Student alice = new StudentBuilder(ALICE).withClass("2022-10-01 1000-1100").build();
+        Student benson = new StudentBuilder(BENSON).withClass("2022-10-31 1000-1100").build();
+        Student carl = new StudentBuilder(CARL).withClass("2022-11-01 1000-1100").build();
+        modelManager = new ModelManager(new TeachersPetBuilder().withStudent(alice).withStudent(benson)
+                .withStudent(carl).withStudent(DANIEL).build(), new UserPrefs());
+        modelManager.updateFilteredStudentList(
+                new ClassContainsDatePredicate(LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 31)));
+        assertEquals(List.of(alice, benson), modelManager.getFilteredStudentList());
+    }
+
+    @Test
+    public void discardTeachersPetChanges_uncommittedChanges_revertsChanges() {
+        modelManager.addStudent(ALICE);
+        modelManager.commitTeachersPet();
+        modelManager.addStudent(BENSON);
+        modelManager.setStudent(ALICE, new StudentBuilder(ALICE).withAddress("Changed").build());
+        modelManager.discardTeachersPetChanges();
+        assertEquals(new TeachersPetBuilder().withStudent(ALICE).build(), modelManager.getTeachersPet());
+    }
+
+    @Test
+    public void undo_beyondHistoryLimit_throwsCommandException() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryLimit(1);
+        modelManager.setUserPrefs(userPrefs);
+
+        modelManager.addStudent(ALICE);
+        modelManager.commitTeachersPet();
+        modelManager.addStudent(BENSON);
+        modelManager.commitTeachersPet();
+        modelManager.undo();
+        assertEquals(new TeachersPetBuilder().withStudent(ALICE).build(), modelManager.getTeachersPet());
+        assertThrows(CommandException.class, () -> modelManager.undo());
+    }
+
+    @Test
+    public void hasUnsavedChanges_noCommittedChange_returnsFalse() {
+        modelManager.commitTeachersPet();
+        assertFalse(modelManager.hasUnsavedChanges());
+
+        modelManager.addStudent(ALICE);
+        modelManager.discardTeachersPetChanges();
+        modelManager.commitTeachersPet();
+        assertFalse(modelManager.hasUnsavedChanges());
+    }
+
+    @Test
+    public void hasUnsavedChanges_committedUndoneOrRedoneChange_returnsTrue() throws Exception {
+        modelManager.addStudent(ALICE);
+        modelManager.commitTeachersPet();
+        assertTrue(modelManager.hasUnsavedChanges());
+
+        modelManager.markTeachersPetSaved(modelManager.getTeachersPetVersion());
+        assertFalse(modelManager.hasUnsavedChanges());
+        modelManager.undo();
+        assertTrue(modelManager.hasUnsavedChanges());
+
+        modelManager.markTeachersPetSaved(modelManager.getTeachersPetVersion());
+        modelManager.redo();
+        assertTrue(modelManager.hasUnsavedChanges());
+    }
+
+    @Test
+    public void markTeachersPetSaved_olderVersion_keepsUnsavedChanges() {
+        modelManager.addStudent(ALICE);
+        modelManager.commitTeachersPet();
+        long savingVersion = modelManager.getTeachersPetVersion();
+        modelManager.addStudent(BENSON);
+        modelManager.commitTeachersPet();
+
+        // the older version finishes saving after the newer one was changed
+        modelManager.markTeachersPetSaved(savingVersion);
+        assertTrue(modelManager.hasUnsavedChanges());
+
+        modelManager.markTeachersPetSaved(modelManager.getTeachersPetVersion());
+        modelManager.markTeachersPetSaved(savingVersion);
+        assertFalse(modelManager.hasUnsavedChanges());
+    }
+
+    @Test
+    public void addLoadedStudents_students_cannotBeUndoneOrSaved() {
+        modelManager.addLoadedStudents(List.of(ALICE, BENSON));
+        modelManager.commitTeachersPet();
+        assertEquals(new TeachersPetBuilder().withStudent(ALICE).withStudent(BENSON).build(),
+                modelManager.getTeachersPet());
+        assertFalse(modelManager.hasUnsavedChanges());
+        assertThrows(CommandException.class, () -> modelManager.undo());
+    }
+
     @Test
     public void getFilteredStudentList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredStudentList().remove(0));
     }
 
+    @Test
+    public void undo_recordedPayment_revenueReversed() throws Exception {
+        LocalDate date = LocalDate.of(2022, 10, 15);
+        modelManager.recordAttendance(date, new Money(40));
+        modelManager.commitTeachersPet();
+        modelManager.recordPayment(date, new Money(30));
+        modelManager.commitTeachersPet();
+
+        modelManager.undo();
+        assertEquals(new RevenueSummary(40, 0, 1), modelManager.getRevenueAnalytics().getDaySummary(date));
+        modelManager.redo();
+        assertEquals(new RevenueSummary(40, 30, 1), modelManager.getRevenueAnalytics().getDaySummary(date));
+    }
+
+    @Test
+    public void discardTeachersPetChanges_recordedAttendance_revenueReversed() {
+        LocalDate date = LocalDate.of(2022, 10, 15);
+        modelManager.recordAttendance(date, new Money(40));
+        modelManager.discardTeachersPetChanges();
+        assertEquals(RevenueSummary.EMPTY, modelManager.getRevenueAnalytics().getTotalSummary());
+    }
+
     @Test
     public void equals() {
         TeachersPet teachersPet = new TeachersPetBuilder().withStudent(ALICE).withStudent(BENSON).build();
@@ -30,12 +30,12 @@ public class StatisticsCalculatorTest {
 
     @Test
     public void calculates_emptyTeachersPet_moneyOwed() {
-        assertEquals("$0", statisticsCalculator.getAmountOwed());
+        assertEquals(0, statisticsCalculator.getAmountOwed());
     }
 
     @Test
     public void calculates_emptyTeachersPet_moneyPaid() {
-        assertEquals("$0", statisticsCalculator.getAmountPaid());
+        assertEquals(0, statisticsCalculator.getAmountPaid());
     }
 
     @Test
@@ -53,7 +53,8 @@ public class StatisticsCalculatorTest {
         StatisticsCalculatorTest.TeachersPetStub newData = new StatisticsCalculatorTest.TeachersPetStub(newStudents);
         StatisticsCalculator newCalculator = new StatisticsCalculator(newData);
 
-        assertEquals("$80", newCalculator.getAmountOwed());
+        assertEquals(80, newCalculator.getAmountOwed());
+        assertEquals(2, newCalculator.getStudentsOwingMoney());
     }
 
     @Test
@@ -62,7 +63,7 @@ public class StatisticsCalculatorTest {
         StatisticsCalculatorTest.TeachersPetStub newData = new StatisticsCalculatorTest.TeachersPetStub(newStudents);
         StatisticsCalculator newCalculator = new StatisticsCalculator(newData);
 
-        assertEquals("$700", newCalculator.getAmountPaid());
+        assertEquals(700, newCalculator.getAmountPaid());
     }
 
     @Test
@@ -74,8 +75,7 @@ public class StatisticsCalculatorTest {
         StatisticsCalculatorTest.TeachersPetStub newData = new StatisticsCalculatorTest.TeachersPetStub(newStudents);
         StatisticsCalculator newCalculator = new StatisticsCalculator(newData);
 
-        assertEquals("Owed amount too large to calculate.", newCalculator.getAmountOwed());
-
+        assertEquals(Integer.MAX_VALUE + 1L, newCalculator.getAmountOwed());
     }
 
     @Test
@@ -87,8 +87,46 @@ public class StatisticsCalculatorTest {
         StatisticsCalculatorTest.TeachersPetStub newData = new StatisticsCalculatorTest.TeachersPetStub(newStudents);
         StatisticsCalculator newCalculator = new StatisticsCalculator(newData);
 
-        assertEquals("Paid amount too large to calculate.", newCalculator.getAmountPaid());
+        assertEquals(Integer.MAX_VALUE + 1L, newCalculator.getAmountPaid());
+    }
+
+    @Test
+    public void calculates_changedStudents_totalsUpdated() {
+        TeachersPetStub newData = new TeachersPetStub(Arrays.asList(AVA, BEN));
+        StatisticsCalculator newCalculator = new StatisticsCalculator(newData);
 
+        // replaced student
+        newData.students.set(0, new StudentBuilder(AVA).withMoneyOwed(0).withMoneyPaid(130).build());
+        assertEquals(2, newCalculator.getSize());
+        assertEquals(1, newCalculator.getStudentsOwingMoney());
+        assertEquals(50, newCalculator.getAmountOwed());
+        assertEquals(730, newCalculator.getAmountPaid());
+
+        // removed student
+        newData.students.remove(BEN);
+        assertEquals(1, newCalculator.getSize());
+        assertEquals(0, newCalculator.getStudentsOwingMoney());
+        assertEquals(0, newCalculator.getAmountOwed());
+        assertEquals(130, newCalculator.getAmountPaid());
+
+        // added student
+        newData.students.add(BEN);
+        assertEquals(2, newCalculator.getSize());
+        assertEquals(1, newCalculator.getStudentsOwingMoney());
+        assertEquals(50, newCalculator.getAmountOwed());
+        assertEquals(730, newCalculator.getAmountPaid());
+
+        // reordered students
+        newData.students.sort(Comparator.comparing(student -> student.getName().fullName));
+        assertEquals(2, newCalculator.getSize());
+        assertEquals(50, newCalculator.getAmountOwed());
+
+        // all students replaced
+        newData.students.setAll(AVA);
+        assertEquals(1, newCalculator.getSize());
+        assertEquals(1, newCalculator.getStudentsOwingMoney());
+        assertEquals(30, newCalculator.getAmountOwed());
+        assertEquals(100, newCalculator.getAmountPaid());
     }
 
     /**
@@ -113,9 +151,5 @@ public class StatisticsCalculatorTest {
         public ObservableList<Student> getScheduleList() {
             return schedule;
         }
-        @Override
-        public void sortStudents(Comparator<Student> comparator) {
-            throw new AssertionError("This method should not be called.");
-        }
     }
 }
@@ -0,0 +1,85 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.CARL;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.StudentChangeLog.StudentChange;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
+
+public class StudentChangeLogTest {
+
+    private final StudentChangeLog changeLog = new StudentChangeLog();
+
+    @Test
+    public void getChangesSince_changesRecorded_changesInOrder() {
+        Student editedAlice = new StudentBuilder(ALICE).withAddress("Changed").build();
+        changeLog.recordAdd(0, ALICE);
+        long version = changeLog.getVersion();
+        changeLog.recordSet(0, ALICE, editedAlice);
+        changeLog.recordRemove(0, editedAlice);
+
+        List<StudentChange> changes = changeLog.getChangesSince(version).get();
+        assertEquals(2, changes.size());
+        assertEquals(StudentChange.Type.SET, changes.get(0).getType());
+        assertSame(ALICE, changes.get(0).getOldStudent());
+        assertSame(editedAlice, changes.get(0).getNewStudent());
+        assertEquals(StudentChange.Type.REMOVE, changes.get(1).getType());
+        assertEquals(0, changes.get(1).getIndex());
+        assertTrue(changeLog.getChangesSince(changeLog.getVersion()).get().isEmpty());
+    }
+
+    @Test
+    public void getChangesSince_listReplaced_changesNotKept() {
+        changeLog.recordAdd(0, ALICE);
+        long version = changeLog.getVersion();
+        changeLog.recordReplace(List.of(BENSON));
+        assertEquals(Optional.empty(), changeLog.getChangesSince(version));
+    }
+
+    @Test
+    public void getChangesSince_manyChanges_oldestChangesDropped() {
+        changeLog.recordReplace(List.of(ALICE));
+        for (int i = 0; i <= 2 * StudentChangeLog.MIN_RETAINED_CHANGES; i++) {
+            changeLog.recordSet(0, ALICE, ALICE);
+        }
+        assertEquals(Optional.empty(), changeLog.getChangesSince(0));
+        assertEquals(Optional.empty(), changeLog.getChangesSinceReplacedBy(List.of(ALICE)));
+        assertEquals(1, changeLog.getChangesSince(changeLog.getVersion() - 1).get().size());
+    }
+
+    @Test
+    public void getChangesSinceReplacedBy_sameStudents_changesReturned() {
+        List<Student> students = List.of(ALICE, BENSON);
+        changeLog.recordReplace(students);
+        changeLog.recordAdd(2, CARL);
+
+        assertEquals(1, changeLog.getChangesSinceReplacedBy(students).get().size());
+        assertEquals(Optional.empty(), changeLog.getChangesSinceReplacedBy(List.of(BENSON, ALICE)));
+        assertEquals(Optional.empty(), changeLog.getChangesSinceReplacedBy(
+                List.of(new StudentBuilder(ALICE).build(), BENSON)));
+    }
+
+    @Test
+    public void snapshot_laterChanges_notInSnapshot() {
+        changeLog.recordAdd(0, ALICE);
+        StudentChangeLog snapshot = changeLog.snapshot();
+        changeLog.recordAdd(1, BENSON);
+
+        assertTrue(snapshot.hasSameOrigin(changeLog));
+        assertFalse(new StudentChangeLog().hasSameOrigin(changeLog));
+        assertEquals(1, snapshot.getVersion());
+        assertEquals(1, snapshot.getChangesSince(0).get().size());
+        assertEquals(2, changeLog.getChangesSince(0).get().size());
+    }
+}
@@ -7,19 +7,24 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_INTERMEDIATE;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.CARL;
 import static seedu.address.testutil.TypicalStudents.getTypicalTeachersPet;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentSearchIndex;
+import seedu.address.model.student.TagIndex;
+import seedu.address.model.student.exceptions.ClassConflictException;
 import seedu.address.model.student.exceptions.DuplicateStudentException;
 import seedu.address.testutil.StudentBuilder;
 
@@ -79,6 +84,52 @@ public class TeachersPetTest {
         assertTrue(teachersPet.hasStudent(editedAlice));
     }
 
+    @Test
+    public void addStudents_newStudents_appendedInOrder() {
+        teachersPet.addStudent(ALICE);
+        teachersPet.addStudents(List.of(BENSON, CARL));
+        assertEquals(List.of(ALICE, BENSON, CARL), teachersPet.getStudentList());
+    }
+
+    @Test
+    public void addStudents_existingStudent_throwsDuplicateStudentException() {
+        teachersPet.addStudent(ALICE);
+        assertThrows(DuplicateStudentException.class, () -> teachersPet.addStudents(List.of(BENSON, ALICE)));
+        assertEquals(List.of(ALICE), teachersPet.getStudentList());
+    }
+
+    @Test
+    public void addStudents_overlappingClasses_throwsClassConflictException() throws Exception {
+        Student aliceWithClass = new StudentBuilder(ALICE).withClass("2022-10-10 1000-1200").build();
+        Student bensonWithClass = new StudentBuilder(BENSON).withClass("2022-10-10 1100-1300").build();
+        assertThrows(ClassConflictException.class, () -> teachersPet.addStudents(List.of(aliceWithClass,
+                bensonWithClass)));
+        assertEquals(Collections.emptyList(), teachersPet.getStudentList());
+    }
+
+    @Test
+    public void setStudent_equalButDifferentTarget_indexesUpdated() {
+        TeachersPet teachersPet = getTypicalTeachersPet();
+        Student editedAlice = new StudentBuilder(ALICE).withTags(VALID_TAG_INTERMEDIATE).build();
+        teachersPet.setStudent(new StudentBuilder(ALICE).build(), editedAlice);
+
+        TagIndex tagIndex = teachersPet.getSearchIndex().getTagIndex();
+        assertFalse(tagIndex.getStudents(tagIndex.getOrdinalsWithTag("beginner")).contains(ALICE));
+        assertEquals(Set.of(editedAlice), tagIndex.getStudents(tagIndex.getOrdinalsWithTag(VALID_TAG_INTERMEDIATE)));
+        assertEquals(teachersPet.getStudentList().size(), tagIndex.getAllOrdinals().cardinality());
+    }
+
+    @Test
+    public void removeStudent_equalButDifferentKey_indexesUpdated() {
+        TeachersPet teachersPet = getTypicalTeachersPet();
+        teachersPet.removeStudent(new StudentBuilder(ALICE).build());
+
+        StudentSearchIndex searchIndex = teachersPet.getSearchIndex();
+        assertFalse(searchIndex.getAllStudents().contains(ALICE));
+        assertTrue(searchIndex.getNameIndex().getStudentsWithWord("alice").isEmpty());
+        assertEquals(teachersPet.getStudentList().size(), searchIndex.getStudentCount());
+    }
+
     @Test
     public void getStudentList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> teachersPet.getStudentList().remove(0));
@@ -104,9 +155,6 @@ public class TeachersPetTest {
         public ObservableList<Student> getScheduleList() {
             return schedule;
         }
-
-        @Override
-        public void sortStudents(Comparator<Student> comparator) {}
     }
 
 }
@@ -18,4 +18,23 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setTeachersPetFilePath(null));
     }
 
+    @Test
+    public void setUndoHistoryLimit_nonPositiveLimit_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryLimit(0));
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryLimit(-1));
+    }
+
+    @Test
+    public void setStorageFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setStorageFormat(null));
+    }
+
+    @Test
+    public void setStudentSortOrder_nullSortOrder_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setStudentSortOrder(null));
+    }
+
 }
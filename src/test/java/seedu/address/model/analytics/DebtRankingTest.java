@@ -0,0 +1,72 @@
+package seedu.address.model.analytics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.CARL;
+import static seedu.address.testutil.TypicalStudents.DANIEL;
+
+import java.util.List;
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.student.Money;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
+
+public class DebtRankingTest {
+
+    private static final Student ALICE_OWING = new StudentBuilder(ALICE).withMoneyOwed(50).build();
+    private static final Student BENSON_OWING = new StudentBuilder(BENSON).withMoneyOwed(50).build();
+    private static final Student CARL_OWING = new StudentBuilder(CARL).withMoneyOwed(80).build();
+
+    private final DebtRanking debtRanking = new DebtRanking();
+
+    @Test
+    public void getTopDebtors_students_rankedByMoneyOwedThenName() {
+        debtRanking.setStudents(List.of(BENSON_OWING, DANIEL, CARL_OWING, ALICE_OWING));
+
+        assertEquals(List.of(CARL_OWING, ALICE_OWING, BENSON_OWING), debtRanking.getTopDebtors(5));
+        assertEquals(List.of(CARL_OWING, ALICE_OWING), debtRanking.getTopDebtors(2));
+        assertEquals(List.of(), debtRanking.getTopDebtors(0));
+    }
+
+    @Test
+    public void getStudentsOwingMoreThan_amount_returnsStudentsOwingMore() {
+        debtRanking.setStudents(List.of(BENSON_OWING, DANIEL, CARL_OWING, ALICE_OWING));
+
+        assertEquals(List.of(CARL_OWING), debtRanking.getStudentsOwingMoreThan(new Money(50)));
+        assertEquals(List.of(CARL_OWING, ALICE_OWING, BENSON_OWING),
+                debtRanking.getStudentsOwingMoreThan(new Money(49)));
+        assertEquals(List.of(), debtRanking.getStudentsOwingMoreThan(new Money(80)));
+    }
+
+    @Test
+    public void getRank_changedStudents_rankUpdated() {
+        debtRanking.add(ALICE_OWING);
+        debtRanking.add(BENSON_OWING);
+        debtRanking.add(DANIEL);
+        assertEquals(OptionalInt.of(3), debtRanking.getRank(DANIEL));
+
+        Student danielOwing = new StudentBuilder(DANIEL).withMoneyOwed(60).build();
+        debtRanking.setStudent(DANIEL, danielOwing);
+        assertEquals(OptionalInt.of(1), debtRanking.getRank(danielOwing));
+        assertEquals(OptionalInt.empty(), debtRanking.getRank(DANIEL));
+
+        debtRanking.remove(ALICE_OWING);
+        assertEquals(OptionalInt.of(2), debtRanking.getRank(BENSON_OWING));
+        assertEquals(2, debtRanking.size());
+    }
+
+    @Test
+    public void add_studentsWithSameNameAndMoneyOwed_bothRanked() {
+        Student namesake = new StudentBuilder(ALICE_OWING).withPhone("91234567").build();
+        debtRanking.add(ALICE_OWING);
+        debtRanking.add(namesake);
+
+        assertEquals(2, debtRanking.size());
+        debtRanking.remove(ALICE_OWING);
+        assertEquals(List.of(namesake), debtRanking.getTopDebtors(5));
+    }
+}
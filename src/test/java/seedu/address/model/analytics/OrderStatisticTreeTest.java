@@ -0,0 +1,74 @@
+package seedu.address.model.analytics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+public class OrderStatisticTreeTest {
+
+    private final OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.reverseOrder());
+
+    @Test
+    public void add_duplicateElement_notAdded() {
+        assertTrue(tree.add(3));
+        assertFalse(tree.add(3));
+        assertEquals(1, tree.size());
+    }
+
+    @Test
+    public void remove_missingElement_notRemoved() {
+        tree.add(3);
+        assertFalse(tree.remove(4));
+        assertTrue(tree.remove(3));
+        assertEquals(0, tree.size());
+    }
+
+    @Test
+    public void queries_randomChanges_matchSortedSet() {
+        Random random = new Random(2103);
+        TreeSet<Integer> expected = new TreeSet<>(Comparator.reverseOrder());
+        for (int i = 0; i < 2000; i++) {
+            int element = random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(element), tree.remove(element));
+            } else {
+                assertEquals(expected.add(element), tree.add(element));
+            }
+        }
+
+        List<Integer> expectedList = new ArrayList<>(expected);
+        assertEquals(expectedList.size(), tree.size());
+        assertEquals(expectedList, tree.subList(0, tree.size()));
+        for (int i = 0; i < expectedList.size(); i++) {
+            assertEquals(expectedList.get(i), tree.get(i));
+            assertEquals(i, tree.indexOf(expectedList.get(i)));
+            assertEquals(expectedList.subList(i, expectedList.size()), tree.subList(i, tree.size()));
+        }
+        assertEquals(expected.headSet(250).size(), tree.countPrefix(element -> element > 250));
+        assertEquals(expectedList.subList(3, 10), tree.subList(3, 10));
+    }
+
+    @Test
+    public void indexOf_missingElement_returnsMinusOne() {
+        tree.add(3);
+        assertEquals(-1, tree.indexOf(4));
+    }
+
+    @Test
+    public void invalidIndexes_throwException() {
+        tree.add(3);
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.get(1));
+        assertThrows(IllegalArgumentException.class, () -> tree.subList(1, 0));
+        assertThrows(IllegalArgumentException.class, () -> tree.subList(0, 2));
+        assertEquals(List.of(), tree.subList(1, 1));
+    }
+}
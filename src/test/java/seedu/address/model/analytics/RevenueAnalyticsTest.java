@@ -0,0 +1,108 @@
+package seedu.address.model.analytics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.OptionalDouble;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.student.Money;
+
+public class RevenueAnalyticsTest {
+
+    // a Saturday, at the end of a week and a month
+    private static final LocalDate END_OF_SEPTEMBER = LocalDate.of(2022, 9, 30);
+    private static final LocalDate START_OF_OCTOBER = LocalDate.of(2022, 10, 1);
+    private static final LocalDate MID_OCTOBER = LocalDate.of(2022, 10, 15);
+    private static final LocalDate START_OF_NOVEMBER = LocalDate.of(2022, 11, 1);
+
+    private final RevenueAnalytics revenueAnalytics = new RevenueAnalytics();
+
+    @Test
+    public void getSummary_noEvents_returnsEmptySummary() {
+        assertEquals(RevenueSummary.EMPTY, revenueAnalytics.getDaySummary(MID_OCTOBER));
+        assertEquals(RevenueSummary.EMPTY, revenueAnalytics.getWeekSummary(MID_OCTOBER));
+        assertEquals(RevenueSummary.EMPTY, revenueAnalytics.getMonthSummary(MID_OCTOBER));
+        assertEquals(RevenueSummary.EMPTY, revenueAnalytics.getTotalSummary());
+        assertEquals(RevenueSummary.EMPTY, revenueAnalytics.getSummary(END_OF_SEPTEMBER, START_OF_NOVEMBER));
+    }
+
+    @Test
+    public void recordAll_events_sameSummariesAndIndexes() {
+        RevenueEventStore events = new RevenueEventStore();
+        events.append(RevenueEventStore.EventType.ATTENDANCE, false, Math.toIntExact(MID_OCTOBER.toEpochDay()), 40);
+        events.append(RevenueEventStore.EventType.PAYMENT, false, Math.toIntExact(MID_OCTOBER.toEpochDay()), 25);
+        events.append(RevenueEventStore.EventType.ATTENDANCE, true, Math.toIntExact(MID_OCTOBER.toEpochDay()), 40);
+
+        revenueAnalytics.recordAll(events);
+        assertEquals(new RevenueSummary(0, 25, 0), revenueAnalytics.getMonthSummary(MID_OCTOBER));
+
+        // events recorded afterwards can be reversed as before
+        revenueAnalytics.reverse(1);
+        assertEquals(RevenueSummary.EMPTY, revenueAnalytics.getTotalSummary());
+        assertEquals(4, revenueAnalytics.getEventStore().size());
+    }
+
+    @Test
+    public void getSummary_recordedEvents_rolledUpByPeriod() {
+        revenueAnalytics.recordAttendance(END_OF_SEPTEMBER, new Money(10));
+        revenueAnalytics.recordAttendance(START_OF_OCTOBER, new Money(20));
+        revenueAnalytics.recordPayment(START_OF_OCTOBER, new Money(15));
+        revenueAnalytics.recordAttendance(MID_OCTOBER, new Money(40));
+        revenueAnalytics.recordPayment(START_OF_NOVEMBER, new Money(55));
+
+        assertEquals(new RevenueSummary(20, 15, 1), revenueAnalytics.getDaySummary(START_OF_OCTOBER));
+        // the week from Monday 26 September to Sunday 2 October
+        assertEquals(new RevenueSummary(30, 15, 2), revenueAnalytics.getWeekSummary(START_OF_OCTOBER));
+        assertEquals(new RevenueSummary(60, 15, 2), revenueAnalytics.getMonthSummary(MID_OCTOBER));
+        assertEquals(new RevenueSummary(70, 70, 3), revenueAnalytics.getTotalSummary());
+    }
+
+    @Test
+    public void getSummary_ranges_matchesEventsInRange() {
+        revenueAnalytics.recordAttendance(END_OF_SEPTEMBER, new Money(10));
+        revenueAnalytics.recordAttendance(START_OF_OCTOBER, new Money(20));
+        revenueAnalytics.recordPayment(START_OF_OCTOBER, new Money(15));
+        revenueAnalytics.recordAttendance(MID_OCTOBER, new Money(40));
+        revenueAnalytics.recordPayment(START_OF_NOVEMBER, new Money(55));
+
+        // whole months
+        assertEquals(new RevenueSummary(60, 15, 2), revenueAnalytics.getSummary(START_OF_OCTOBER,
+                START_OF_NOVEMBER.minusDays(1)));
+        // partial months on either side of a whole month
+        assertEquals(new RevenueSummary(70, 70, 3), revenueAnalytics.getSummary(END_OF_SEPTEMBER,
+                START_OF_NOVEMBER));
+        // within a month
+        assertEquals(new RevenueSummary(40, 0, 1), revenueAnalytics.getSummary(START_OF_OCTOBER.plusDays(1),
+                MID_OCTOBER));
+        assertEquals(new RevenueSummary(20, 15, 1), revenueAnalytics.getSummary(START_OF_OCTOBER,
+                START_OF_OCTOBER));
+    }
+
+    @Test
+    public void getSummary_startAfterEnd_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> revenueAnalytics.getSummary(MID_OCTOBER,
+                START_OF_OCTOBER));
+    }
+
+    @Test
+    public void reverse_event_cancelsAndRestoresEvent() {
+        int index = revenueAnalytics.recordPayment(MID_OCTOBER, new Money(30));
+
+        int reversalIndex = revenueAnalytics.reverse(index);
+        assertEquals(RevenueSummary.EMPTY, revenueAnalytics.getMonthSummary(MID_OCTOBER));
+        assertEquals(RevenueSummary.EMPTY, revenueAnalytics.getTotalSummary());
+
+        revenueAnalytics.reverse(reversalIndex);
+        assertEquals(new RevenueSummary(0, 30, 0), revenueAnalytics.getDaySummary(MID_OCTOBER));
+        assertEquals(3, revenueAnalytics.getEventStore().size());
+    }
+
+    @Test
+    public void getCollectionRate() {
+        assertEquals(OptionalDouble.empty(), RevenueSummary.EMPTY.getCollectionRate());
+        assertEquals(OptionalDouble.of(0.75), new RevenueSummary(40, 30, 1).getCollectionRate());
+    }
+}
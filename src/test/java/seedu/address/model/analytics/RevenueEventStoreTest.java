@@ -0,0 +1,75 @@
+package seedu.address.model.analytics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.analytics.RevenueEventStore.EventType;
+
+public class RevenueEventStoreTest {
+
+    private final RevenueEventStore eventStore = new RevenueEventStore();
+
+    @Test
+    public void append_events_recordedInOrder() {
+        assertEquals(0, eventStore.append(EventType.ATTENDANCE, false, 19280, 40));
+        assertEquals(1, eventStore.append(EventType.PAYMENT, true, -3, Integer.MAX_VALUE));
+
+        assertEquals(2, eventStore.size());
+        assertEquals(EventType.ATTENDANCE, eventStore.getType(0));
+        assertFalse(eventStore.isReversal(0));
+        assertEquals(19280, eventStore.getEpochDay(0));
+        assertEquals(40, eventStore.getAmount(0));
+        assertEquals(EventType.PAYMENT, eventStore.getType(1));
+        assertTrue(eventStore.isReversal(1));
+        assertEquals(-3, eventStore.getEpochDay(1));
+        assertEquals(Integer.MAX_VALUE, eventStore.getAmount(1));
+    }
+
+    @Test
+    public void append_beyondInitialCapacity_allEventsKept() {
+        for (int i = 0; i < 1000; i++) {
+            eventStore.append(EventType.values()[i % 2], i % 3 == 0, i, i * 2);
+        }
+
+        assertEquals(1000, eventStore.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(EventType.values()[i % 2], eventStore.getType(i));
+            assertEquals(i % 3 == 0, eventStore.isReversal(i));
+            assertEquals(i, eventStore.getEpochDay(i));
+            assertEquals(i * 2, eventStore.getAmount(i));
+        }
+    }
+
+    @Test
+    public void append_invalidEvent_throwsException() {
+        assertThrows(NullPointerException.class, () -> eventStore.append(null, false, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> eventStore.append(EventType.PAYMENT, false, 0, -1));
+    }
+
+    @Test
+    public void snapshot_laterEvents_notInSnapshot() {
+        eventStore.append(EventType.PAYMENT, false, 1, 10);
+        RevenueEventStore snapshot = eventStore.snapshot();
+
+        eventStore.append(EventType.ATTENDANCE, false, 2, 20);
+        snapshot.append(EventType.PAYMENT, true, 3, 30);
+
+        assertEquals(2, eventStore.size());
+        assertEquals(EventType.ATTENDANCE, eventStore.getType(1));
+        assertEquals(20, eventStore.getAmount(1));
+        assertEquals(2, snapshot.size());
+        assertEquals(EventType.PAYMENT, snapshot.getType(1));
+        assertEquals(30, snapshot.getAmount(1));
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        eventStore.append(EventType.PAYMENT, false, 0, 0);
+        assertThrows(IndexOutOfBoundsException.class, () -> eventStore.getType(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> eventStore.getAmount(-1));
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.model.analytics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.CARL;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
+
+public class StudentGroupStatisticsTest {
+
+    private static final ClassSlot SATURDAY_SLOT = new ClassSlot(DayOfWeek.SATURDAY, LocalTime.of(15, 0),
+            LocalTime.of(16, 0));
+    private static final ClassSlot MONDAY_SLOT = new ClassSlot(DayOfWeek.MONDAY, LocalTime.of(9, 0),
+            LocalTime.of(10, 30));
+
+    private final StudentGroupStatistics groupStatistics = new StudentGroupStatistics();
+
+    @Test
+    public void add_students_groupedByTagIgnoringCase() {
+        Student python = new StudentBuilder(CARL).withTags("Python", "BEGINNER").withMoneyOwed(40).build();
+        groupStatistics.add(ALICE);
+        groupStatistics.add(BENSON);
+        groupStatistics.add(python);
+
+        assertEquals(Map.of("beginner", new GroupSummary(3, 1, 40), "owesmoney", new GroupSummary(1, 0, 0),
+                "python", new GroupSummary(1, 1, 40)), groupStatistics.getTagSummaries());
+        assertEquals(List.of("beginner", "owesmoney", "python"),
+                List.copyOf(groupStatistics.getTagSummaries().keySet()));
+        assertEquals(Optional.of(new GroupSummary(1, 1, 40)), groupStatistics.getTagSummary("PYTHON"));
+    }
+
+    @Test
+    public void add_studentsWithClasses_groupedBySlot() throws Exception {
+        // 2022-10-15 and 2022-10-22 are Saturdays, and 2022-10-17 is a Monday
+        groupStatistics.add(new StudentBuilder(ALICE).withClass("2022-10-15 1500-1600").withMoneyOwed(10).build());
+        groupStatistics.add(new StudentBuilder(BENSON).withClass("2022-10-22 1500-1600").build());
+        groupStatistics.add(new StudentBuilder(CARL).withClass("2022-10-17 0900-1030").build());
+        groupStatistics.add(new StudentBuilder().withName("No Class").build());
+
+        assertEquals(Map.of(SATURDAY_SLOT, new GroupSummary(2, 1, 10), MONDAY_SLOT, new GroupSummary(1, 0, 0)),
+                groupStatistics.getSlotSummaries());
+        assertEquals(List.of(MONDAY_SLOT, SATURDAY_SLOT), List.copyOf(groupStatistics.getSlotSummaries().keySet()));
+        assertEquals("Sat 1500-1600", SATURDAY_SLOT.toString());
+    }
+
+    @Test
+    public void setStudent_editedStudent_movedBetweenGroups() throws Exception {
+        Student student = new StudentBuilder(ALICE).withClass("2022-10-15 1500-1600").withMoneyOwed(10).build();
+        Student editedStudent = new StudentBuilder(student).withClass("2022-10-17 0900-1030").withTags("python")
+                .withMoneyOwed(0).build();
+        groupStatistics.add(student);
+        groupStatistics.add(BENSON);
+
+        groupStatistics.setStudent(student, editedStudent);
+        assertEquals(Map.of("beginner", new GroupSummary(1, 0, 0), "owesmoney", new GroupSummary(1, 0, 0),
+                "python", new GroupSummary(1, 0, 0)), groupStatistics.getTagSummaries());
+        assertEquals(Map.of(MONDAY_SLOT, new GroupSummary(1, 0, 0)), groupStatistics.getSlotSummaries());
+    }
+
+    @Test
+    public void remove_lastStudentOfGroup_groupDropped() {
+        groupStatistics.add(ALICE);
+        groupStatistics.add(BENSON);
+
+        groupStatistics.remove(BENSON);
+        assertEquals(Map.of("beginner", new GroupSummary(1, 0, 0)), groupStatistics.getTagSummaries());
+        assertEquals(Optional.empty(), groupStatistics.getTagSummary("owesMoney"));
+
+        groupStatistics.setStudents(List.of());
+        assertTrue(groupStatistics.getTagSummaries().isEmpty());
+    }
+}
@@ -26,16 +26,19 @@ public class AdditionalNotesTest {
     @Test
     public void appendNotesToNonEmptyNotes() {
         // append to a non-empty additional notes
-        additionalNotes.appendNotes(new AdditionalNotes("!!"));
+        AdditionalNotes appendedNotes = additionalNotes.append(new AdditionalNotes("!!"));
         String expectedNotes = "HELLO !!";
-        assertTrue(additionalNotes.toString().equals(expectedNotes));
+        assertTrue(appendedNotes.toString().equals(expectedNotes));
+        // the notes appended to are left unchanged
+        assertTrue(additionalNotes.toString().equals("HELLO"));
     }
 
     @Test
     public void appendNotesToEmptyNotes() {
         // append to an empty additional notes
-        emptyAdditionalNotes.appendNotes(new AdditionalNotes("!!"));
+        AdditionalNotes appendedNotes = emptyAdditionalNotes.append(new AdditionalNotes("!!"));
         String expectedNotes = "!!";
-        assertTrue(emptyAdditionalNotes.toString().equals(expectedNotes));
+        assertTrue(appendedNotes.toString().equals(expectedNotes));
+        assertTrue(emptyAdditionalNotes.toString().isEmpty());
     }
 }
@@ -0,0 +1,109 @@
+package seedu.address.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.CARL;
+import static seedu.address.testutil.TypicalStudents.DANIEL;
+import static seedu.address.testutil.TypicalStudents.getTypicalTeachersPet;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.TeachersPet;
+import seedu.address.model.student.predicate.AllOfPredicate;
+import seedu.address.model.student.predicate.AllOfPredicate.QueryPlan;
+import seedu.address.model.student.predicate.MoneyComparisonPredicate;
+import seedu.address.model.student.predicate.MoneyComparisonPredicate.Comparison;
+import seedu.address.model.student.predicate.MoneyComparisonPredicate.Field;
+import seedu.address.model.student.predicate.NameContainsKeywordsPredicate;
+import seedu.address.model.student.predicate.TagContainsKeywordsPredicate;
+
+public class AllOfPredicateTest {
+
+    private final TeachersPet teachersPet = getTypicalTeachersPet();
+    private final StudentSearchIndex index = teachersPet.getSearchIndex();
+
+    private final NameContainsKeywordsPredicate meierPredicate =
+            new NameContainsKeywordsPredicate(Collections.singletonList("Meier"));
+    private final NameContainsKeywordsPredicate kurzPredicate =
+            new NameContainsKeywordsPredicate(Collections.singletonList("Kurz"));
+    private final TagContainsKeywordsPredicate beginnerPredicate =
+            new TagContainsKeywordsPredicate(Collections.singletonList("beginner"));
+    private final MoneyComparisonPredicate owesNothingPredicate =
+            new MoneyComparisonPredicate(Field.MONEY_OWED, Comparison.EQUAL_TO, new Money(0));
+
+    @Test
+    public void equals() {
+        AllOfPredicate firstPredicate = new AllOfPredicate(Arrays.asList(meierPredicate, beginnerPredicate));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new AllOfPredicate(Arrays.asList(meierPredicate, beginnerPredicate))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different predicates -> returns false
+        assertFalse(firstPredicate.equals(new AllOfPredicate(Arrays.asList(kurzPredicate, beginnerPredicate))));
+    }
+
+    @Test
+    public void test() {
+        AllOfPredicate predicate = new AllOfPredicate(Arrays.asList(meierPredicate, beginnerPredicate));
+        assertTrue(predicate.test(BENSON));
+        assertTrue(predicate.test(DANIEL));
+
+        // only one of the predicates satisfied
+        assertFalse(predicate.test(CARL));
+    }
+
+    @Test
+    public void plan_mostSelectiveIndexLookedUp() {
+        // Kurz names one student and beginner tags three
+        AllOfPredicate predicate = new AllOfPredicate(Arrays.asList(beginnerPredicate, kurzPredicate,
+                owesNothingPredicate));
+        QueryPlan plan = predicate.plan(index);
+        assertEquals(kurzPredicate, plan.getLookUp());
+        assertEquals(Arrays.asList(beginnerPredicate, owesNothingPredicate), plan.getFilters());
+
+        predicate = new AllOfPredicate(Arrays.asList(meierPredicate, beginnerPredicate));
+        assertEquals(meierPredicate, predicate.plan(index).getLookUp());
+    }
+
+    @Test
+    public void plan_noIndexedPredicate_testsAllStudents() {
+        AllOfPredicate predicate = new AllOfPredicate(Collections.singletonList(owesNothingPredicate));
+        QueryPlan plan = predicate.plan(index);
+        assertNull(plan.getLookUp());
+        assertEquals(Collections.singletonList(owesNothingPredicate), plan.getFilters());
+    }
+
+    @Test
+    public void findMatches_sameAsTest() {
+        List<List<Predicate<Student>>> queries = Arrays.asList(
+                Arrays.asList(meierPredicate, beginnerPredicate),
+                Arrays.asList(beginnerPredicate, kurzPredicate),
+                Arrays.asList(owesNothingPredicate, beginnerPredicate),
+                Collections.singletonList(owesNothingPredicate));
+        for (List<Predicate<Student>> query : queries) {
+            AllOfPredicate predicate = new AllOfPredicate(query);
+            Set<Student> expected = teachersPet.getStudentList().stream().filter(predicate)
+                    .collect(Collectors.toSet());
+            assertEquals(expected, predicate.findMatches(index));
+        }
+    }
+}
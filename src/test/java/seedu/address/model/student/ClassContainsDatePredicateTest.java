@@ -3,6 +3,8 @@ package seedu.address.model.student;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -11,12 +13,12 @@ import seedu.address.testutil.StudentBuilder;
 
 public class ClassContainsDatePredicateTest {
 
-    private ClassContainsDatePredicate predicate = new ClassContainsDatePredicate("2022-10-12");
+    private ClassContainsDatePredicate predicate = new ClassContainsDatePredicate(LocalDate.of(2022, 10, 12));
 
     @Test
     public void equals() {
-        String firstPredicateKeyword = "2022-10-20";
-        String secondPredicateKeyword = "2022-10-15";
+        LocalDate firstPredicateKeyword = LocalDate.of(2022, 10, 20);
+        LocalDate secondPredicateKeyword = LocalDate.of(2022, 10, 15);
 
         ClassContainsDatePredicate firstPredicate = new ClassContainsDatePredicate(firstPredicateKeyword);
         ClassContainsDatePredicate secondPredicate = new ClassContainsDatePredicate(secondPredicateKeyword);
@@ -36,6 +38,10 @@ public class ClassContainsDatePredicateTest {
 
         // different keyword -> returns false
         assertFalse(firstPredicate.equals(secondPredicate));
+
+        // different range -> returns false
+        assertFalse(firstPredicate.equals(new ClassContainsDatePredicate(secondPredicateKeyword,
+                firstPredicateKeyword)));
     }
 
     @Test
@@ -46,5 +52,15 @@ public class ClassContainsDatePredicateTest {
     @Test
     public void test_classDoesNotContainKeyword_returnsFalse() throws ParseException {
         assertFalse(predicate.test(new StudentBuilder().withClass("2022-10-13 1000-1200").build()));
+        assertFalse(predicate.test(new StudentBuilder().build()));
+    }
+
+    @Test
+    public void test_classWithinRange_returnsTrue() throws ParseException {
+        ClassContainsDatePredicate rangePredicate =
+                new ClassContainsDatePredicate(LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 31));
+        assertTrue(rangePredicate.test(new StudentBuilder().withClass("2022-10-01 1000-1200").build()));
+        assertTrue(rangePredicate.test(new StudentBuilder().withClass("2022-10-31 1000-1200").build()));
+        assertFalse(rangePredicate.test(new StudentBuilder().withClass("2022-11-01 1000-1200").build()));
     }
 }
@@ -0,0 +1,149 @@
+package seedu.address.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.BOB;
+import static seedu.address.testutil.TypicalStudents.CARL;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.student.exceptions.ClassConflictException;
+import seedu.address.testutil.StudentBuilder;
+
+public class ClassTimetableTest {
+
+    private static final LocalDate DATE = LocalDate.of(2022, 5, 5);
+
+    private final ClassTimetable timetable = new ClassTimetable();
+
+    @Test
+    public void getConflictingStudent_overlappingClasses_returnsConflictingStudent() throws Exception {
+        Student alice = withClass(ALICE, "2022-05-05 1300-1500");
+        timetable.add(alice);
+
+        assertEquals(Optional.of(alice), timetable.getConflictingStudent(withClass(BOB, "2022-05-05 1230-1330"), null));
+        assertEquals(Optional.of(alice), timetable.getConflictingStudent(withClass(BOB, "2022-05-05 1100-1530"), null));
+        assertEquals(Optional.of(alice), timetable.getConflictingStudent(withClass(BOB, "2022-05-05 1400-1430"), null));
+        assertEquals(Optional.of(alice), timetable.getConflictingStudent(withClass(BOB, "2022-05-05 1300-1500"), null));
+    }
+
+    @Test
+    public void getConflictingStudent_nonOverlappingClasses_returnsEmpty() throws Exception {
+        timetable.add(withClass(ALICE, "2022-05-05 1300-1500"));
+
+        // back-to-back classes
+        assertFalse(timetable.getConflictingStudent(withClass(BOB, "2022-05-05 1500-1600"), null).isPresent());
+        assertFalse(timetable.getConflictingStudent(withClass(BOB, "2022-05-05 1100-1300"), null).isPresent());
+        // different date
+        assertFalse(timetable.getConflictingStudent(withClass(BOB, "2022-05-06 1300-1500"), null).isPresent());
+        // no class
+        assertFalse(timetable.getConflictingStudent(BOB, null).isPresent());
+    }
+
+    @Test
+    public void getConflictingStudent_classEndingAtMidnight_treatedAsEndOfDay() throws Exception {
+        Student alice = withClass(ALICE, "2022-05-05 2200-0000");
+        timetable.add(alice);
+
+        assertEquals(Optional.of(alice), timetable.getConflictingStudent(withClass(BOB, "2022-05-05 2300-2330"), null));
+        assertFalse(timetable.getConflictingStudent(withClass(BOB, "2022-05-05 2000-2200"), null).isPresent());
+        assertFalse(timetable.getConflictingStudent(withClass(BOB, "2022-05-06 0000-0100"), null).isPresent());
+    }
+
+    @Test
+    public void getConflictingStudent_excludedStudent_ignoresExcludedClass() throws Exception {
+        Student alice = withClass(ALICE, "2022-05-05 1300-1500");
+        Student benson = withClass(BENSON, "2022-05-05 1000-1200");
+        timetable.add(alice);
+        timetable.add(benson);
+
+        Student movedAlice = withClass(ALICE, "2022-05-05 1400-1600");
+        assertFalse(timetable.getConflictingStudent(movedAlice, alice).isPresent());
+
+        Student overlappingAlice = withClass(ALICE, "2022-05-05 1130-1400");
+        assertEquals(Optional.of(benson), timetable.getConflictingStudent(overlappingAlice, alice));
+    }
+
+    @Test
+    public void add_conflictingClass_throwsClassConflictException() throws Exception {
+        timetable.add(withClass(ALICE, "2022-05-05 1300-1500"));
+        assertThrows(ClassConflictException.class, () -> timetable.add(withClass(BOB, "2022-05-05 1400-1600")));
+    }
+
+    @Test
+    public void getStudentsOn_classesAddedOutOfOrder_sortedByStartTime() throws Exception {
+        Student alice = withClass(ALICE, "2022-05-05 1300-1500");
+        Student benson = withClass(BENSON, "2022-05-05 0900-1000");
+        Student carl = withClass(CARL, "2022-05-05 1100-1200");
+        timetable.add(alice);
+        timetable.add(BOB);
+        timetable.add(benson);
+        timetable.add(carl);
+
+        assertEquals(Arrays.asList(benson, carl, alice), timetable.getStudentsOn(DATE));
+        assertEquals(Collections.emptyList(), timetable.getStudentsOn(DATE.plusDays(1)));
+    }
+
+    @Test
+    public void getStudentsBetween_classesOnSeveralDates_sortedByDateAndStartTime() throws Exception {
+        Student alice = withClass(ALICE, "2022-05-07 0900-1000");
+        Student benson = withClass(BENSON, "2022-05-05 1300-1500");
+        Student carl = withClass(CARL, "2022-05-05 1100-1200");
+        Student bob = withClass(BOB, "2022-05-08 1100-1200");
+        timetable.add(alice);
+        timetable.add(benson);
+        timetable.add(carl);
+        timetable.add(bob);
+
+        assertEquals(Arrays.asList(carl, benson, alice), timetable.getStudentsBetween(DATE, DATE.plusDays(2)));
+        assertEquals(Arrays.asList(bob), timetable.getStudentsBetween(DATE.plusDays(3), DATE.plusDays(30)));
+        assertEquals(Collections.emptyList(), timetable.getStudentsBetween(DATE.plusDays(1), DATE.plusDays(1)));
+        assertEquals(Collections.emptyList(), timetable.getStudentsBetween(DATE.plusDays(2), DATE));
+    }
+
+    @Test
+    public void remove_existingClass_freesSlot() throws Exception {
+        Student alice = withClass(ALICE, "2022-05-05 1300-1500");
+        timetable.add(alice);
+        timetable.remove(alice);
+
+        assertEquals(Collections.emptyList(), timetable.getStudentsOn(DATE));
+        timetable.add(withClass(BOB, "2022-05-05 1300-1500"));
+    }
+
+    @Test
+    public void setStudent_editedClass_replacesClass() throws Exception {
+        Student alice = withClass(ALICE, "2022-05-05 1300-1500");
+        Student benson = withClass(BENSON, "2022-05-05 1000-1200");
+        timetable.add(alice);
+        timetable.add(benson);
+
+        Student movedAlice = withClass(ALICE, "2022-05-05 0800-0900");
+        timetable.setStudent(alice, movedAlice);
+        assertEquals(Arrays.asList(movedAlice, benson), timetable.getStudentsOn(DATE));
+
+        assertThrows(ClassConflictException.class, () ->
+                timetable.setStudent(movedAlice, withClass(ALICE, "2022-05-05 0800-1100")));
+        assertEquals(Arrays.asList(movedAlice, benson), timetable.getStudentsOn(DATE));
+    }
+
+    @Test
+    public void of_conflictingClasses_throwsClassConflictException() throws Exception {
+        Student alice = withClass(ALICE, "2022-05-05 1100-1200");
+        Student benson = withClass(BENSON, "2022-05-05 1100-1200");
+        assertThrows(ClassConflictException.class, () -> ClassTimetable.of(Arrays.asList(alice, benson)));
+    }
+
+    private Student withClass(Student student, String classDateTime) throws ParseException {
+        return new StudentBuilder(student).withClass(classDateTime).build();
+    }
+}
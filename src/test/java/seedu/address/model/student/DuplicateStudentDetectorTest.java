@@ -0,0 +1,63 @@
+package seedu.address.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.BOB;
+import static seedu.address.testutil.TypicalStudents.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.student.DuplicateStudentDetector.Duplicate;
+import seedu.address.testutil.StudentBuilder;
+
+public class DuplicateStudentDetectorTest {
+
+    private final Student editedAlice = new StudentBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+
+    @Test
+    public void isUnique_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> DuplicateStudentDetector.isUnique(null));
+    }
+
+    @Test
+    public void isUnique_uniqueStudents_returnsTrue() {
+        assertTrue(DuplicateStudentDetector.isUnique(Collections.emptyList()));
+        assertTrue(DuplicateStudentDetector.isUnique(Arrays.asList(ALICE, BENSON, BOB)));
+    }
+
+    @Test
+    public void isUnique_sameIdentity_returnsFalse() {
+        assertFalse(DuplicateStudentDetector.isUnique(Arrays.asList(ALICE, BOB, editedAlice)));
+    }
+
+    @Test
+    public void findDuplicates_uniqueStudents_returnsEmptyList() {
+        assertTrue(DuplicateStudentDetector.findDuplicates(Arrays.asList(ALICE, BENSON, CARL)).isEmpty());
+    }
+
+    @Test
+    public void findDuplicates_multipleDuplicates_reportsEveryDuplicateInOrder() {
+        Student editedBenson = new StudentBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build();
+        List<Duplicate> duplicates = DuplicateStudentDetector.findDuplicates(
+                Arrays.asList(ALICE, BENSON, editedAlice, CARL, editedBenson, ALICE));
+
+        List<Duplicate> expectedDuplicates = Arrays.asList(new Duplicate(0, 2, ALICE),
+                new Duplicate(1, 4, BENSON), new Duplicate(0, 5, ALICE));
+        assertEquals(expectedDuplicates, duplicates);
+    }
+
+    @Test
+    public void toString_duplicate_usesOneBasedPositions() {
+        assertEquals("Students 1 and 3 have the same phone number " + ALICE.getPhone(),
+                new Duplicate(0, 2, ALICE).toString());
+    }
+}
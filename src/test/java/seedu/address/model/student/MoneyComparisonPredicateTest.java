@@ -0,0 +1,79 @@
+package seedu.address.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.student.predicate.MoneyComparisonPredicate;
+import seedu.address.model.student.predicate.MoneyComparisonPredicate.Comparison;
+import seedu.address.model.student.predicate.MoneyComparisonPredicate.Field;
+import seedu.address.testutil.StudentBuilder;
+
+public class MoneyComparisonPredicateTest {
+
+    private final Student student = new StudentBuilder().withMoneyOwed(100).withMoneyPaid(20)
+            .withRatesPerClass(40).build();
+
+    @Test
+    public void equals() {
+        MoneyComparisonPredicate firstPredicate =
+                new MoneyComparisonPredicate(Field.MONEY_OWED, Comparison.MORE_THAN, new Money(100));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(
+                new MoneyComparisonPredicate(Field.MONEY_OWED, Comparison.MORE_THAN, new Money(100))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different field, comparison or amount -> returns false
+        assertFalse(firstPredicate.equals(
+                new MoneyComparisonPredicate(Field.MONEY_PAID, Comparison.MORE_THAN, new Money(100))));
+        assertFalse(firstPredicate.equals(
+                new MoneyComparisonPredicate(Field.MONEY_OWED, Comparison.AT_LEAST, new Money(100))));
+        assertFalse(firstPredicate.equals(
+                new MoneyComparisonPredicate(Field.MONEY_OWED, Comparison.MORE_THAN, new Money(99))));
+    }
+
+    @Test
+    public void test_comparisonSatisfied_returnsTrue() {
+        assertTrue(new MoneyComparisonPredicate(Field.MONEY_OWED, Comparison.MORE_THAN, new Money(99)).test(student));
+        assertTrue(new MoneyComparisonPredicate(Field.MONEY_OWED, Comparison.AT_LEAST, new Money(100)).test(student));
+        assertTrue(new MoneyComparisonPredicate(Field.MONEY_PAID, Comparison.LESS_THAN, new Money(21)).test(student));
+        assertTrue(new MoneyComparisonPredicate(Field.MONEY_PAID, Comparison.AT_MOST, new Money(20)).test(student));
+        assertTrue(new MoneyComparisonPredicate(Field.RATES_PER_CLASS, Comparison.EQUAL_TO, new Money(40))
+                .test(student));
+    }
+
+    @Test
+    public void test_comparisonNotSatisfied_returnsFalse() {
+        assertFalse(new MoneyComparisonPredicate(Field.MONEY_OWED, Comparison.MORE_THAN, new Money(100))
+                .test(student));
+        assertFalse(new MoneyComparisonPredicate(Field.MONEY_OWED, Comparison.AT_LEAST, new Money(101))
+                .test(student));
+        assertFalse(new MoneyComparisonPredicate(Field.MONEY_PAID, Comparison.LESS_THAN, new Money(20)).test(student));
+        assertFalse(new MoneyComparisonPredicate(Field.MONEY_PAID, Comparison.AT_MOST, new Money(19)).test(student));
+        assertFalse(new MoneyComparisonPredicate(Field.RATES_PER_CLASS, Comparison.EQUAL_TO, new Money(20))
+                .test(student));
+    }
+
+    @Test
+    public void comparisonOf() {
+        assertEquals(Optional.of(Comparison.AT_LEAST), Comparison.of(">=100"));
+        assertEquals(Optional.of(Comparison.MORE_THAN), Comparison.of(">100"));
+        assertEquals(Optional.of(Comparison.AT_MOST), Comparison.of("<=100"));
+        assertEquals(Optional.of(Comparison.LESS_THAN), Comparison.of("<100"));
+        assertEquals(Optional.of(Comparison.EQUAL_TO), Comparison.of("=100"));
+        assertEquals(Optional.empty(), Comparison.of("100"));
+    }
+}
@@ -0,0 +1,120 @@
+package seedu.address.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.CARL;
+import static seedu.address.testutil.TypicalStudents.DANIEL;
+import static seedu.address.testutil.TypicalStudents.getTypicalTeachersPet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.TeachersPet;
+import seedu.address.model.student.predicate.NameSimilarToKeywordsPredicate;
+import seedu.address.testutil.StudentBuilder;
+
+public class NameSimilarToKeywordsPredicateTest {
+
+    @Test
+    public void equals() {
+        List<String> firstPredicateKeywordList = Collections.singletonList("first~");
+        List<String> secondPredicateKeywordList = Arrays.asList("first~", "second");
+
+        NameSimilarToKeywordsPredicate firstPredicate = new NameSimilarToKeywordsPredicate(firstPredicateKeywordList);
+        NameSimilarToKeywordsPredicate secondPredicate =
+                new NameSimilarToKeywordsPredicate(secondPredicateKeywordList);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NameSimilarToKeywordsPredicate(firstPredicateKeywordList)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void getMaxDistance() {
+        assertEquals(0, NameSimilarToKeywordsPredicate.getMaxDistance("alice"));
+        assertEquals(0, NameSimilarToKeywordsPredicate.getMaxDistance("Al~"));
+        assertEquals(1, NameSimilarToKeywordsPredicate.getMaxDistance("Amy~"));
+        assertEquals(1, NameSimilarToKeywordsPredicate.getMaxDistance("alice~"));
+        assertEquals(2, NameSimilarToKeywordsPredicate.getMaxDistance("benson~"));
+    }
+
+    @Test
+    public void test_nameWithTypo_returnsTrue() {
+        // one mistake
+        NameSimilarToKeywordsPredicate predicate =
+                new NameSimilarToKeywordsPredicate(Collections.singletonList("alise~"));
+        assertTrue(predicate.test(new StudentBuilder().withName("Alice Bob").build()));
+
+        // two mistakes in a longer word, mixed case
+        predicate = new NameSimilarToKeywordsPredicate(Collections.singletonList("BINSEN~"));
+        assertTrue(predicate.test(new StudentBuilder().withName("Benson Meier").build()));
+
+        // missing letter
+        predicate = new NameSimilarToKeywordsPredicate(Collections.singletonList("bensn~"));
+        assertTrue(predicate.test(new StudentBuilder().withName("Benson Meier").build()));
+
+        // only one matching keyword
+        predicate = new NameSimilarToKeywordsPredicate(Arrays.asList("Carol", "alise~"));
+        assertTrue(predicate.test(new StudentBuilder().withName("Alice Bob").build()));
+    }
+
+    @Test
+    public void test_nameTooDifferent_returnsFalse() {
+        // too many mistakes
+        NameSimilarToKeywordsPredicate predicate =
+                new NameSimilarToKeywordsPredicate(Collections.singletonList("alsie~"));
+        assertFalse(predicate.test(new StudentBuilder().withName("Alice Bob").build()));
+
+        // keyword without typo tolerance
+        predicate = new NameSimilarToKeywordsPredicate(Collections.singletonList("alise"));
+        assertFalse(predicate.test(new StudentBuilder().withName("Alice Bob").build()));
+    }
+
+    @Test
+    public void getDistance_closestKeywordUsed() {
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(Arrays.asList("meyer~", "carl"));
+        assertEquals(OptionalInt.of(1), predicate.getDistance(BENSON));
+        assertEquals(OptionalInt.of(0), predicate.getDistance(CARL));
+        assertEquals(OptionalInt.empty(), predicate.getDistance(ALICE));
+    }
+
+    @Test
+    public void getRanking_closestFirst() {
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(Arrays.asList("meyer~", "carl"));
+        List<Student> students = new ArrayList<>(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        students.sort(predicate.getRanking().orElseThrow());
+        assertEquals(Arrays.asList(CARL, BENSON, DANIEL, ALICE), students);
+    }
+
+    @Test
+    public void findMatches_sameAsTest() {
+        TeachersPet teachersPet = getTypicalTeachersPet();
+        for (String keyword : Arrays.asList("meyer~", "Alise~", "kurtz~", "carl", "xyz~", "Fiona~")) {
+            NameSimilarToKeywordsPredicate predicate =
+                    new NameSimilarToKeywordsPredicate(Collections.singletonList(keyword));
+            Set<Student> expected = teachersPet.getStudentList().stream().filter(predicate).collect(Collectors.toSet());
+            assertEquals(expected, predicate.findMatches(teachersPet.getSearchIndex()));
+        }
+    }
+}
@@ -42,6 +42,13 @@ public class NokPhoneContainsNumberPredicateTest {
         assertTrue(predicate.test(new StudentBuilder().withNokPhone("81234566").build()));
     }
 
+    @Test
+    public void test_nokPhoneContainsPartOfNumber_returnsTrue() {
+        Student student = new StudentBuilder().withNokPhone("81234567").build();
+        assertTrue(new NokPhoneContainsNumberPredicate("8123").test(student));
+        assertTrue(new NokPhoneContainsNumberPredicate("345").test(student));
+    }
+
     @Test
     public void test_nokPhoneDoesNotContainNumber_returnsFalse() {
         assertFalse(predicate.test(new StudentBuilder().withNokPhone("67891234").build()));
@@ -43,6 +43,12 @@ public class PhoneContainsNumberPredicateTest {
         assertTrue(predicate.test(new StudentBuilder().withPhone("81234567").build()));
     }
 
+    @Test
+    public void test_phoneContainsPartOfNumber_returnsTrue() {
+        assertTrue(new PhoneContainsNumberPredicate("8123").test(new StudentBuilder().withPhone("81234567").build()));
+        assertTrue(new PhoneContainsNumberPredicate("345").test(new StudentBuilder().withPhone("81234567").build()));
+    }
+
     @Test
     public void test_phoneDoesNotContainNumber_returnsFalse() {
         assertFalse(predicate.test(new StudentBuilder().withPhone("67891234").build()));
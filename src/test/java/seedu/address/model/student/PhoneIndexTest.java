@@ -0,0 +1,68 @@
+package seedu.address.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.CARL;
+import static seedu.address.testutil.TypicalStudents.DANIEL;
+import static seedu.address.testutil.TypicalStudents.ELLE;
+import static seedu.address.testutil.TypicalStudents.FIONA;
+import static seedu.address.testutil.TypicalStudents.GEORGE;
+import static seedu.address.testutil.TypicalStudents.getTypicalStudents;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.StudentBuilder;
+
+public class PhoneIndexTest {
+
+    private PhoneIndex phoneIndex;
+
+    @BeforeEach
+    public void setUp() {
+        phoneIndex = new PhoneIndex(student -> student.getPhone().value);
+        phoneIndex.setStudents(getTypicalStudents());
+    }
+
+    @Test
+    public void getStudentsWithNumberContaining_shortNumber_returnsMatchingStudents() {
+        assertEquals(Set.of(CARL, DANIEL), phoneIndex.getStudentsWithNumberContaining("525"));
+        assertEquals(Set.of(FIONA, GEORGE), phoneIndex.getStudentsWithNumberContaining("4824"));
+        assertEquals(Set.of(BENSON, DANIEL, FIONA), phoneIndex.getStudentsWithNumberContaining("7"));
+    }
+
+    @Test
+    public void getStudentsWithNumberContaining_longNumber_returnsMatchingStudents() {
+        assertEquals(Set.of(ELLE, FIONA, GEORGE), phoneIndex.getStudentsWithNumberContaining("9482"));
+        assertEquals(Set.of(GEORGE), phoneIndex.getStudentsWithNumberContaining("94824421"));
+        assertTrue(phoneIndex.getStudentsWithNumberContaining("94824422").isEmpty());
+    }
+
+    @Test
+    public void estimateStudentsWithNumberContaining_neverLessThanMatches() {
+        for (String digits : new String[] {"525", "4824", "7", "9482", "94824421", "94824422", "0"}) {
+            int estimate = phoneIndex.estimateStudentsWithNumberContaining(digits);
+            assertTrue(estimate >= phoneIndex.getStudentsWithNumberContaining(digits).size());
+        }
+        // the least common run of 3 digits in a longer number
+        assertEquals(1, phoneIndex.estimateStudentsWithNumberContaining("94824421"));
+        assertEquals(0, phoneIndex.estimateStudentsWithNumberContaining("000"));
+    }
+
+    @Test
+    public void setStudent_editedPhone_numberReplaced() {
+        Student editedCarl = new StudentBuilder(CARL).withPhone("94820000").build();
+        phoneIndex.setStudent(CARL, editedCarl);
+        assertEquals(Set.of(ELLE, FIONA, GEORGE, editedCarl), phoneIndex.getStudentsWithNumberContaining("9482"));
+        assertEquals(Set.of(DANIEL), phoneIndex.getStudentsWithNumberContaining("525"));
+    }
+
+    @Test
+    public void remove_student_numberRemoved() {
+        phoneIndex.remove(GEORGE);
+        assertEquals(Set.of(ELLE, FIONA), phoneIndex.getStudentsWithNumberContaining("9482"));
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+
+import java.util.Comparator;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.student.StudentSortOrder.Order;
+import seedu.address.model.student.StudentSortOrder.Type;
+
+public class StudentSortOrderTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new StudentSortOrder(null, Order.ASC));
+        assertThrows(NullPointerException.class, () -> new StudentSortOrder(Type.NAME, null));
+    }
+
+    @Test
+    public void getComparator_orderAdded_returnsEmpty() {
+        assertEquals(Optional.empty(), new StudentSortOrder().getComparator());
+    }
+
+    @Test
+    public void getComparator_sortOrder_comparesInOrder() {
+        Comparator<Student> nameAsc = new StudentSortOrder(Type.NAME, Order.ASC).getComparator().get();
+        assertTrue(nameAsc.compare(ALICE, BENSON) < 0);
+
+        Comparator<Student> nameDesc = new StudentSortOrder(Type.NAME, Order.DESC).getComparator().get();
+        assertTrue(nameDesc.compare(ALICE, BENSON) > 0);
+    }
+
+    @Test
+    public void equals() {
+        StudentSortOrder nameAsc = new StudentSortOrder(Type.NAME, Order.ASC);
+
+        // same values -> returns true
+        assertTrue(nameAsc.equals(new StudentSortOrder(Type.NAME, Order.ASC)));
+        assertTrue(new StudentSortOrder().equals(new StudentSortOrder()));
+
+        // same object -> returns true
+        assertTrue(nameAsc.equals(nameAsc));
+
+        // null -> returns false
+        assertFalse(nameAsc.equals(null));
+
+        // different type -> returns false
+        assertFalse(nameAsc.equals(5));
+
+        // different values -> returns false
+        assertFalse(nameAsc.equals(new StudentSortOrder(Type.NAME, Order.DESC)));
+        assertFalse(nameAsc.equals(new StudentSortOrder(Type.OWED, Order.ASC)));
+        assertFalse(nameAsc.equals(new StudentSortOrder()));
+    }
+}
@@ -69,4 +69,20 @@ public class TagContainsKeywordsPredicateTest {
         TagContainsKeywordsPredicate predicate = new TagContainsKeywordsPredicate(Arrays.asList("Java"));
         assertFalse(predicate.test(new StudentBuilder().withTags("Python").build()));
     }
+
+    @Test
+    public void test_alternativeKeywords_returnsTrueIfAnyMatches() {
+        TagContainsKeywordsPredicate predicate = new TagContainsKeywordsPredicate(Arrays.asList("java|PYTHON"));
+        assertTrue(predicate.test(new StudentBuilder().withTags("Python").build()));
+        assertTrue(predicate.test(new StudentBuilder().withTags("java", "beginner").build()));
+        assertFalse(predicate.test(new StudentBuilder().withTags("beginner").build()));
+    }
+
+    @Test
+    public void test_negatedKeyword_returnsTrueIfTagAbsent() {
+        TagContainsKeywordsPredicate predicate = new TagContainsKeywordsPredicate(Arrays.asList("python", "!Beginner"));
+        assertTrue(predicate.test(new StudentBuilder().withTags("python").build()));
+        assertFalse(predicate.test(new StudentBuilder().withTags("python", "beginner").build()));
+        assertFalse(predicate.test(new StudentBuilder().withTags().build()));
+    }
 }
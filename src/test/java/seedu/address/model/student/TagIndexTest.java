@@ -0,0 +1,65 @@
+package seedu.address.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.CARL;
+import static seedu.address.testutil.TypicalStudents.DANIEL;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.StudentBuilder;
+
+public class TagIndexTest {
+
+    private TagIndex tagIndex;
+
+    @BeforeEach
+    public void setUp() {
+        tagIndex = new TagIndex();
+        tagIndex.setStudents(List.of(ALICE, BENSON, CARL, DANIEL));
+    }
+
+    @Test
+    public void getOrdinalsWithTag_mixedCaseTag_returnsStudentsWithTag() {
+        assertEquals(Set.of(ALICE, BENSON, DANIEL), tagIndex.getStudents(tagIndex.getOrdinalsWithTag("BEGINNER")));
+        assertEquals(Set.of(BENSON), tagIndex.getStudents(tagIndex.getOrdinalsWithTag("owesmoney")));
+        assertTrue(tagIndex.getOrdinalsWithTag("unknown").isEmpty());
+    }
+
+    @Test
+    public void getStudentCounts_typicalStudents_countsStudentsPerTag() {
+        assertEquals(Map.of("beginner", 3, "owesmoney", 1), tagIndex.getStudentCounts());
+        assertEquals(3, tagIndex.getStudentCount("Beginner"));
+    }
+
+    @Test
+    public void remove_student_ordinalReusedByNextStudent() {
+        BitSet bensonOrdinal = tagIndex.getOrdinalsWithTag("owesMoney");
+        tagIndex.remove(BENSON);
+        assertEquals(2, tagIndex.getStudentCount("beginner"));
+        assertEquals(0, tagIndex.getStudentCount("owesMoney"));
+
+        Student student = new StudentBuilder().withPhone("91112222").withTags("python").build();
+        tagIndex.add(student);
+        assertEquals(bensonOrdinal, tagIndex.getOrdinalsWithTag("python"));
+        assertEquals(4, tagIndex.getAllOrdinals().cardinality());
+    }
+
+    @Test
+    public void setStudent_editedTags_ordinalKept() {
+        BitSet carlOrdinals = new BitSet();
+        carlOrdinals.set(2);
+        Student editedCarl = new StudentBuilder(CARL).withTags("python").build();
+        tagIndex.setStudent(CARL, editedCarl);
+        assertEquals(carlOrdinals, tagIndex.getOrdinalsWithTag("python"));
+        assertEquals(Set.of(editedCarl), tagIndex.getStudents(carlOrdinals));
+    }
+}
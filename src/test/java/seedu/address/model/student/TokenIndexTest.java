@@ -0,0 +1,75 @@
+package seedu.address.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.CARL;
+import static seedu.address.testutil.TypicalStudents.DANIEL;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.StudentBuilder;
+
+public class TokenIndexTest {
+
+    private TokenIndex nameIndex;
+
+    @BeforeEach
+    public void setUp() {
+        nameIndex = new TokenIndex(student -> student.getName().fullName);
+        nameIndex.setStudents(List.of(ALICE, BENSON, CARL, DANIEL));
+    }
+
+    @Test
+    public void getStudentsWithWord_mixedCaseWord_returnsStudentsWithWord() {
+        assertEquals(Set.of(BENSON, DANIEL), nameIndex.getStudentsWithWord("mEIER"));
+        assertEquals(Set.of(ALICE), nameIndex.getStudentsWithWord("alice"));
+    }
+
+    @Test
+    public void getStudentsWithWord_partOfWord_returnsEmptySet() {
+        assertTrue(nameIndex.getStudentsWithWord("Mei").isEmpty());
+    }
+
+    @Test
+    public void getStudentsWithWordContaining_partOfWord_returnsStudentsWithWord() {
+        assertEquals(Set.of(BENSON, DANIEL), nameIndex.getStudentsWithWordContaining("EI"));
+        assertEquals(Set.of(ALICE, CARL, DANIEL), nameIndex.getStudentsWithWordContaining("l"));
+        assertEquals(Set.of(ALICE), nameIndex.getStudentsWithWordContaining("pAULi"));
+        assertTrue(nameIndex.getStudentsWithWordContaining("son meier").isEmpty());
+
+        nameIndex.remove(BENSON);
+        assertEquals(Set.of(DANIEL), nameIndex.getStudentsWithWordContaining("meie"));
+    }
+
+    @Test
+    public void getStudentsWithWordSimilarTo_typo_returnsStudentsWithDistance() {
+        assertEquals(Map.of(BENSON, 1, DANIEL, 1), nameIndex.getStudentsWithWordSimilarTo("MEYER", 1));
+        assertEquals(Map.of(ALICE, 0), nameIndex.getStudentsWithWordSimilarTo("alice", 0));
+
+        nameIndex.remove(BENSON);
+        assertEquals(Map.of(DANIEL, 1), nameIndex.getStudentsWithWordSimilarTo("MEYER", 1));
+    }
+
+    @Test
+    public void remove_student_wordsRemoved() {
+        nameIndex.remove(BENSON);
+        assertEquals(Set.of(DANIEL), nameIndex.getStudentsWithWord("Meier"));
+        assertTrue(nameIndex.getStudentsWithWord("Benson").isEmpty());
+    }
+
+    @Test
+    public void setStudent_editedName_wordsReplaced() {
+        Student editedCarl = new StudentBuilder(CARL).withName("Carl Meier").build();
+        nameIndex.setStudent(CARL, editedCarl);
+        assertEquals(Set.of(BENSON, DANIEL, editedCarl), nameIndex.getStudentsWithWord("Meier"));
+        assertEquals(Set.of(editedCarl), nameIndex.getStudentsWithWord("Carl"));
+        assertTrue(nameIndex.getStudentsWithWord("Kurz").isEmpty());
+    }
+}
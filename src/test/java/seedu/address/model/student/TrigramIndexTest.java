@@ -0,0 +1,95 @@
+package seedu.address.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.StringUtil;
+
+public class TrigramIndexTest {
+
+    private TrigramIndex trigramIndex;
+
+    @BeforeEach
+    public void setUp() {
+        trigramIndex = new TrigramIndex();
+        List.of("alice", "alex", "alexa", "benson", "bernice", "carl", "daniel", "danielle").forEach(trigramIndex::add);
+    }
+
+    @Test
+    public void getWordsWithin_typo_returnsSimilarWords() {
+        assertEquals(Map.of("alice", 1), trigramIndex.getWordsWithin("alic", 1));
+        assertEquals(Map.of("alex", 1, "alexa", 0), trigramIndex.getWordsWithin("alexa", 1));
+        assertEquals(Map.of("daniel", 1, "danielle", 1), trigramIndex.getWordsWithin("daniell", 2));
+        assertEquals(Map.of("benson", 1), trigramIndex.getWordsWithin("bensin", 2));
+    }
+
+    @Test
+    public void getWordsContaining_partOfWord_returnsWordsContainingPart() {
+        assertEquals(Set.of("alice", "bernice"), trigramIndex.getWordsContaining("ice"));
+        assertEquals(Set.of("daniel", "danielle"), trigramIndex.getWordsContaining("aniel"));
+        assertEquals(Set.of("alex", "alexa", "danielle"), trigramIndex.getWordsContaining("le"));
+        assertEquals(Set.of("benson", "bernice"), trigramIndex.getWordsContaining("b"));
+        assertTrue(trigramIndex.getWordsContaining("xyz").isEmpty());
+        assertTrue(trigramIndex.getWordsContaining("l d").isEmpty());
+    }
+
+    @Test
+    public void getWordsWithin_zeroDistance_returnsSameWord() {
+        assertEquals(Map.of("carl", 0), trigramIndex.getWordsWithin("carl", 0));
+        assertTrue(trigramIndex.getWordsWithin("car", 0).isEmpty());
+    }
+
+    @Test
+    public void getWordsWithin_maxDistanceTooLarge_throwsIllegalArgumentException() {
+        // "ab" has 4 runs, all of which can be changed by 2 mistakes
+        assertEquals(1, TrigramIndex.getMaxDistanceSupported("ab"));
+        assertThrows(IllegalArgumentException.class, () -> trigramIndex.getWordsWithin("ab", 2));
+    }
+
+    @Test
+    public void remove_word_wordNotFound() {
+        trigramIndex.remove("alice");
+        assertTrue(trigramIndex.getWordsWithin("alic", 1).isEmpty());
+
+        // the id of the removed word is given to the next word
+        trigramIndex.add("alicia");
+        assertEquals(Map.of("alicia", 1), trigramIndex.getWordsWithin("alici", 1));
+    }
+
+    @Test
+    public void getWordsWithin_randomWords_sameAsComparingEveryWord() {
+        Random random = new Random(2103);
+        List<String> words = new ArrayList<>();
+        trigramIndex.clear();
+        for (int i = 0; i < 500; i++) {
+            StringBuilder word = new StringBuilder();
+            for (int j = 0; j < 3 + random.nextInt(5); j++) {
+                word.append("abcde".charAt(random.nextInt(5)));
+            }
+            words.add(word.toString());
+            trigramIndex.add(word.toString());
+        }
+        for (String query : List.of("abcde", "aaaa", "edcba", "cab", "deadbeef")) {
+            int maxDistance = Math.min(2, TrigramIndex.getMaxDistanceSupported(query));
+            Map<String, Integer> expected = new HashMap<>();
+            for (String word : words) {
+                int distance = StringUtil.getEditDistance(query, word, maxDistance);
+                if (distance <= maxDistance) {
+                    expected.put(word, distance);
+                }
+            }
+            assertEquals(expected, trigramIndex.getWordsWithin(query, maxDistance));
+        }
+    }
+}
@@ -6,14 +6,20 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
 import static seedu.address.testutil.TypicalStudents.BOB;
+import static seedu.address.testutil.TypicalStudents.CARL;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.student.exceptions.DuplicateStudentException;
 import seedu.address.model.student.exceptions.StudentNotFoundException;
 import seedu.address.testutil.StudentBuilder;
@@ -100,6 +106,31 @@ public class UniqueScheduleListTest {
         assertEquals(expectedUniqueScheduleList, uniqueScheduleList);
     }
 
+    @Test
+    public void setStudent_editedMiddleStudentHasSameIdentity_orderKept() {
+        uniqueScheduleList.setStudents(Arrays.asList(ALICE, BENSON, CARL));
+        Student editedBenson = new StudentBuilder(BENSON).withMark(true).build();
+        uniqueScheduleList.setStudent(BENSON, editedBenson);
+
+        List<Student> students = new ArrayList<>();
+        uniqueScheduleList.forEach(students::add);
+        assertEquals(Arrays.asList(ALICE, editedBenson, CARL), students);
+    }
+
+    @Test
+    public void setStudent_sameClassTimeAsAnother_scheduleOrderKept() {
+        Student first = studentWithClassToday(ALICE, 9);
+        Student second = studentWithClassToday(BENSON, 9);
+        uniqueScheduleList.setStudents(Arrays.asList(first, second));
+        Student markedFirst = new StudentBuilder(first).withMark(true).build();
+        uniqueScheduleList.setStudent(first, markedFirst);
+
+        // the schedule is rebuilt from every student, as when the date changes
+        UniqueScheduleList rebuiltScheduleList = new UniqueScheduleList();
+        rebuiltScheduleList.setStudents(uniqueScheduleList);
+        assertEquals(Arrays.asList(markedFirst, second), rebuiltScheduleList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setStudent_editedStudentHasNonUniqueIdentity_throwsDuplicateStudentException() {
         uniqueScheduleList.add(ALICE);
@@ -165,4 +196,60 @@ public class UniqueScheduleListTest {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniqueScheduleList.asUnmodifiableObservableList().remove(0));
     }
+
+    @Test
+    public void asUnmodifiableObservableList_studentsWithClassToday_sortedByClassTime() {
+        Student late = studentWithClassToday(ALICE, 15);
+        Student early = studentWithClassToday(BENSON, 9);
+        Student middle = studentWithClassToday(CARL, 12);
+        uniqueScheduleList.add(late);
+        uniqueScheduleList.add(BOB);
+        uniqueScheduleList.add(early);
+        uniqueScheduleList.add(middle);
+        assertEquals(Arrays.asList(early, middle, late), uniqueScheduleList.asUnmodifiableObservableList());
+
+        uniqueScheduleList.remove(middle);
+        assertEquals(Arrays.asList(early, late), uniqueScheduleList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setStudent_sameClassTime_replacesOnlyThatStudent() {
+        Student early = studentWithClassToday(ALICE, 9);
+        Student late = studentWithClassToday(BENSON, 15);
+        uniqueScheduleList.setStudents(Arrays.asList(early, late));
+
+        List<String> changes = new ArrayList<>();
+        uniqueScheduleList.asUnmodifiableObservableList().addListener((ListChangeListener<Student>) change -> {
+            while (change.next()) {
+                changes.add(change.wasReplaced() + " " + change.getFrom() + "-" + change.getTo());
+            }
+        });
+        Student markedLate = new StudentBuilder(late).withMark(true).build();
+        uniqueScheduleList.setStudent(late, markedLate);
+
+        assertEquals(Arrays.asList(early, markedLate), uniqueScheduleList.asUnmodifiableObservableList());
+        // a single replacement at index 1 instead of replacing the whole list
+        assertEquals(Collections.singletonList("true 1-2"), changes);
+    }
+
+    @Test
+    public void setStudent_differentClassTime_movesStudent() {
+        Student early = studentWithClassToday(ALICE, 9);
+        Student late = studentWithClassToday(BENSON, 15);
+        uniqueScheduleList.setStudents(Arrays.asList(early, late));
+
+        Student movedEarly = studentWithClassToday(early, 18);
+        uniqueScheduleList.setStudent(early, movedEarly);
+        assertEquals(Arrays.asList(late, movedEarly), uniqueScheduleList.asUnmodifiableObservableList());
+
+        uniqueScheduleList.setStudent(late, BOB);
+        assertEquals(Collections.singletonList(movedEarly), uniqueScheduleList.asUnmodifiableObservableList());
+    }
+
+    private Student studentWithClassToday(Student student, int startHour) {
+        Student studentWithClass = new StudentBuilder(student).build();
+        studentWithClass.setClass(new Class(LocalDate.now(), LocalTime.of(startHour, 0),
+                LocalTime.of(startHour + 1, 0)));
+        return studentWithClass;
+    }
 }
@@ -7,7 +7,10 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_INTERMEDIATE;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
 import static seedu.address.testutil.TypicalStudents.BOB;
+import static seedu.address.testutil.TypicalStudents.CARL;
+import static seedu.address.testutil.TypicalStudents.DANIEL;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -102,6 +105,23 @@ public class UniqueStudentListTest {
         assertEquals(expectedUniqueStudentList, uniqueStudentList);
     }
 
+    @Test
+    public void setStudent_editedStudentHasDifferentIdentity_updatesIdentityLookup() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.setStudent(ALICE, BOB);
+        assertFalse(uniqueStudentList.contains(ALICE));
+        assertTrue(uniqueStudentList.contains(BOB));
+        uniqueStudentList.add(ALICE);
+        assertTrue(uniqueStudentList.contains(ALICE));
+    }
+
+    @Test
+    public void setStudent_targetHasSameIdentityButDifferentFields_throwsStudentNotFoundException() {
+        uniqueStudentList.add(ALICE);
+        Student editedAlice = new StudentBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(StudentNotFoundException.class, () -> uniqueStudentList.setStudent(editedAlice, BOB));
+    }
+
     @Test
     public void setStudent_editedStudentHasNonUniqueIdentity_throwsDuplicateStudentException() {
         uniqueStudentList.add(ALICE);
@@ -125,6 +145,32 @@ public class UniqueStudentListTest {
         uniqueStudentList.remove(ALICE);
         UniqueStudentList expectedUniqueStudentList = new UniqueStudentList();
         assertEquals(expectedUniqueStudentList, uniqueStudentList);
+        assertFalse(uniqueStudentList.contains(ALICE));
+    }
+
+    @Test
+    public void remove_studentWithSameIdentityButDifferentFields_throwsStudentNotFoundException() {
+        uniqueStudentList.add(ALICE);
+        Student editedAlice = new StudentBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(StudentNotFoundException.class, () -> uniqueStudentList.remove(editedAlice));
+        assertTrue(uniqueStudentList.contains(ALICE));
+    }
+
+    @Test
+    public void remove_afterStudentsShifted_removesFromCorrectPositions() {
+        uniqueStudentList.setStudents(Arrays.asList(ALICE, BENSON, CARL));
+        assertEquals(1, uniqueStudentList.remove(BENSON));
+        uniqueStudentList.add(0, DANIEL);
+        uniqueStudentList.add(BOB);
+
+        Student editedCarl = new StudentBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+        uniqueStudentList.setStudent(CARL, editedCarl);
+        assertEquals(Arrays.asList(DANIEL, ALICE, editedCarl, BOB), uniqueStudentList.asUnmodifiableObservableList());
+
+        assertEquals(3, uniqueStudentList.remove(BOB));
+        assertEquals(0, uniqueStudentList.remove(DANIEL));
+        assertEquals(1, uniqueStudentList.remove(editedCarl));
+        assertEquals(Collections.singletonList(ALICE), uniqueStudentList.asUnmodifiableObservableList());
     }
 
     @Test
@@ -0,0 +1,94 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.analytics.RevenueEventStore;
+import seedu.address.model.analytics.RevenueEventStore.EventType;
+
+public class BinaryRevenueStorageTest {
+
+    private static final int RECORD_BYTES = 9;
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private BinaryRevenueStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("teachersPet.json.revenue");
+        storage = new BinaryRevenueStorage(filePath);
+    }
+
+    @Test
+    public void getRevenueFilePath_dataFilePath_returnsSiblingFile() {
+        assertEquals(Paths.get("data", "teachersPet.json.revenue"),
+                BinaryRevenueStorage.getRevenueFilePath(Paths.get("data", "teachersPet.json")));
+    }
+
+    @Test
+    public void readRevenueEvents_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readRevenueEvents().isPresent());
+    }
+
+    @Test
+    public void readRevenueEvents_notRevenueFile_throwsDataConversionException() throws Exception {
+        Files.writeString(filePath, "{\"students\":[]}");
+        assertThrows(DataConversionException.class, () -> storage.readRevenueEvents());
+    }
+
+    @Test
+    public void saveRevenueEvents_newEvents_appendedToFile() throws Exception {
+        RevenueEventStore events = new RevenueEventStore();
+        events.append(EventType.ATTENDANCE, false, 19000, 40);
+        storage.saveRevenueEvents(events);
+        long sizeAfterFirstSave = Files.size(filePath);
+
+        events.append(EventType.PAYMENT, false, 19001, 30);
+        events.append(EventType.ATTENDANCE, true, 19000, 40);
+        storage.saveRevenueEvents(events);
+        assertEquals(sizeAfterFirstSave + 2 * RECORD_BYTES, Files.size(filePath));
+        assertEventsEqual(events, new BinaryRevenueStorage(filePath).readRevenueEvents().get());
+    }
+
+    @Test
+    public void readRevenueEvents_partlyWrittenEvent_eventIgnored() throws Exception {
+        RevenueEventStore events = new RevenueEventStore();
+        events.append(EventType.PAYMENT, false, 19001, 30);
+        storage.saveRevenueEvents(events);
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length + RECORD_BYTES - 2));
+
+        BinaryRevenueStorage reopenedStorage = new BinaryRevenueStorage(filePath);
+        RevenueEventStore readBack = reopenedStorage.readRevenueEvents().get();
+        assertEventsEqual(events, readBack);
+
+        // the partly written event is dropped when the next event is saved
+        readBack.append(EventType.ATTENDANCE, false, 19002, 50);
+        reopenedStorage.saveRevenueEvents(readBack);
+        assertEventsEqual(readBack, new BinaryRevenueStorage(filePath).readRevenueEvents().get());
+    }
+
+    private static void assertEventsEqual(RevenueEventStore expected, RevenueEventStore actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.getType(i), actual.getType(i));
+            assertEquals(expected.isReversal(i), actual.isReversal(i));
+            assertEquals(expected.getEpochDay(i), actual.getEpochDay(i));
+            assertEquals(expected.getAmount(i), actual.getAmount(i));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.HOON;
+import static seedu.address.testutil.TypicalStudents.getTypicalTeachersPet;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.TeachersPet;
+
+public class BinaryTeachersPetStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonTeachersPetStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private BinaryTeachersPetStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("teachersPet.bin");
+        storage = new BinaryTeachersPetStorage(filePath);
+    }
+
+    @Test
+    public void readTeachersPet_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readTeachersPet().isPresent());
+    }
+
+    @Test
+    public void readAndSaveTeachersPet_allInOrder_success() throws Exception {
+        TeachersPet original = getTypicalTeachersPet();
+        storage.saveTeachersPet(original);
+        assertTrue(BinaryTeachersPetStorage.isBinaryFile(filePath));
+        assertEquals(original, new TeachersPet(storage.readTeachersPet().get()));
+
+        original.addStudent(HOON);
+        storage.saveTeachersPet(original);
+        assertEquals(original, new TeachersPet(storage.readTeachersPet().get()));
+    }
+
+    @Test
+    public void readTeachersPet_jsonFile_success() throws Exception {
+        TeachersPet original = getTypicalTeachersPet();
+        new JsonTeachersPetStorage(filePath).saveTeachersPet(original);
+        assertFalse(BinaryTeachersPetStorage.isBinaryFile(filePath));
+        assertEquals(original, new TeachersPet(storage.readTeachersPet().get()));
+    }
+
+    @Test
+    public void readTeachersPet_notJsonOrBinaryFormat_throwsDataConversionException() {
+        assertThrows(DataConversionException.class, () ->
+                storage.readTeachersPet(TEST_DATA_FOLDER.resolve("notJsonFormatTeachersPet.json")));
+    }
+
+    @Test
+    public void readTeachersPet_truncatedFile_throwsDataConversionException() throws Exception {
+        storage.saveTeachersPet(getTypicalTeachersPet());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+        assertThrows(DataConversionException.class, () -> storage.readTeachersPet());
+    }
+
+    @Test
+    public void readTeachersPet_unsupportedVersion_throwsDataConversionException() throws Exception {
+        storage.saveTeachersPet(getTypicalTeachersPet());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[BinarySerializableTeachersPet.MAGIC.length] = BinarySerializableTeachersPet.VERSION + 1;
+        Files.write(filePath, bytes);
+        assertThrows(DataConversionException.class, () -> storage.readTeachersPet());
+    }
+
+    @Test
+    public void saveTeachersPet_nullTeachersPet_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> storage.saveTeachersPet(null));
+    }
+}
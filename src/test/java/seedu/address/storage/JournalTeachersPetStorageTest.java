@@ -0,0 +1,266 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.HOON;
+import static seedu.address.testutil.TypicalStudents.IDA;
+import static seedu.address.testutil.TypicalStudents.getTypicalTeachersPet;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.EditCommand.EditStudentDescriptor;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.TeachersPet;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.EditStudentDescriptorBuilder;
+import seedu.address.testutil.StudentBuilder;
+
+public class JournalTeachersPetStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalFilePath;
+    private JournalTeachersPetStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("teachersPet.json");
+        journalFilePath = JournalTeachersPetStorage.getJournalFilePath(filePath);
+        storage = new JournalTeachersPetStorage(filePath);
+    }
+
+    @Test
+    public void readTeachersPet_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readTeachersPet().isPresent());
+    }
+
+    @Test
+    public void saveTeachersPet_changedStudents_appendsToJournal() throws Exception {
+        TeachersPet original = getTypicalTeachersPet();
+        storage.saveTeachersPet(original);
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        Student editedAlice = new StudentBuilder(ALICE).withAddress("Changed").build();
+        original.setStudent(ALICE, editedAlice);
+        original.removeStudent(BENSON);
+        original.addStudent(HOON);
+        storage.saveTeachersPet(original);
+
+        // the json file is kept and one record is appended per change, after the first line of the journal
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertEquals(4, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new TeachersPet(new JournalTeachersPetStorage(filePath).readTeachersPet().get()));
+    }
+
+    @Test
+    public void saveTeachersPet_appendedNotes_notesReloaded() throws Exception {
+        Model model = new ModelManager(getTypicalTeachersPet(), new UserPrefs());
+        model.setStudent(ALICE, new StudentBuilder(ALICE).withAdditionalNotes("hello").build());
+        storage.saveTeachersPet(model.getTeachersPet());
+
+        EditStudentDescriptor descriptor = new EditStudentDescriptorBuilder().withAppendedAdditionalNotes("world")
+                .build();
+        new EditCommand(INDEX_FIRST_STUDENT, descriptor).execute(model);
+        storage.saveTeachersPet(model.getTeachersPet());
+
+        TeachersPet reloaded = new TeachersPet(new JournalTeachersPetStorage(filePath).readTeachersPet().get());
+        assertEquals("hello world", reloaded.getStudentList().get(0).getAdditionalNotes().toString());
+        assertEquals(model.getTeachersPet(), reloaded);
+    }
+
+    @Test
+    public void saveTeachersPet_changedPhone_studentReplacedAtSamePosition() throws Exception {
+        TeachersPet original = getTypicalTeachersPet();
+        storage.saveTeachersPet(original);
+
+        original.setStudent(ALICE, new StudentBuilder(ALICE).withPhone(VALID_PHONE_AMY).build());
+        storage.saveTeachersPet(original);
+
+        // the student is removed and added again instead of the json file being rewritten
+        assertEquals(3, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new TeachersPet(new JournalTeachersPetStorage(filePath).readTeachersPet().get()));
+    }
+
+    @Test
+    public void saveTeachersPet_undoneDelete_studentAddedAtSamePosition() throws Exception {
+        Model model = new ModelManager(getTypicalTeachersPet(), new UserPrefs());
+        storage.saveTeachersPet(model.getTeachersPet());
+
+        model.deleteStudent(BENSON);
+        model.commitTeachersPet();
+        storage.saveTeachersPet(model.getTeachersPet());
+        model.undo();
+        storage.saveTeachersPet(model.getTeachersPet());
+
+        assertEquals(3, Files.readAllLines(journalFilePath).size());
+        assertEquals(model.getTeachersPet(),
+                new TeachersPet(new JournalTeachersPetStorage(filePath).readTeachersPet().get()));
+    }
+
+    @Test
+    public void saveTeachersPet_copyOfReadData_appendsToJournal() throws Exception {
+        storage.saveTeachersPet(getTypicalTeachersPet());
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        JournalTeachersPetStorage reopenedStorage = new JournalTeachersPetStorage(filePath);
+        Model model = new ModelManager(reopenedStorage.readTeachersPet().get(), new UserPrefs());
+        model.addStudent(HOON);
+        reopenedStorage.saveTeachersPet(model.getTeachersPet());
+
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+        assertEquals(model.getTeachersPet(),
+                new TeachersPet(new JournalTeachersPetStorage(filePath).readTeachersPet().get()));
+    }
+
+    @Test
+    public void saveTeachersPet_copyOfOtherData_rewritesJsonFile() throws Exception {
+        TeachersPet original = getTypicalTeachersPet();
+        storage.saveTeachersPet(original);
+        original.addStudent(HOON);
+
+        // the copy is not recognised as a later version of the saved data, as the data has changed since
+        storage.saveTeachersPet(new TeachersPet(original));
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new TeachersPet(new JsonTeachersPetStorage(filePath).readTeachersPet().get()));
+    }
+
+    @Test
+    public void readTeachersPet_recordsWithoutIndex_recordsApplied() throws Exception {
+        TeachersPet original = getTypicalTeachersPet();
+        storage.saveTeachersPet(original);
+        Files.writeString(journalFilePath, JsonUtil.toSingleLineJsonString(new JsonAdaptedJournalRecord(
+                JsonAdaptedJournalRecord.OPERATION_REMOVE, null, null, BENSON.getPhone().value, null)) + "\n"
+                + JsonUtil.toSingleLineJsonString(new JsonAdaptedJournalRecord(
+                JsonAdaptedJournalRecord.OPERATION_PUT, null, null, null, new JsonAdaptedStudent(HOON))) + "\n",
+                StandardOpenOption.APPEND);
+
+        original.removeStudent(BENSON);
+        original.addStudent(HOON);
+        assertEquals(original, new TeachersPet(new JournalTeachersPetStorage(filePath).readTeachersPet().get()));
+    }
+
+    @Test
+    public void readTeachersPet_recordAtWrongIndex_throwsDataConversionException() throws Exception {
+        storage.saveTeachersPet(getTypicalTeachersPet());
+        Files.writeString(journalFilePath, JsonUtil.toSingleLineJsonString(
+                JsonAdaptedJournalRecord.remove(0, BENSON.getPhone().value)) + "\n", StandardOpenOption.APPEND);
+        assertThrows(DataConversionException.class, () -> new JournalTeachersPetStorage(filePath).readTeachersPet());
+    }
+
+    @Test
+    public void saveTeachersPet_unchangedStudents_journalUnchanged() throws Exception {
+        TeachersPet original = getTypicalTeachersPet();
+        storage.saveTeachersPet(original);
+        storage.saveTeachersPet(original);
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+    }
+
+    @Test
+    public void saveTeachersPet_reorderedStudents_rewritesJsonFile() throws Exception {
+        TeachersPet original = getTypicalTeachersPet();
+        storage.saveTeachersPet(original);
+        original.addStudent(HOON);
+        storage.saveTeachersPet(original);
+
+        original.resetStudents(List.of(HOON, ALICE, BENSON));
+        storage.saveTeachersPet(original);
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new TeachersPet(new JsonTeachersPetStorage(filePath).readTeachersPet().get()));
+    }
+
+    @Test
+    public void saveTeachersPet_manyChanges_rewritesJsonFile() throws Exception {
+        TeachersPet original = new TeachersPet();
+        original.addStudent(ALICE);
+        storage.saveTeachersPet(original);
+        Student student = ALICE;
+        for (int i = 0; i <= JournalTeachersPetStorage.MIN_COMPACTION_THRESHOLD; i++) {
+            Student editedStudent = new StudentBuilder(student).withAddress("Block " + i).build();
+            original.setStudent(student, editedStudent);
+            student = editedStudent;
+            storage.saveTeachersPet(original);
+        }
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new TeachersPet(new JsonTeachersPetStorage(filePath).readTeachersPet().get()));
+    }
+
+    @Test
+    public void flush_journalWithRecords_rewritesJsonFile() throws Exception {
+        TeachersPet original = getTypicalTeachersPet();
+        storage.saveTeachersPet(original);
+        original.addStudent(IDA);
+        storage.saveTeachersPet(original);
+
+        storage.flush();
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new TeachersPet(new JsonTeachersPetStorage(filePath).readTeachersPet().get()));
+    }
+
+    @Test
+    public void readTeachersPet_journalOfOlderJsonFile_journalIgnored() throws Exception {
+        TeachersPet original = getTypicalTeachersPet();
+        storage.saveTeachersPet(original);
+        original.addStudent(HOON);
+        storage.saveTeachersPet(original);
+
+        TeachersPet replacement = new TeachersPet();
+        replacement.addStudent(IDA);
+        new JsonTeachersPetStorage(filePath).saveTeachersPet(replacement);
+        assertEquals(replacement, new TeachersPet(new JournalTeachersPetStorage(filePath).readTeachersPet().get()));
+    }
+
+    @Test
+    public void readTeachersPet_partlyWrittenRecord_recordIgnored() throws Exception {
+        TeachersPet original = getTypicalTeachersPet();
+        storage.saveTeachersPet(original);
+        TeachersPet expected = new TeachersPet(original);
+        original.addStudent(HOON);
+        storage.saveTeachersPet(original);
+
+        String journal = FileUtil.readFromFile(journalFilePath);
+        FileUtil.writeToFile(journalFilePath, journal.substring(0, journal.length() - 10));
+        JournalTeachersPetStorage reopenedStorage = new JournalTeachersPetStorage(filePath);
+        assertEquals(expected, new TeachersPet(reopenedStorage.readTeachersPet().get()));
+
+        // the journal is started again on the next save
+        reopenedStorage.saveTeachersPet(original);
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+    }
+
+    @Test
+    public void readTeachersPet_invalidRecord_throwsDataConversionException() throws Exception {
+        storage.saveTeachersPet(getTypicalTeachersPet());
+        Files.writeString(journalFilePath, "{\"operation\":\"unknown\"}\n", StandardOpenOption.APPEND);
+        assertThrows(DataConversionException.class, () -> new JournalTeachersPetStorage(filePath).readTeachersPet());
+    }
+
+    @Test
+    public void saveTeachersPet_otherFilePath_writesJsonFileOnly() throws Exception {
+        Path otherFilePath = testFolder.resolve("other.json");
+        TeachersPet original = getTypicalTeachersPet();
+        storage.saveTeachersPet(original, otherFilePath);
+        assertFalse(Files.exists(JournalTeachersPetStorage.getJournalFilePath(otherFilePath)));
+        assertEquals(original, new TeachersPet(storage.readTeachersPet(otherFilePath).get()));
+    }
+}
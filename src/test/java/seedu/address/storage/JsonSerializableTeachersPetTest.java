@@ -1,8 +1,15 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -21,6 +28,8 @@ public class JsonSerializableTeachersPetTest {
     private static final Path INVALID_STUDENT_FILE = TEST_DATA_FOLDER.resolve("invalidStudentTeachersPet.json");
     private static final Path DUPLICATE_STUDENT_FILE =
             TEST_DATA_FOLDER.resolve("duplicateStudentTeachersPet.json");
+    private static final Path CLASS_CONFLICT_FILE = TEST_DATA_FOLDER.resolve("classConflictTeachersPet.json");
+    private static final Path ANOTHER_STUDENTS_FILE = TEST_DATA_FOLDER.resolve("anotherStudentsTeachersPet.json");
 
     @Test
     public void toModelType_typicalStudentsFile_success() throws Exception {
@@ -42,8 +51,67 @@ public class JsonSerializableTeachersPetTest {
     public void toModelType_duplicateStudents_throwsIllegalValueException() throws Exception {
         JsonSerializableTeachersPet dataFromFile = JsonUtil.readJsonFile(DUPLICATE_STUDENT_FILE,
                 JsonSerializableTeachersPet.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableTeachersPet.MESSAGE_DUPLICATE_STUDENT,
-                dataFromFile::toModelType);
+        assertThrows(IllegalValueException.class, JsonSerializableTeachersPet.MESSAGE_DUPLICATE_STUDENT
+                + "\nStudents 1 and 2 have the same phone number 94351253", dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_classConflict_throwsIllegalValueException() throws Exception {
+        JsonSerializableTeachersPet dataFromFile = JsonUtil.readJsonFile(CLASS_CONFLICT_FILE,
+                JsonSerializableTeachersPet.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableTeachersPet.MESSAGE_CLASS_CONFLICT
+                + "\nBernice Yu currently has a class on 05 May 2022 11AM-12PM.", dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_backToBackClasses_success() throws Exception {
+        JsonSerializableTeachersPet dataFromFile = JsonUtil.readJsonFile(ANOTHER_STUDENTS_FILE,
+                JsonSerializableTeachersPet.class).get();
+        assertEquals(2, dataFromFile.toModelType().getStudentList().size());
+    }
+
+    @Test
+    public void readFrom_typicalStudentsFile_success() throws Exception {
+        try (InputStream in = Files.newInputStream(TYPICAL_STUDENTS_FILE)) {
+            assertEquals(TypicalStudents.getTypicalTeachersPet(), JsonSerializableTeachersPet.readFrom(in));
+        }
+    }
+
+    @Test
+    public void readFrom_duplicateStudents_throwsIllegalValueException() throws Exception {
+        try (InputStream in = Files.newInputStream(DUPLICATE_STUDENT_FILE)) {
+            assertThrows(IllegalValueException.class, JsonSerializableTeachersPet.MESSAGE_DUPLICATE_STUDENT
+                    + "\nStudents 1 and 2 have the same phone number 94351253", () ->
+                    JsonSerializableTeachersPet.readFrom(in));
+        }
+    }
+
+    @Test
+    public void readFrom_incompleteJson_throwsIoException() throws Exception {
+        String json = JsonUtil.toJsonString(new JsonSerializableTeachersPet(TypicalStudents.getTypicalTeachersPet()));
+        byte[] truncatedJson = json.substring(0, json.length() / 2).getBytes(StandardCharsets.UTF_8);
+        assertThrows(IOException.class, () ->
+                JsonSerializableTeachersPet.readFrom(new ByteArrayInputStream(truncatedJson)));
+        assertThrows(IOException.class, () ->
+                JsonSerializableTeachersPet.readFrom(new ByteArrayInputStream(new byte[0])));
+    }
+
+    @Test
+    public void writeTo_pretty_sameAsToJsonString() throws Exception {
+        TeachersPet teachersPet = TypicalStudents.getTypicalTeachersPet();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonSerializableTeachersPet.writeTo(teachersPet, out, true);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableTeachersPet(teachersPet)),
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void writeTo_compact_readBackSuccessfully() throws Exception {
+        TeachersPet teachersPet = TypicalStudents.getTypicalTeachersPet();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonSerializableTeachersPet.writeTo(teachersPet, out, false);
+        assertFalse(out.toString(StandardCharsets.UTF_8).contains("\n"));
+        assertEquals(teachersPet, JsonSerializableTeachersPet.readFrom(new ByteArrayInputStream(out.toByteArray())));
     }
 
 }
@@ -9,6 +9,7 @@ import static seedu.address.testutil.TypicalStudents.IDA;
 import static seedu.address.testutil.TypicalStudents.getTypicalTeachersPet;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -86,6 +87,17 @@ public class JsonTeachersPetStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveTeachersPet_compact_success() throws Exception {
+        Path filePath = testFolder.resolve("TempTeachersPet.json");
+        TeachersPet original = getTypicalTeachersPet();
+        JsonTeachersPetStorage jsonTeachersPetStorage = new JsonTeachersPetStorage(filePath, true);
+
+        jsonTeachersPetStorage.saveTeachersPet(original);
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(original, new TeachersPet(jsonTeachersPetStorage.readTeachersPet().get()));
+    }
+
     @Test
     public void saveTeachersPet_nullTeachersPet_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveTeachersPet(null, "SomeFile.json"));
@@ -0,0 +1,111 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Phone;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
+
+public class ParallelStudentConverterTest {
+
+    private static final String INVALID_NAME = "R@chel";
+
+    private static final String INVALID_PHONE = "12345678";
+
+    private static JsonAdaptedStudent withName(Student student, String name) {
+        return createAdaptedStudent(student, name, student.getPhone().value);
+    }
+
+    private static JsonAdaptedStudent createAdaptedStudent(Student student, String name, String phone) {
+        return new JsonAdaptedStudent(name, phone, student.getNokPhone().value,
+                student.getEmail().value, student.getAddress().value, student.getAClass().classDateTime,
+                student.getMoneyOwed().value, student.getMoneyPaid().value, student.getRatesPerClass().value,
+                student.getAdditionalNotes().toString(),
+                student.getTags().stream().map(JsonAdaptedTag::new).collect(Collectors.toList()),
+                student.getMarkStatus().isMarked());
+    }
+
+    private static List<Student> createStudents(int count) {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            students.add(new StudentBuilder(ALICE).withPhone(String.valueOf(90000000 + i)).build());
+        }
+        return students;
+    }
+
+    @Test
+    public void getStudents_manyValidStudents_sameOrder() throws Exception {
+        List<Student> students = createStudents(1000);
+        ParallelStudentConverter converter = new ParallelStudentConverter();
+        converter.convert(students.subList(0, 600).stream().map(JsonAdaptedStudent::new).collect(Collectors.toList()));
+        converter.convert(400, i -> new JsonAdaptedStudent(students.get(600 + i)));
+        assertEquals(students, converter.getStudents());
+    }
+
+    @Test
+    public void getStudents_invalidStudents_reportsAllPositions() {
+        ParallelStudentConverter converter = new ParallelStudentConverter();
+        converter.convert(List.of(new JsonAdaptedStudent(ALICE), withName(BENSON, INVALID_NAME)));
+        converter.convert(List.of(createAdaptedStudent(BENSON, BENSON.getName().fullName, INVALID_PHONE)));
+
+        String expectedMessage = String.format(ParallelStudentConverter.MESSAGE_INVALID_STUDENTS, 2) + "\n"
+                + String.format(ParallelStudentConverter.MESSAGE_INVALID_STUDENT, 2, Name.MESSAGE_CONSTRAINTS) + "\n"
+                + String.format(ParallelStudentConverter.MESSAGE_INVALID_STUDENT, 3, Phone.MESSAGE_CONSTRAINTS);
+        assertThrows(IllegalValueException.class, expectedMessage,
+                converter::getStudents);
+    }
+
+    @Test
+    public void getStudents_runtimeExceptions_reportedWithOtherErrors() {
+        List<Student> students = createStudents(300);
+        ParallelStudentConverter converter = new ParallelStudentConverter();
+        converter.convert(students.size(), i -> {
+            if (i == 100) {
+                throw new DateTimeException("Invalid date");
+            } else if (i == 200) {
+                throw new IllegalStateException();
+            }
+            return i == 150 ? withName(students.get(i), INVALID_NAME) : new JsonAdaptedStudent(students.get(i));
+        });
+
+        String expectedMessage = String.format(ParallelStudentConverter.MESSAGE_INVALID_STUDENTS, 3) + "\n"
+                + String.format(ParallelStudentConverter.MESSAGE_INVALID_STUDENT, 101, "Invalid date") + "\n"
+                + String.format(ParallelStudentConverter.MESSAGE_INVALID_STUDENT, 151, Name.MESSAGE_CONSTRAINTS) + "\n"
+                + String.format(ParallelStudentConverter.MESSAGE_INVALID_STUDENT, 201,
+                        IllegalStateException.class.getName());
+        assertThrows(IllegalValueException.class, expectedMessage,
+                converter::getStudents);
+    }
+
+    @Test
+    public void getStudents_tooManyInvalidStudents_reportsFirstFew() {
+        int invalidCount = ParallelStudentConverter.MAX_REPORTED_ERRORS + 5;
+        List<JsonAdaptedStudent> adaptedStudents = createStudents(invalidCount).stream()
+                .map(student -> withName(student, INVALID_NAME))
+                .collect(Collectors.toList());
+        ParallelStudentConverter converter = new ParallelStudentConverter();
+        converter.convert(adaptedStudents);
+
+        StringBuilder expectedMessage = new StringBuilder(
+                String.format(ParallelStudentConverter.MESSAGE_INVALID_STUDENTS, invalidCount));
+        for (int i = 1; i <= ParallelStudentConverter.MAX_REPORTED_ERRORS; i++) {
+            expectedMessage.append("\n").append(
+                    String.format(ParallelStudentConverter.MESSAGE_INVALID_STUDENT, i, Name.MESSAGE_CONSTRAINTS));
+        }
+        expectedMessage.append("\n").append(String.format(ParallelStudentConverter.MESSAGE_MORE_INVALID_STUDENTS, 5));
+        assertThrows(IllegalValueException.class, expectedMessage.toString(),
+                converter::getStudents);
+    }
+}
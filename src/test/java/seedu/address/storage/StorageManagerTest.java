@@ -2,9 +2,15 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
 import static seedu.address.testutil.TypicalStudents.getTypicalTeachersPet;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +20,8 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.ReadOnlyTeachersPet;
 import seedu.address.model.TeachersPet;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.analytics.RevenueEventStore;
+import seedu.address.model.analytics.RevenueEventStore.EventType;
 
 public class StorageManagerTest {
 
@@ -60,6 +68,91 @@ public class StorageManagerTest {
         assertEquals(original, new TeachersPet(retrieved));
     }
 
+    @Test
+    public void teachersPetReadSave_writeBehind() throws Exception {
+        storageManager = new StorageManager(new JsonTeachersPetStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        TeachersPet original = getTypicalTeachersPet();
+        storageManager.saveTeachersPet(original);
+
+        // changes made after saving are not written
+        TeachersPet expected = new TeachersPet(original);
+        original.removeStudent(ALICE);
+        storageManager.flush();
+        assertEquals(expected, new TeachersPet(storageManager.readTeachersPet().get()));
+
+        List<String> saves = new ArrayList<>();
+        storageManager.saveTeachersPet(original, () -> saves.add("saved"));
+        storageManager.flush();
+        assertEquals(original, new TeachersPet(storageManager.readTeachersPet().get()));
+        assertEquals(List.of("saved"), saves);
+    }
+
+    @Test
+    public void saveTeachersPet_writeBehindFailure_reportsFailure() throws Exception {
+        IOException dummyException = new IOException("dummy exception");
+        JsonTeachersPetStorage failingStorage = new JsonTeachersPetStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveTeachersPet(ReadOnlyTeachersPet teachersPet, Path filePath) throws IOException {
+                throw dummyException;
+            }
+        };
+        storageManager = new StorageManager(failingStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                true);
+        List<IOException> failures = new ArrayList<>();
+        storageManager.setSaveFailureHandler(failures::add);
+
+        List<String> saves = new ArrayList<>();
+        storageManager.saveTeachersPet(getTypicalTeachersPet(), () -> saves.add("saved"));
+        assertThrows(IOException.class, dummyException.getMessage(), () -> storageManager.flush());
+        assertEquals(List.of(dummyException), failures);
+        assertEquals(List.of(), saves);
+    }
+
+    @Test
+    public void revenueEventsReadSave() throws Exception {
+        RevenueEventStore events = new RevenueEventStore();
+        events.append(EventType.PAYMENT, false, 19000, 30);
+        storageManager.saveRevenueEvents(events);
+        RevenueEventStore retrieved = storageManager.readRevenueEvents().get();
+        assertEquals(1, retrieved.size());
+        assertEquals(30, retrieved.getAmount(0));
+        assertEquals(BinaryRevenueStorage.getRevenueFilePath(storageManager.getTeachersPetFilePath()),
+                storageManager.getRevenueFilePath());
+    }
+
+    @Test
+    public void saveRevenueEvents_writeBehind_laterEventsNotWritten() throws Exception {
+        storageManager = new StorageManager(new JsonTeachersPetStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        RevenueEventStore events = new RevenueEventStore();
+        events.append(EventType.PAYMENT, false, 19000, 30);
+        storageManager.saveRevenueEvents(events);
+        events.append(EventType.ATTENDANCE, false, 19001, 40);
+        storageManager.flush();
+        assertEquals(1, storageManager.readRevenueEvents().get().size());
+
+        storageManager.saveRevenueEvents(events);
+        storageManager.flush();
+        assertEquals(2, storageManager.readRevenueEvents().get().size());
+    }
+
+    @Test
+    public void saveRevenueEvents_writeBehindFailure_reportsFailure() throws Exception {
+        storageManager = new StorageManager(new JsonTeachersPetStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        // a directory in place of the revenue file cannot be written to
+        Files.createDirectories(storageManager.getRevenueFilePath());
+        List<IOException> failures = new ArrayList<>();
+        storageManager.setRevenueSaveFailureHandler(failures::add);
+
+        RevenueEventStore events = new RevenueEventStore();
+        events.append(EventType.PAYMENT, false, 19000, 30);
+        storageManager.saveRevenueEvents(events);
+        assertThrows(IOException.class, () -> storageManager.flush());
+        assertEquals(1, failures.size());
+    }
+
     @Test
     public void getTeachersPetFilePath() {
         assertNotNull(storageManager.getTeachersPetFilePath());
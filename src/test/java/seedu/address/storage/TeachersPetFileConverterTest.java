@@ -0,0 +1,51 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.getTypicalTeachersPet;
+
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.TeachersPet;
+
+public class TeachersPetFileConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void jsonToBinaryToJson_typicalStudents_sameFile() throws Exception {
+        Path jsonFilePath = testFolder.resolve("teachersPet.json");
+        Path binaryFilePath = testFolder.resolve("teachersPet.bin");
+        Path convertedFilePath = testFolder.resolve("converted.json");
+        TeachersPet original = getTypicalTeachersPet();
+        new JsonTeachersPetStorage(jsonFilePath).saveTeachersPet(original);
+
+        TeachersPetFileConverter.jsonToBinary(jsonFilePath, binaryFilePath);
+        assertTrue(BinaryTeachersPetStorage.isBinaryFile(binaryFilePath));
+        TeachersPetFileConverter.binaryToJson(binaryFilePath, convertedFilePath);
+        assertEquals(FileUtil.readFromFile(jsonFilePath), FileUtil.readFromFile(convertedFilePath));
+    }
+
+    @Test
+    public void binaryToJson_samePath_success() throws Exception {
+        Path filePath = testFolder.resolve("teachersPet.json");
+        TeachersPet original = getTypicalTeachersPet();
+        new BinaryTeachersPetStorage(filePath).saveTeachersPet(original);
+
+        TeachersPetFileConverter.binaryToJson(filePath, filePath);
+        assertEquals(original, new TeachersPet(new JsonTeachersPetStorage(filePath).readTeachersPet().get()));
+    }
+
+    @Test
+    public void jsonToBinary_missingFile_throwsNoSuchFileException() {
+        assertThrows(NoSuchFileException.class, () -> TeachersPetFileConverter.jsonToBinary(
+                testFolder.resolve("missing.json"), testFolder.resolve("teachersPet.bin")));
+    }
+}
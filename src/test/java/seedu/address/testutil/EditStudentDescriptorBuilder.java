@@ -136,6 +136,14 @@ public class EditStudentDescriptorBuilder {
         return this;
     }
 
+    /**
+     * Sets the appended {@code AdditionalNotes} of the {@code EditStudentDescriptor} that we are building.
+     */
+    public EditStudentDescriptorBuilder withAppendedAdditionalNotes(String appendedAdditionalNotes) {
+        descriptor.setAppendedAdditionalNotes(new AdditionalNotes(appendedAdditionalNotes));
+        return this;
+    }
+
     /**
      * Parses the {@code tags} into a {@code Set<Tag>} and set it to the {@code EditStudentDescriptor}
      * that we are building.